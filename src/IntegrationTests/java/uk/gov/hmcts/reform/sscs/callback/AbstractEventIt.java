@@ -56,6 +56,9 @@ public abstract class AbstractEventIt {
     @Autowired
     protected SscsCaseCallbackDeserializer deserializer;
 
+    @Autowired
+    protected SscsCaseCallbackStreamDeserializer streamDeserializer;
+
     @Autowired
     protected PreSubmitCallbackDispatcher dispatcher;
 
@@ -27,7 +27,10 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Before;
@@ -107,7 +110,8 @@ public class ActionHearingRecordingIt extends AbstractEventIt {
 
 
         setJson(sscsCaseData, ACTION_HEARING_RECORDING_REQUEST);
-        given(footerService.isReadablePdf(any())).willReturn(PdfState.OK);
+        given(footerService.isReadablePdfs(any())).willAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                .collect(Collectors.toMap(Function.identity(), documentUrl -> PdfState.OK, (a, b) -> a)));
     }
 
 
@@ -68,7 +68,7 @@ public class ProcessAudioVideoIt extends AbstractEventIt {
 
         when(userDetailsService.buildLoggedInUserName(any())).thenReturn("Logged in user");
 
-        CcdCallbackController controller = new CcdCallbackController(authorisationService, deserializer, dispatcher);
+        CcdCallbackController controller = new CcdCallbackController(authorisationService, streamDeserializer, dispatcher);
         this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
         mapper.findAndRegisterModules();
 
@@ -16,8 +16,11 @@ import static uk.gov.hmcts.reform.sscs.ccd.presubmit.uploaddocuments.DocumentTyp
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Before;
@@ -104,7 +107,8 @@ public class UploadDocumentFurtherEvidenceIt extends AbstractEventIt {
 
 
         setJson(sscsCaseData, UPLOAD_DOCUMENT_FURTHER_EVIDENCE);
-        given(footerService.isReadablePdf(any())).willReturn(PdfState.OK);
+        given(footerService.isReadablePdfs(any())).willAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                .collect(Collectors.toMap(Function.identity(), documentUrl -> PdfState.OK, (a, b) -> a)));
     }
 
     @Test
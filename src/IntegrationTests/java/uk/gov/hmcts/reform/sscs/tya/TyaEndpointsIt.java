@@ -1,24 +1,29 @@
 package uk.gov.hmcts.reform.sscs.tya;
 
 import static net.javacrumbs.jsonunit.JsonAssert.assertJsonEquals;
-import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.reform.sscs.util.SerializeJsonMessageManager.DWP_RESPOND_OVERDUE_CASE_ID;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -61,6 +66,9 @@ public class TyaEndpointsIt {
     @MockitoBean
     DocumentDownloadClientApi documentDownloadClientApi;
 
+    @MockitoBean(name = "documentStreamingHttpClient")
+    CloseableHttpClient documentStreamingHttpClient;
+
     @MockitoBean
     AuthTokenGenerator authTokenGenerator;
 
@@ -97,15 +105,21 @@ public class TyaEndpointsIt {
     @Test
     public void shouldReturnTheDocumentGivenADmStoreUrl() throws Exception {
         when(authTokenGenerator.generate()).thenReturn(AUTH_TOKEN);
-        when(documentDownloadClientApi.downloadBinary("oauth2Token", AUTH_TOKEN,"caseworker,citizen","sscs", URL))
-                .thenReturn(ResponseEntity.of(Optional.of(new ByteArrayResource(PDF.getBytes()))));
+        BasicClassicHttpResponse upstream = new BasicClassicHttpResponse(200);
+        upstream.setEntity(new ByteArrayEntity(PDF.getBytes(), ContentType.create(APPLICATION_PDF_VALUE)));
+        when(documentStreamingHttpClient.executeOpen(isNull(),
+            argThat(request -> request.getRequestUri().equals(URL)
+                && AUTH_TOKEN.equals(request.getFirstHeader("ServiceAuthorization").getValue())), isNull()))
+            .thenReturn(upstream);
 
         MvcResult mvcResult = mockMvc.perform(get("/document?url=" + DOC_ID)
                         .header("ServiceAuthorization", AUTH_TOKEN))
-                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
                 .andReturn();
 
-        assertThat(mvcResult.getResponse().getContentAsString(), is(PDF));
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(PDF.getBytes()));
     }
 
 }
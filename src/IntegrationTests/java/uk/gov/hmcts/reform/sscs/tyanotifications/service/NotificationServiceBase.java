@@ -3,6 +3,8 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.APPEAL_RECEIVED;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import junitparams.JUnitParamsRunner;
@@ -84,6 +86,8 @@ public class NotificationServiceBase {
 
     @MockitoSpyBean
     private NotificationHandler notificationHandler;
+    private final NotificationDispatcher notificationDispatcher = new NotificationDispatcher(
+        MoreExecutors.newDirectExecutorService(), 1000, 1000, 1000, new SimpleMeterRegistry());
 
     @Mock
     private NotificationSender notificationSender;
@@ -131,7 +135,7 @@ public class NotificationServiceBase {
         SendNotificationService sendNotificationService = new SendNotificationService(notificationSender,
             notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         return new NotificationService(notificationFactory, reminderService, notificationValidService,
-            notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, false
+            notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, false, notificationDispatcher
         );
     }
 
@@ -12,6 +12,8 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMa
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.NAME;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.REPRESENTATIVE_NAME;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -47,6 +49,7 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationTestRecipien
 import uk.gov.hmcts.reform.sscs.tyanotifications.controller.NotificationController;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationFactory;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.MarkdownTransformationService;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationDispatcher;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationHandler;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationSender;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationService;
@@ -109,6 +112,8 @@ public class NotificationsItBase {
 
     @Autowired
     private NotificationHandler notificationHandler;
+    private final NotificationDispatcher notificationDispatcher = new NotificationDispatcher(
+        MoreExecutors.newDirectExecutorService(), 1000, 1000, 1000, new SimpleMeterRegistry());
 
     @MockitoBean
     private OutOfHoursCalculator outOfHoursCalculator;
@@ -186,7 +191,7 @@ public class NotificationsItBase {
     }
 
     private void setupNotificationService(SendNotificationService sendNotificationService) {
-        service = new NotificationService(factory, reminderService, notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true);
+        service = new NotificationService(factory, reminderService, notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher);
     }
 
     protected NotificationService getNotificationService() {
@@ -7,6 +7,8 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.helper.IntegrationTestHe
 import static uk.gov.hmcts.reform.sscs.tyanotifications.helper.IntegrationTestHelper.getRequestWithAuthHeader;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.helper.IntegrationTestHelper.updateEmbeddedJson;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
@@ -51,6 +53,7 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.controller.NotificationControll
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationFactory;
 import uk.gov.hmcts.reform.sscs.tyanotifications.helper.IntegrationTestHelper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.MarkdownTransformationService;
+import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationDispatcher;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationHandler;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationSender;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationService;
@@ -120,6 +123,8 @@ public class OutOfHoursIt {
 
     @Autowired
     private NotificationHandler notificationHandler;
+    private final NotificationDispatcher notificationDispatcher = new NotificationDispatcher(
+        MoreExecutors.newDirectExecutorService(), 1000, 1000, 1000, new SimpleMeterRegistry());
 
     @MockitoBean
     private OutOfHoursCalculator outOfHoursCalculator;
@@ -159,11 +164,11 @@ public class OutOfHoursIt {
         when(outOfHoursCalculator.getStartOfNextInHoursPeriod()).thenReturn(zoned);
         when(outOfHoursCalculator.isItOutOfHours()).thenReturn(true);
 
-        notificationHandler = new NotificationHandler(outOfHoursCalculator, jobScheduler, jobGroupGenerator);
+        notificationHandler = new NotificationHandler(outOfHoursCalculator, jobScheduler, jobGroupGenerator, notificationDispatcher);
 
         NotificationSender sender = new NotificationSender(notificationClient, null, bulkPrintService, notificationTestRecipients, markdownTransformationService, saveCorrespondenceAsyncService, false);
         SendNotificationService sendNotificationService = new SendNotificationService(sender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
-        NotificationService service = new NotificationService(factory, reminderService, notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, false);
+        NotificationService service = new NotificationService(factory, reminderService, notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, false, notificationDispatcher);
         controller = new NotificationController(service, authorisationService, ccdService, deserializer, idamService);
         this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
         String path = getClass().getClassLoader().getResource("json/ccdResponse.json").getFile();
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.sscs.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.reform.sscs.bulkscan.service.FuzzyMatcherService;
+
+/**
+ * Matches a batch of OCR'd benefit types as the bulk scan transformer does. {@code firstSight} uses a new service
+ * each invocation, so every value not matched exactly goes through a fuzzy search; {@code seenBefore} reuses one, as
+ * a running service does for the values that keep coming up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BenefitTypeMatchingBenchmark {
+
+    private static final List<String> OCR_VALUES = List.of(
+        "PIP", "P.I.P", "Personal Independance Paymnt", "ESA", "Employment Suport Alowance", "Universal Credit",
+        "Univers Credit", "DLA", "Disabilty Livng Allowance", "Attendence Allowance", "Carers Allowence",
+        "Jobseeker's Allowance (JSA)", "Incme Support", "Socal Fund", "Maternaty Allowance", "Bereavment Benefit",
+        "Bereavement Support Payment", "Industrial Injuries", "retiremen pension", "Pension Credits", "Tax Credits",
+        "Housing Benefit", "Child Support", "see attached", "N/A"
+    );
+
+    private FuzzyMatcherService seenBefore;
+    private FuzzyMatcherService firstSight;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        seenBefore = new FuzzyMatcherService();
+        OCR_VALUES.forEach(value -> seenBefore.matchBenefitType("1", value));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        firstSight = new FuzzyMatcherService();
+    }
+
+    @Benchmark
+    public void seenBefore(Blackhole blackhole) {
+        for (String value : OCR_VALUES) {
+            blackhole.consume(seenBefore.matchBenefitType("1", value));
+        }
+    }
+
+    @Benchmark
+    public void firstSight(Blackhole blackhole) {
+        for (String value : OCR_VALUES) {
+            blackhole.consume(firstSight.matchBenefitType("1", value));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.sscs.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * Compares the previous {@code @RequestBody String} callback path with streaming the request body into Jackson, on a
+ * 5 MB callback. Sample time mode reports the p99 latency, and the gc profiler configured in build.gradle reports
+ * the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CallbackDeserialisationBenchmark {
+
+    private byte[] body;
+    private SscsCaseCallbackDeserializer stringDeserializer;
+    private SscsCaseCallbackStreamDeserializer streamDeserializer;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = LargeCallbackFixture.callbackMapper();
+        body = LargeCallbackFixture.callbackOfSize(LargeCallbackFixture.FIVE_MEGABYTES);
+        stringDeserializer = new SscsCaseCallbackDeserializer(mapper);
+        streamDeserializer = new SscsCaseCallbackStreamDeserializer(mapper);
+    }
+
+    @Benchmark
+    public Callback<SscsCaseData> stringBody() {
+        // Spring decodes the whole body into a String before the controller parses it
+        return stringDeserializer.deserialize(new String(body, UTF_8));
+    }
+
+    @Benchmark
+    public Callback<SscsCaseData> streamedBody() {
+        return streamDeserializer.deserialize(new ByteArrayInputStream(body));
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.sscs.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseDetails;
+
+/**
+ * Compares how a reminder job used to get sorted case data from the case loaded from CCD, by writing it out as a
+ * callback and reading it back in, with sorting the loaded case data in place. Uses a 5 MB case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CaseRehydrationBenchmark {
+
+    private static final TypeReference<Callback<SscsCaseData>> CALLBACK_TYPE = new TypeReference<>() {};
+
+    private ObjectMapper mapper;
+    private byte[] body;
+    private SscsCaseCallbackDeserializer deserializer;
+    private SscsCaseDetails caseDetails;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        mapper = LargeCallbackFixture.callbackMapper();
+        body = LargeCallbackFixture.callbackOfSize(LargeCallbackFixture.FIVE_MEGABYTES);
+        deserializer = new SscsCaseCallbackDeserializer(mapper);
+    }
+
+    /**
+     * Each invocation gets a freshly read, unsorted case, as a job does from CCD.
+     */
+    @Setup(Level.Invocation)
+    public void loadCase() throws Exception {
+        Callback<SscsCaseData> callback = mapper.readValue(body, CALLBACK_TYPE);
+        caseDetails = SscsCaseDetails.builder()
+            .id(callback.getCaseDetails().getId())
+            .jurisdiction(callback.getCaseDetails().getJurisdiction())
+            .caseTypeId(callback.getCaseDetails().getCaseTypeId())
+            .state(callback.getCaseDetails().getState().getId())
+            .data(callback.getCaseDetails().getCaseData())
+            .build();
+    }
+
+    @Benchmark
+    public SscsCaseData jsonRoundTrip() throws JsonProcessingException {
+        return deserializer.deserialize(buildCcdNode(caseDetails, "hearingReminder")).getCaseDetails().getCaseData();
+    }
+
+    @Benchmark
+    public SscsCaseData inPlace() {
+        SscsCaseCallbackStreamDeserializer.normalise(caseDetails.getId(), caseDetails.getData());
+        return caseDetails.getData();
+    }
+
+    // the callback BaseActionExecutor used to build before deserialising it again
+    private static String buildCcdNode(SscsCaseDetails caseDetails, String jobName) throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        JsonNode jsonNode = mapper.valueToTree(caseDetails);
+        ObjectNode node2 = (ObjectNode) jsonNode;
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+
+        node2.set("case_data", jsonNode.get("data"));
+        node2.remove("data");
+
+        node.set("case_details", node2);
+        node = node.put("event_id", jobName);
+
+        return mapper.writeValueAsString(node);
+    }
+}
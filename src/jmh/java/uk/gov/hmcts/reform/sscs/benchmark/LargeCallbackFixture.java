@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.sscs.benchmark;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING;
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Builds a CCD callback body of roughly the requested size, made up of the collections that make real cases large:
+ * sscsDocument, correspondence and audioVideoEvidence.
+ */
+public final class LargeCallbackFixture {
+
+    public static final int FIVE_MEGABYTES = 5 * 1024 * 1024;
+
+    private static final String BODY_TEXT = "Dear appellant, we have received your appeal. ".repeat(20);
+
+    private LargeCallbackFixture() {
+    }
+
+    /**
+     * The same mapper configuration as the application's SscsCaseCallbackDeserializer bean.
+     */
+    public static ObjectMapper callbackMapper() {
+        ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
+            .featuresToEnable(READ_ENUMS_USING_TO_STRING)
+            .featuresToEnable(READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE)
+            .featuresToEnable(WRITE_ENUMS_USING_TO_STRING)
+            .serializationInclusion(JsonInclude.Include.NON_ABSENT)
+            .createXmlMapper(false)
+            .build();
+        mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
+        mapper.findAndRegisterModules();
+        return mapper;
+    }
+
+    public static byte[] callbackOfSize(int targetBytes) throws JsonProcessingException {
+        ObjectMapper mapper = callbackMapper();
+        ObjectNode caseData = mapper.createObjectNode();
+        caseData.put("caseReference", "SC001/00/00001");
+        ObjectNode appeal = caseData.putObject("appeal");
+        appeal.putObject("benefitType").put("code", "PIP").put("description", "Personal Independence Payment");
+        ObjectNode appellant = appeal.putObject("appellant");
+        appellant.putObject("name").put("title", "Mr").put("firstName", "Large").put("lastName", "Case");
+        appellant.putObject("identity").put("nino", "BB000000C").put("dob", "1980-01-01");
+
+        ArrayNode documents = caseData.putArray("sscsDocument");
+        ArrayNode correspondence = caseData.putArray("correspondence");
+        ArrayNode audioVideoEvidence = caseData.putArray("audioVideoEvidence");
+
+        ObjectNode callback = mapper.createObjectNode();
+        ObjectNode caseDetails = callback.putObject("case_details");
+        caseDetails.put("id", 1234567890123456L);
+        caseDetails.put("jurisdiction", "SSCS");
+        caseDetails.put("state", "withDwp");
+        caseDetails.put("case_type_id", "Benefit");
+        caseDetails.set("case_data", caseData);
+        callback.put("event_id", "uploadDocument");
+
+        int index = 0;
+        while (mapper.writeValueAsBytes(callback).length < targetBytes) {
+            for (int i = 0; i < 50; i++, index++) {
+                LocalDate date = LocalDate.of(2020, 1, 1).plusDays(index % 1500);
+                documents.add(item(mapper, mapper.createObjectNode()
+                    .put("documentType", "appellantEvidence")
+                    .put("documentFileName", "evidence-" + index + ".pdf")
+                    .put("documentDateAdded", date.toString())
+                    .put("evidenceIssued", "Yes")
+                    .set("documentLink", link(mapper, "evidence-" + index + ".pdf"))));
+                correspondence.add(item(mapper, mapper.createObjectNode()
+                    .put("correspondenceType", "Email")
+                    .put("to", "appellant@example.com")
+                    .put("from", "benefit.and.compensation.appeals@notifications.service.gov.uk")
+                    .put("subject", "Your appeal " + index)
+                    .put("body", BODY_TEXT)
+                    .put("sentOn", "16 Feb 2026 13:23")
+                    .set("documentLink", link(mapper, "appealReceived " + index + ".pdf"))));
+                if (index % 10 == 0) {
+                    audioVideoEvidence.add(item(mapper, mapper.createObjectNode()
+                        .put("fileName", "recording-" + index + ".mp3")
+                        .put("dateAdded", date.toString())
+                        .set("documentLink", link(mapper, "recording-" + index + ".mp3"))));
+                }
+            }
+        }
+        return mapper.writeValueAsString(callback).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ObjectNode item(ObjectMapper mapper, ObjectNode value) {
+        ObjectNode item = mapper.createObjectNode();
+        item.put("id", UUID.randomUUID().toString());
+        item.set("value", value);
+        return item;
+    }
+
+    private static ObjectNode link(ObjectMapper mapper, String fileName) {
+        String url = "http://dm-store/documents/" + UUID.randomUUID();
+        return mapper.createObjectNode()
+            .put("document_url", url)
+            .put("document_binary_url", url + "/binary")
+            .put("document_filename", fileName);
+    }
+}
@@ -8,15 +8,21 @@ import static java.util.Arrays.asList;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ValidatorFactory;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import okhttp3.OkHttpClient;
+import org.apache.hc.client5.http.classic.HttpClient;
 import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
 import org.quartz.spi.JobFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
@@ -33,6 +39,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
@@ -50,11 +57,13 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.config.CcdRequestDetails;
 import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.docmosis.service.DocmosisPdfGenerationService;
+import uk.gov.hmcts.reform.sscs.docmosis.service.RenderedDocumentCache;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.jobscheduler.config.QuartzConfiguration;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.JobClassMapper;
@@ -115,7 +124,7 @@ public class TribunalsCaseApiApplication implements CommandLineRunner {
     }
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(@Qualifier("restTemplateHttpClient") HttpClient restTemplateHttpClient) {
         List<HttpMessageConverter<?>> messageConverters = new ArrayList<>();
         messageConverters.add(new ByteArrayHttpMessageConverter());
         messageConverters.add(new StringHttpMessageConverter());
@@ -135,6 +144,7 @@ public class TribunalsCaseApiApplication implements CommandLineRunner {
         return new RestTemplateBuilder()
             .messageConverters(messageConverters)
             .uriTemplateHandler(uriFactory)
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(restTemplateHttpClient))
             .build();
     }
 
@@ -182,9 +192,24 @@ public class TribunalsCaseApiApplication implements CommandLineRunner {
     public DocmosisPdfGenerationService docmosisPdfGenerationService(
         @Value("${docmosis.uri}") String docmosisServiceEndpoint,
         @Value("${docmosis.accessKey}") String docmosisServiceAccessKey,
-        RestTemplate restTemplate
+        RestTemplate restTemplate,
+        Optional<RenderedDocumentCache> renderedDocumentCache
     ) {
-        return new DocmosisPdfGenerationService(docmosisServiceEndpoint, docmosisServiceAccessKey, restTemplate);
+        return new DocmosisPdfGenerationService(docmosisServiceEndpoint, docmosisServiceAccessKey, restTemplate,
+            renderedDocumentCache.orElse(null));
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "docmosis.render-cache.enabled", havingValue = "true")
+    public RenderedDocumentCache renderedDocumentCache(
+        @Value("${docmosis.render-cache.ttl:PT10M}") Duration ttl,
+        @Value("${docmosis.render-cache.memoryMaxBytes:67108864}") long memoryMaxBytes,
+        @Value("${docmosis.render-cache.diskDirectory:}") String diskDirectory,
+        @Value("${docmosis.render-cache.diskMaxBytes:536870912}") long diskMaxBytes,
+        MeterRegistry meterRegistry
+    ) {
+        return new RenderedDocumentCache(ttl, memoryMaxBytes, diskDirectory.isBlank() ? null : Path.of(diskDirectory),
+            diskMaxBytes, meterRegistry);
     }
 
 
@@ -240,6 +265,11 @@ public class TribunalsCaseApiApplication implements CommandLineRunner {
         return new SscsCaseCallbackDeserializer(mapper());
     }
 
+    @Bean
+    public SscsCaseCallbackStreamDeserializer sscsCaseCallbackStreamDeserializer() {
+        return new SscsCaseCallbackStreamDeserializer(mapper());
+    }
+
     private ObjectMapper mapper() {
         Jackson2ObjectMapperBuilder objectMapperBuilder =
             new Jackson2ObjectMapperBuilder()
@@ -260,10 +290,9 @@ public class TribunalsCaseApiApplication implements CommandLineRunner {
                                   RetryNotificationService retryNotificationService,
                                   CcdService ccdService,
                                   UpdateCcdCaseService updateCcdCaseService,
-                                  IdamService idamService,
-                                  SscsCaseCallbackDeserializer deserializer) {
+                                  IdamService idamService) {
         // Had to wire these up like this Spring will not wire up CcdActionExecutor otherwise.
-        CcdActionExecutor ccdActionExecutor = new CcdActionExecutor(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer);
+        CcdActionExecutor ccdActionExecutor = new CcdActionExecutor(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService);
         return new JobMapper(List.of(
             new JobMapping<>(payload -> !payload.contains("onlineHearingId"), ccdActionDeserializer, ccdActionExecutor)
         ));
@@ -5,7 +5,6 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.isNull;
 import static java.util.Optional.empty;
 import static java.util.stream.Collectors.toUnmodifiableSet;
-import static org.apache.commons.lang3.ArrayUtils.contains;
 import static org.apache.commons.lang3.RegExUtils.replaceAll;
 import static org.apache.commons.lang3.StringUtils.lowerCase;
 import static org.apache.commons.lang3.StringUtils.rightPad;
@@ -30,8 +29,13 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.Benefit.findBenefitByDescripti
 import static uk.gov.hmcts.reform.sscs.ccd.domain.Benefit.findBenefitByShortName;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.Benefit.values;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -43,11 +47,17 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Benefit;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsType;
 
+/**
+ * Works out the benefit type from the OCR'd value on a bulk scanned form. Exact words and the words in
+ * {@link #CONTAINS_STRING} are looked up in maps built once, and fuzzy search results are remembered for search codes
+ * already seen, so most forms are matched without a fuzzy search.
+ */
 @Service
 @Slf4j
 public class FuzzyMatcherService {
     private static final int THRESHOLD_MATCH_SCORE = 90;
     private static final int MAX_FUZZY_SEARCH_LENGTH = 4;
+    private static final int MAX_REMEMBERED_FUZZY_SEARCHES = 2_000;
 
     private static final List<String> EXACT_WORDS_THAT_WILL_NOT_CAUSE_A_MATCH = List.of(
         "support",
@@ -57,7 +67,7 @@ public class FuzzyMatcherService {
         ""
     );
 
-    private static final Set<Pair<String, Benefit>> EXACT_WORDS_THAT_WILL_CAUSE_A_MATCH =
+    static final Set<Pair<String, Benefit>> EXACT_WORDS_THAT_WILL_CAUSE_A_MATCH =
         ImmutableSet.<Pair<String, Benefit>>builder()
             .addAll(
                 Set.of(
@@ -77,7 +87,7 @@ public class FuzzyMatcherService {
             .addAll(addBenefitShortNamesThatHaveAcronyms())
             .build();
 
-    private static final Set<Pair<String, Benefit>> CONTAINS_STRING = Set.of(
+    static final Set<Pair<String, Benefit>> CONTAINS_STRING = Set.of(
         Pair.of("personal", PIP),
         Pair.of("independence", PIP),
         Pair.of("universal", UC),
@@ -120,7 +130,7 @@ public class FuzzyMatcherService {
         Pair.of("bsps", BEREAVEMENT_SUPPORT_PAYMENT_SCHEME)
     );
 
-    private static final Set<Pair<String, Benefit>> FUZZY_CHOICES =
+    static final Set<Pair<String, Benefit>> FUZZY_CHOICES =
         ImmutableSet.<Pair<String, Benefit>>builder()
             .addAll(getBenefitShortNameAndDescriptionFuzzyChoices())
             .build()
@@ -128,6 +138,13 @@ public class FuzzyMatcherService {
             .filter(pair -> pair.getLeft().length() >= MAX_FUZZY_SEARCH_LENGTH)
             .collect(toUnmodifiableSet());
 
+    private static final Map<String, Benefit> EXACT_WORD_INDEX = indexByLowerCase(EXACT_WORDS_THAT_WILL_CAUSE_A_MATCH);
+    private static final Map<String, Benefit> CONTAINS_STRING_INDEX = indexByLowerCase(CONTAINS_STRING);
+
+    private final Cache<String, BoundExtractedResult<Pair<String, Benefit>>> fuzzySearchResults = CacheBuilder.newBuilder()
+        .maximumSize(MAX_REMEMBERED_FUZZY_SEARCHES)
+        .build();
+
     public String matchBenefitType(String caseId, String ocrBenefitValue) {
         return wordExcludedFromFuzzySearch(caseId, ocrBenefitValue)
             .flatMap(code -> benefitByExactMatchOrFuzzySearch(caseId, code))
@@ -168,11 +185,14 @@ public class FuzzyMatcherService {
     }
 
     private List<Benefit> findBenefitsInTheContainsStringSet(String code) {
-        return CONTAINS_STRING.stream()
-            .filter(pair -> contains(lowerCase(code).split(" "), pair.getLeft()))
-            .map(Pair::getRight)
-            .distinct()
-            .toList();
+        Set<Benefit> benefits = new LinkedHashSet<>();
+        for (String word : lowerCase(code).split(" ")) {
+            Benefit benefit = CONTAINS_STRING_INDEX.get(word);
+            if (benefit != null) {
+                benefits.add(benefit);
+            }
+        }
+        return List.copyOf(benefits);
     }
 
     private String getBenefitNames(List<Benefit> benefits) {
@@ -186,7 +206,12 @@ public class FuzzyMatcherService {
     }
 
     private BoundExtractedResult<Pair<String, Benefit>> runFuzzySearch(String code) {
-        return FuzzySearch.extractOne(code, FUZZY_CHOICES, Pair::getLeft);
+        BoundExtractedResult<Pair<String, Benefit>> result = fuzzySearchResults.getIfPresent(code);
+        if (result == null) {
+            result = FuzzySearch.extractOne(code, FUZZY_CHOICES, Pair::getLeft);
+            fuzzySearchResults.put(code, result);
+        }
+        return result;
     }
 
     private Optional<String> wordExcludedFromFuzzySearch(String caseId, String code) {
@@ -218,10 +243,17 @@ public class FuzzyMatcherService {
     }
 
     private static Optional<Benefit> findBenefitByExactWord(String code) {
-        return EXACT_WORDS_THAT_WILL_CAUSE_A_MATCH.stream()
-            .filter(pair -> pair.getLeft().equalsIgnoreCase(code))
-            .findFirst()
-            .map(Pair::getRight);
+        return Optional.ofNullable(EXACT_WORD_INDEX.get(lowerCase(code)));
+    }
+
+    /**
+     * Keyed by the lower case word. Where two pairs have the same word the first one in the set wins, as it did when
+     * the set was searched in order.
+     */
+    private static Map<String, Benefit> indexByLowerCase(Set<Pair<String, Benefit>> words) {
+        Map<String, Benefit> index = new HashMap<>();
+        words.forEach(pair -> index.putIfAbsent(lowerCase(pair.getLeft()), pair.getRight()));
+        return Map.copyOf(index);
     }
 
     private static Set<Pair<String, Benefit>> addBenefitShortNamesThatHaveAcronyms() {
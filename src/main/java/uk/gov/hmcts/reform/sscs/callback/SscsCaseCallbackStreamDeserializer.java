@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.exception.EmptyCallbackBodyException;
+
+/**
+ * Reads a CCD callback straight from the request body stream into {@link SscsCaseData}, so large cases are never
+ * held as a String as well as a parsed tree. Produces the same callback as
+ * {@link uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer#deserialize(String)}.
+ */
+public class SscsCaseCallbackStreamDeserializer {
+
+    private static final TypeReference<Callback<SscsCaseData>> CALLBACK_TYPE = new TypeReference<>() {};
+
+    private final ObjectReader reader;
+
+    public SscsCaseCallbackStreamDeserializer(ObjectMapper mapper) {
+        requireNonNull(mapper, "mapper must not be null");
+        this.reader = mapper.readerFor(CALLBACK_TYPE);
+    }
+
+    /**
+     * Reads the callback from the stream.
+     *
+     * @throws EmptyCallbackBodyException if the stream holds no JSON at all, which the controllers return as a 400
+     * @throws IllegalArgumentException if the stream cannot be read as a callback
+     */
+    public Callback<SscsCaseData> deserialize(InputStream source) {
+        requireNonNull(source, "source must not be null");
+        try (JsonParser parser = reader.createParser(source)) {
+            if (parser.nextToken() == null) {
+                throw new EmptyCallbackBodyException();
+            }
+            Callback<SscsCaseData> callback = reader.readValue(parser);
+            normalise(callback);
+            return callback;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize object", e);
+        }
+    }
+
+    /**
+     * Applies the same post-processing as the String deserializer: the case id is copied into the case data and
+     * collections are sorted, which notifications rely on to pick the latest hearing, event or document.
+     */
+    public static void normalise(Callback<SscsCaseData> callback) {
+        normalise(callback.getCaseDetails());
+        callback.getCaseDetailsBefore().ifPresent(SscsCaseCallbackStreamDeserializer::normalise);
+    }
+
+    /**
+     * Applies the same post-processing to case data that has already been read, for example from a CCD search, so it
+     * does not have to be written out as a callback and read back in.
+     */
+    public static void normalise(Long caseId, SscsCaseData caseData) {
+        if (caseData == null) {
+            return;
+        }
+        caseData.setCcdCaseId(String.valueOf(caseId));
+        caseData.sortCollections();
+    }
+
+    private static void normalise(CaseDetails<SscsCaseData> caseDetails) {
+        if (caseDetails == null) {
+            return;
+        }
+        normalise(caseDetails.getId(), caseDetails.getCaseData());
+    }
+}
@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
@@ -22,6 +24,12 @@ public class ClearHmctsDwpStateHandler implements PreSubmitCallbackHandler<SscsC
                 || callback.getEvent() ==  EventType.CLEAR_FAILED_FE_FILTER);
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(
+            EventType.CLEAR_FAILED_FE_FILTER, EventType.SEND_TO_DWP_OFFLINE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
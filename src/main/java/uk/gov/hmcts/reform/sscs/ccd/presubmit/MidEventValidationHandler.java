@@ -5,6 +5,7 @@ import static uk.gov.hmcts.reform.sscs.util.DateTimeUtils.isDateInTheFuture;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +36,11 @@ public class MidEventValidationHandler implements PreSubmitCallbackHandler<SscsC
             && nonNull(callback.getCaseDetails().getCaseData());
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(EventType.NOT_LISTABLE, EventType.UPDATE_NOT_LISTABLE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -3,8 +3,14 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.reform.sscs.ccd.presubmit.createcase.CreateCaseAboutToStartHandler.isCreateCaseStartCallback;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -12,38 +18,64 @@ import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 
 @Slf4j
 @Component
 public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
-    private final List<PreSubmitCallbackHandler<T>> callbackHandlers;
+    static final String DISPATCH_TIMER = "sscs.callback.dispatch";
 
-    public PreSubmitCallbackDispatcher(List<PreSubmitCallbackHandler<T>> callbackHandlers) {
+    private final Map<CallbackType, Map<EventType, List<PreSubmitCallbackHandler<T>>>> routingTable;
+    private final List<PreSubmitCallbackHandler<T>> unroutedHandlers;
+    private final MeterRegistry meterRegistry;
+
+    public PreSubmitCallbackDispatcher(List<PreSubmitCallbackHandler<T>> callbackHandlers,
+                                       MeterRegistry meterRegistry) {
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
-        this.callbackHandlers = callbackHandlers;
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.meterRegistry = meterRegistry;
+        this.unroutedHandlers = callbackHandlers.stream()
+            .filter(handler -> handler.getHandledEvents().isEmpty())
+            .toList();
+        this.routingTable = buildRoutingTable(callbackHandlers);
+        log.info("Indexed {} pre-submit callback handlers, {} without declared events",
+            callbackHandlers.size(), unroutedHandlers.size());
     }
 
     public PreSubmitCallbackResponse<T> handle(CallbackType callbackType, Callback<T> callback, String userAuth) {
         requireNonNull(callback, "callback must not be null");
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         List<PreSubmitCallbackHandler<T>> eligibleHandlers = new ArrayList<>();
         PreSubmitCallbackResponse<T> aggregateResponse =
                 new PreSubmitCallbackResponse<>(callback.getCaseDetails().getCaseData());
+        Callback<T> updatedCallback = null;
 
-        for (PreSubmitCallbackHandler<T> callbackHandler : callbackHandlers) {
-            if (callbackHandler.canHandle(callbackType, callback)) {
-                eligibleHandlers.add(callbackHandler);
+        try {
+            for (PreSubmitCallbackHandler<T> callbackHandler : getCandidateHandlers(callbackType, callback.getEvent())) {
+                if (callbackHandler.canHandle(callbackType, callback)) {
+                    eligibleHandlers.add(callbackHandler);
 
-                var updatedCallback = getUpdatedCallback(aggregateResponse.getData(), callback, callbackType);
+                    if (updatedCallback == null
+                        || updatedCallback.getCaseDetails().getCaseData() != aggregateResponse.getData()) {
+                        updatedCallback = getUpdatedCallback(aggregateResponse.getData(), callback, callbackType);
+                    }
 
-                PreSubmitCallbackResponse<T> handlerResponse =
-                        callbackHandler.handle(callbackType, updatedCallback, userAuth);
+                    PreSubmitCallbackResponse<T> handlerResponse =
+                            callbackHandler.handle(callbackType, updatedCallback, userAuth);
 
-                aggregateResponse.setData(handlerResponse.getData());
-                aggregateResponse.addErrors(handlerResponse.getErrors());
-                aggregateResponse.addWarnings(handlerResponse.getWarnings());
+                    aggregateResponse.setData(handlerResponse.getData());
+                    aggregateResponse.addErrors(handlerResponse.getErrors());
+                    aggregateResponse.addWarnings(handlerResponse.getWarnings());
+                }
             }
+        } finally {
+            sample.stop(Timer.builder(DISPATCH_TIMER)
+                .description("Time taken to dispatch a CCD callback to its pre-submit handlers")
+                .tag("callbackType", String.valueOf(callbackType))
+                .tag("event", String.valueOf(callback.getEvent()))
+                .register(meterRegistry));
         }
         if (eligibleHandlers.size() > 1) {
             log.info("{} has more than one handler {}", callback.getEvent(), eligibleHandlers);
@@ -51,6 +83,40 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
         return aggregateResponse;
     }
 
+    private List<PreSubmitCallbackHandler<T>> getCandidateHandlers(CallbackType callbackType, EventType event) {
+        if (callbackType == null || event == null) {
+            return unroutedHandlers;
+        }
+        return routingTable.get(callbackType).get(event);
+    }
+
+    /**
+     * Builds a list of candidate handlers for every callback type and event pair, keeping the handlers in their
+     * original order so the aggregated response is the same as when every handler was checked.
+     */
+    private Map<CallbackType, Map<EventType, List<PreSubmitCallbackHandler<T>>>> buildRoutingTable(
+        List<PreSubmitCallbackHandler<T>> callbackHandlers) {
+
+        Map<CallbackType, Map<EventType, List<PreSubmitCallbackHandler<T>>>> table = new EnumMap<>(CallbackType.class);
+        for (CallbackType callbackType : CallbackType.values()) {
+            Map<EventType, List<PreSubmitCallbackHandler<T>>> eventHandlers = new EnumMap<>(EventType.class);
+            for (EventType event : EventType.values()) {
+                List<PreSubmitCallbackHandler<T>> candidates = callbackHandlers.stream()
+                    .filter(handler -> isCandidate(handler, callbackType, event))
+                    .toList();
+                eventHandlers.put(event, candidates.equals(unroutedHandlers) ? unroutedHandlers : candidates);
+            }
+            table.put(callbackType, Collections.unmodifiableMap(eventHandlers));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    private static <T extends CaseData> boolean isCandidate(PreSubmitCallbackHandler<T> handler,
+                                                            CallbackType callbackType, EventType event) {
+        Map<CallbackType, Set<EventType>> handledEvents = handler.getHandledEvents();
+        return handledEvents.isEmpty() || handledEvents.getOrDefault(callbackType, Set.of()).contains(event);
+    }
+
     private Callback<T> getUpdatedCallback(T caseData, Callback<T> callback, CallbackType callbackType) {
         boolean isCreateCaseStartCallback = isCreateCaseStartCallback(callbackType, callback.getEvent());
         var updatedCaseDetails = new CaseDetails<>(
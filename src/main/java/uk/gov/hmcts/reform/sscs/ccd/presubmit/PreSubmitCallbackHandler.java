@@ -1,13 +1,24 @@
 package uk.gov.hmcts.reform.sscs.ccd.presubmit;
 
+import java.util.Map;
+import java.util.Set;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 
 public interface PreSubmitCallbackHandler<T extends CaseData> {
 
     boolean canHandle(CallbackType callbackType, Callback<T> callback);
 
     PreSubmitCallbackResponse<T> handle(CallbackType callbackType, Callback<T> callback, String userAuthorisation);
+
+    /**
+     * The callback types and events this handler can possibly handle. The dispatcher uses these to only call
+     * {@link #canHandle} on handlers that could match; an empty map means the handler is checked for every callback.
+     */
+    default Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of();
+    }
 }
@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.abatecase;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
@@ -23,6 +25,11 @@ public class AbateCaseAboutToStartHandler implements PreSubmitCallbackHandler<Ss
                 && callback.getEvent() == EventType.ABATE_CASE;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_START, Set.of(EventType.ABATE_CASE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
 
@@ -34,6 +34,11 @@ public class ActionHearingRecordingRequestAboutToSubmitHandler implements PreSub
 
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.ACTION_HEARING_RECORDING_REQUEST));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
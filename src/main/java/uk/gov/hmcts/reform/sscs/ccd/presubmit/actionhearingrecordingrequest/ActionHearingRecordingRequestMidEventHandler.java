@@ -11,7 +11,9 @@ import static uk.gov.hmcts.reform.sscs.model.RequestStatus.REQUESTED;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +47,11 @@ public class ActionHearingRecordingRequestMidEventHandler implements PreSubmitCa
                 && callback.getEvent() == EventType.ACTION_HEARING_RECORDING_REQUEST;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(EventType.ACTION_HEARING_RECORDING_REQUEST));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -3,6 +3,8 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.confirmpoattendance;
 import static java.util.Objects.requireNonNull;
 import static net.logstash.logback.util.StringUtils.isEmpty;
 
+import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -30,6 +32,11 @@ public class ConfirmPoAttendanceMidEventHandler implements PreSubmitCallbackHand
                 && callback.getEvent() == EventType.CONFIRM_PO_ATTENDANCE;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(EventType.CONFIRM_PO_ATTENDANCE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
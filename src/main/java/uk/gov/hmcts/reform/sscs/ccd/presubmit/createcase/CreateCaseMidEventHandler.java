@@ -7,6 +7,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.YesNo.isYes;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -49,6 +50,13 @@ public class CreateCaseMidEventHandler implements PreSubmitCallbackHandler<SscsC
                 && callback.getCaseDetails().getCaseData().isIbcCase();
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(
+            EventType.CASE_UPDATED, EventType.INCOMPLETE_APPLICATION_RECEIVED, EventType.NON_COMPLIANT,
+            EventType.VALID_APPEAL_CREATED));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         SscsCaseData caseData = callback.getCaseDetails().getCaseData();
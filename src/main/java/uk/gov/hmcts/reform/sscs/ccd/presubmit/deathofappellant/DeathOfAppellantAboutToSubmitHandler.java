@@ -9,6 +9,7 @@ import static uk.gov.hmcts.reform.sscs.util.SscsUtil.clearPostponementTransientF
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -53,6 +54,11 @@ public class DeathOfAppellantAboutToSubmitHandler implements PreSubmitCallbackHa
                 && callback.getEvent() == EventType.DEATH_OF_APPELLANT;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.DEATH_OF_APPELLANT));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -27,8 +27,10 @@ import static uk.gov.hmcts.reform.sscs.util.OtherPartyDataUtil.isConfidential;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -111,6 +113,12 @@ public class DirectionIssuedAboutToSubmitHandler extends IssueDocumentHandler im
             && nonNull(callback.getCaseDetails().getCaseData());
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(
+            EventType.DIRECTION_ISSUED, EventType.DIRECTION_ISSUED_WELSH));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
 
@@ -5,6 +5,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.presubmit.dwpuploadresponse.ElementsD
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,12 @@ public class ElementsDisputedMidEventValidationHandler implements PreSubmitCallb
                 || callback.getEvent() == EventType.AMEND_ELEMENTS_ISSUES);
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(
+            EventType.AMEND_ELEMENTS_ISSUES, EventType.DWP_UPLOAD_RESPONSE, EventType.HMCTS_RESPONSE_REVIEWED));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -3,7 +3,9 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.ftacommunication;
 import static java.util.Objects.requireNonNull;
 
 import feign.FeignException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +50,11 @@ public class FtaCommunicationSubmittedHandler implements PreSubmitCallbackHandle
             && callback.getEvent() == EventType.FTA_COMMUNICATION;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.SUBMITTED, Set.of(EventType.FTA_COMMUNICATION));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
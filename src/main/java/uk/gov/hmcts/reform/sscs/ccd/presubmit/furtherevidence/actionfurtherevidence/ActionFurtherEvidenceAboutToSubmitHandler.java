@@ -22,6 +22,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -40,6 +41,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.InterlocReviewState;
 import uk.gov.hmcts.reform.sscs.ccd.presubmit.PreSubmitCallbackHandler;
 import uk.gov.hmcts.reform.sscs.model.PartyItemList;
 import uk.gov.hmcts.reform.sscs.service.BundleAdditionFilenameBuilder;
+import uk.gov.hmcts.reform.sscs.service.FooterRequest;
 import uk.gov.hmcts.reform.sscs.service.FooterService;
 import uk.gov.hmcts.reform.sscs.service.UserDetailsService;
 import uk.gov.hmcts.reform.sscs.util.AddedDocumentsUtil;
@@ -218,6 +220,11 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
             && caseData.getOriginalSender() != null;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.ACTION_FURTHER_EVIDENCE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -454,6 +461,7 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
     private void buildSscsDocumentFromScan(SscsCaseData sscsCaseData, State caseState, Boolean ignoreWarnings,
                                            PreSubmitCallbackResponse<SscsCaseData> preSubmitCallbackResponse) {
         List<String> documentsAddedThisEvent = new ArrayList<>();
+        List<PendingFooter> pendingFooters = new ArrayList<>();
         if (sscsCaseData.getScannedDocuments() != null) {
             for (ScannedDocument scannedDocument : sscsCaseData.getScannedDocuments()) {
                 if (scannedDocument != null && scannedDocument.getValue() != null) {
@@ -465,11 +473,12 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
 
                     if (warningAddedForBundleAddition(sscsCaseData, ignoreWarnings, preSubmitCallbackResponse,
                         scannedDocument)) {
+                        addFooters(pendingFooters);
                         return;
                     }
 
                     if (!equalsIgnoreCase(scannedDocument.getValue().getType(), COVERSHEET)) {
-                        SscsDocument sscsDocument = buildSscsDocument(sscsCaseData, scannedDocument, caseState);
+                        SscsDocument sscsDocument = buildSscsDocument(sscsCaseData, scannedDocument, caseState, pendingFooters);
                         documentsAddedThisEvent.add(sscsDocument.getValue().getDocumentType());
                         addSscsDocumentToCaseData(sscsCaseData, sscsDocument, scannedDocument.getValue().getDocumentTabChoice());
                         setReinstateCaseFieldsIfReinstatementRequest(sscsCaseData, sscsDocument);
@@ -488,6 +497,7 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
             preSubmitCallbackResponse.addError("No further evidence to process");
         }
 
+        addFooters(pendingFooters);
         addedDocumentsUtil.computeDocumentsAddedThisEvent(sscsCaseData, documentsAddedThisEvent, EVENT_TYPE);
         sscsCaseData.setScannedDocuments(null);
     }
@@ -580,8 +590,22 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
         }
     }
 
+    /**
+     * Stamps the footers of the documents added this event together. Their bundle additions were chosen as each
+     * document was added, so the lettering does not depend on which footer finishes first.
+     */
+    private void addFooters(List<PendingFooter> pendingFooters) {
+        if (pendingFooters.isEmpty()) {
+            return;
+        }
+        List<DocumentLink> urls = footerService.addFooters(pendingFooters.stream().map(PendingFooter::footerRequest).toList());
+        for (int i = 0; i < pendingFooters.size(); i++) {
+            pendingFooters.get(i).sscsDocument().getValue().setDocumentLink(urls.get(i));
+        }
+    }
+
     private SscsDocument buildSscsDocument(SscsCaseData sscsCaseData, ScannedDocument scannedDocument,
-                                           State caseState) {
+                                           State caseState, List<PendingFooter> pendingFooters) {
 
         String scannedDate = null;
         if (scannedDocument.getValue().getScannedDate() != null) {
@@ -594,6 +618,7 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
         DocumentType documentType = getScannedDocumentType(sscsCaseData.getOriginalSender().getValue().getCode(), scannedDocument);
 
         String bundleAddition = null;
+        FooterRequest footerRequest = null;
         String originalSenderCode = sscsCaseData.getOriginalSender().getValue().getCode();
         if (caseState != null
             && isCorrectActionTypeForBundleAddition(sscsCaseData, scannedDocument)
@@ -608,7 +633,7 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
 
             bundleAddition = footerService.getNextBundleAddition(sscsCaseData.getSscsDocument());
 
-            url = footerService.addFooter(url, documentFooterText, bundleAddition);
+            footerRequest = new FooterRequest(url, documentFooterText, bundleAddition);
         }
 
         String requestingParty = null;
@@ -630,7 +655,7 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
             originalSenderOtherPartyName = getOtherPartyName(sscsCaseData, originalSenderOtherPartyId);
         }
 
-        return SscsDocument.builder()
+        SscsDocument sscsDocument = SscsDocument.builder()
             .value(SscsDocumentDetails.builder()
                 .documentType(documentType.getValue())
                 .documentFileName(fileName)
@@ -647,6 +672,11 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
                     sscsCaseData.isLanguagePreferenceWelsh() ? SscsDocumentTranslationStatus.TRANSLATION_REQUIRED : null)
                 .build())
             .build();
+
+        if (footerRequest != null) {
+            pendingFooters.add(new PendingFooter(sscsDocument, footerRequest));
+        }
+        return sscsDocument;
     }
 
     private String findOriginalSenderOtherPartyId(DocumentType documentType, String originalSender) {
@@ -751,4 +781,6 @@ public class ActionFurtherEvidenceAboutToSubmitHandler implements PreSubmitCallb
         throw new IllegalStateException("document Type could not be worked out");
     }
 
+    private record PendingFooter(SscsDocument sscsDocument, FooterRequest footerRequest) {
+    }
 }
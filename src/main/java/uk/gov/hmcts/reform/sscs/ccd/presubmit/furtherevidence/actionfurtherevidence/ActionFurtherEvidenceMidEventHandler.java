@@ -13,8 +13,10 @@ import static uk.gov.hmcts.reform.sscs.domain.wrapper.pdf.PdfState.PASSWORD_ENCR
 import static uk.gov.hmcts.reform.sscs.domain.wrapper.pdf.PdfState.UNREADABLE;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +64,11 @@ public class ActionFurtherEvidenceMidEventHandler implements PreSubmitCallbackHa
             && callback.getEvent() == EventType.ACTION_FURTHER_EVIDENCE;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(EventType.ACTION_FURTHER_EVIDENCE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -226,12 +233,17 @@ public class ActionFurtherEvidenceMidEventHandler implements PreSubmitCallbackHa
 
     @NotNull
     private List<PdfReadable> getPdfReadableErrorList(SscsCaseData sscsCaseData) {
-        return emptyIfNull(sscsCaseData.getScannedDocuments()).stream()
+        List<ScannedDocument> scannedDocuments = emptyIfNull(sscsCaseData.getScannedDocuments()).stream()
             .filter(Objects::nonNull)
             .filter(doc -> doc.getValue() != null)
             .filter(doc -> doc.getValue().getUrl() != null)
             .filter(doc -> doc.getValue().getUrl().getDocumentUrl() != null)
-            .map(doc -> new PdfReadable(doc.getValue().getFileName(), footerService.isReadablePdf(doc.getValue().getUrl().getDocumentUrl())))
+            .toList();
+        Map<String, PdfState> pdfStates = footerService.isReadablePdfs(scannedDocuments.stream()
+            .map(doc -> doc.getValue().getUrl().getDocumentUrl())
+            .toList());
+        return scannedDocuments.stream()
+            .map(doc -> new PdfReadable(doc.getValue().getFileName(), pdfStates.getOrDefault(doc.getValue().getUrl().getDocumentUrl(), PdfState.UNKNOWN)))
             .filter(pdfReadable -> pdfReadable.getPdfState().equals(UNREADABLE) || pdfReadable.getPdfState().equals(PASSWORD_ENCRYPTED))
             .collect(toUnmodifiableList());
     }
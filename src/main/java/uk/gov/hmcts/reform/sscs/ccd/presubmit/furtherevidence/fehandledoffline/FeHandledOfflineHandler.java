@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.furtherevidence.fehandledoffline;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -22,6 +24,11 @@ public class FeHandledOfflineHandler implements PreSubmitCallbackHandler<SscsCas
             || hmctsDwpStateFlagIsToClear(callback));
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.FURTHER_EVIDENCE_HANDLED_OFFLINE));
+    }
+
     private boolean hmctsDwpStateFlagIsToClear(Callback<SscsCaseData> callback) {
         return "failedSendingFurtherEvidence".equals(callback.getCaseDetails().getCaseData().getHmctsDwpState());
     }
@@ -37,6 +37,11 @@ public class ReissueFurtherEvidenceAboutToSubmitHandler implements PreSubmitCall
                 && callback.getEvent() == EventType.REISSUE_FURTHER_EVIDENCE;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.REISSUE_FURTHER_EVIDENCE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -15,7 +15,9 @@ import static uk.gov.hmcts.reform.sscs.util.PartiesOnCaseUtil.isChildSupportAppe
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -53,6 +55,11 @@ public class HmctsResponseReviewedAboutToStartHandler implements PreSubmitCallba
             && callback.getEvent() == EventType.HMCTS_RESPONSE_REVIEWED;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_START, Set.of(EventType.HMCTS_RESPONSE_REVIEWED));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
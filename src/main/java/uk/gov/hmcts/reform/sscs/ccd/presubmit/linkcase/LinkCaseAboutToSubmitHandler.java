@@ -41,6 +41,11 @@ public class LinkCaseAboutToSubmitHandler implements PreSubmitCallbackHandler<Ss
                 && callback.getEvent() == EventType.LINK_A_CASE;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.LINK_A_CASE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
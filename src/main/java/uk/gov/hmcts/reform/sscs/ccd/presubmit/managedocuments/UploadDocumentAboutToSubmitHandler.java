@@ -16,7 +16,9 @@ import static uk.gov.hmcts.reform.sscs.util.SscsUtil.removeDocumentFromCaseDataI
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -53,6 +55,11 @@ public class UploadDocumentAboutToSubmitHandler implements PreSubmitCallbackHand
             && callback.getEvent() == EventType.UPLOAD_DOCUMENT;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.UPLOAD_DOCUMENT));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(
         CallbackType callbackType,
@@ -3,7 +3,9 @@ package uk.gov.hmcts.reform.sscs.ccd.presubmit.managedwpdocuments;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +42,11 @@ public class ManageDwpDocumentsAboutToSubmitHandler extends ResponseEventsAboutT
                 && callback.getEvent() == EventType.MANAGE_DWP_DOCUMENTS;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.MANAGE_DWP_DOCUMENTS));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
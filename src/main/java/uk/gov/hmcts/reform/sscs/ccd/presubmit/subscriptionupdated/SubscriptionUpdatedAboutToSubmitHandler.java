@@ -6,7 +6,9 @@ import static uk.gov.hmcts.reform.sscs.util.OtherPartyDataUtil.clearOtherParties
 import static uk.gov.hmcts.reform.sscs.utility.AppealNumberGenerator.generateAppealNumber;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
@@ -30,6 +32,11 @@ public class SubscriptionUpdatedAboutToSubmitHandler implements PreSubmitCallbac
             && (callback.getEvent() == EventType.SUBSCRIPTION_UPDATED);
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.SUBSCRIPTION_UPDATED));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
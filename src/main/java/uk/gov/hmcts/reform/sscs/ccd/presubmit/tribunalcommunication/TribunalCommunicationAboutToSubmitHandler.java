@@ -46,6 +46,11 @@ public class TribunalCommunicationAboutToSubmitHandler implements PreSubmitCallb
             && callback.getEvent() == EventType.TRIBUNAL_COMMUNICATION;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.TRIBUNAL_COMMUNICATION));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
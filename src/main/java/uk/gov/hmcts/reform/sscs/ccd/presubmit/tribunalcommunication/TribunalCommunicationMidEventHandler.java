@@ -6,7 +6,9 @@ import static uk.gov.hmcts.reform.sscs.util.CommunicationRequestUtil.getRepliesW
 import static uk.gov.hmcts.reform.sscs.util.CommunicationRequestUtil.getRequestsWithoutReplies;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +40,11 @@ public class TribunalCommunicationMidEventHandler implements PreSubmitCallbackHa
             && callback.getEvent() == EventType.TRIBUNAL_COMMUNICATION;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(EventType.TRIBUNAL_COMMUNICATION));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -7,6 +7,8 @@ import static uk.gov.hmcts.reform.sscs.ccd.presubmit.uploaddocuments.DocumentTyp
 import static uk.gov.hmcts.reform.sscs.util.PartiesOnCaseUtil.getPartiesOnCase;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +47,11 @@ public class UploadDocumentFurtherEvidenceMidEventHandler implements PreSubmitCa
                 && callback.getEvent() == EventType.UPLOAD_DOCUMENT_FURTHER_EVIDENCE);
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.MID_EVENT, Set.of(EventType.UPLOAD_DOCUMENT_FURTHER_EVIDENCE));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
@@ -154,9 +161,14 @@ public class UploadDocumentFurtherEvidenceMidEventHandler implements PreSubmitCa
     private PdfState isPdfReadable(List<SscsFurtherEvidenceDoc> docs) {
         PdfState pdfState = PdfState.UNKNOWN;
         if (CollectionUtils.isNotEmpty(docs)) {
+            Map<String, PdfState> pdfStates = footerService.isReadablePdfs(docs.stream()
+                    .filter(doc -> DocumentUtil.isFileAPdf(doc.getValue().getDocumentLink()))
+                    .filter(doc -> doc.getValue().getDocumentLink() != null)
+                    .map(doc -> doc.getValue().getDocumentLink().getDocumentUrl())
+                    .toList());
             for (SscsFurtherEvidenceDoc doc : docs) {
                 if (DocumentUtil.isFileAPdf(doc.getValue().getDocumentLink())) {
-                    pdfState = isPdfReadable(doc);
+                    pdfState = isPdfReadable(doc, pdfStates);
                     if (!PdfState.OK.equals(pdfState)) {
                         return pdfState;
                     }
@@ -168,9 +180,9 @@ public class UploadDocumentFurtherEvidenceMidEventHandler implements PreSubmitCa
         return pdfState;
     }
 
-    private PdfState isPdfReadable(SscsFurtherEvidenceDoc doc) {
+    private PdfState isPdfReadable(SscsFurtherEvidenceDoc doc, Map<String, PdfState> pdfStates) {
         if (doc.getValue().getDocumentLink() != null) {
-            return footerService.isReadablePdf(doc.getValue().getDocumentLink().getDocumentUrl());
+            return pdfStates.getOrDefault(doc.getValue().getDocumentLink().getDocumentUrl(), PdfState.UNKNOWN);
         }
         return PdfState.UNKNOWN;
     }
@@ -43,6 +43,11 @@ public class UploadHearingRecordingAboutToSubmitHandler implements PreSubmitCall
                 && callback.getEvent() == EventType.UPLOAD_HEARING_RECORDING;
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.UPLOAD_HEARING_RECORDING));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
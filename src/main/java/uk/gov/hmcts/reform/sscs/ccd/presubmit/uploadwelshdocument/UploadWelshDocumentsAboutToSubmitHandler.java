@@ -49,6 +49,11 @@ public class UploadWelshDocumentsAboutToSubmitHandler implements PreSubmitCallba
             && callback.getEvent().equals(EventType.UPLOAD_WELSH_DOCUMENT);
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_SUBMIT, Set.of(EventType.UPLOAD_WELSH_DOCUMENT));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback,
                                                           String userAuthorisation) {
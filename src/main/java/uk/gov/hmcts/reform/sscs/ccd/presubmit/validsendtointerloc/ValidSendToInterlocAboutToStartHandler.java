@@ -8,6 +8,8 @@ import static uk.gov.hmcts.reform.sscs.util.PartiesOnCaseUtil.isChildSupportAppe
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -40,6 +42,12 @@ public class ValidSendToInterlocAboutToStartHandler implements PreSubmitCallback
                 || callback.getEvent() == EventType.ADMIN_SEND_TO_INTERLOCUTORY_REVIEW_STATE);
     }
 
+    @Override
+    public Map<CallbackType, Set<EventType>> getHandledEvents() {
+        return Map.of(CallbackType.ABOUT_TO_START, Set.of(
+            EventType.ADMIN_SEND_TO_INTERLOCUTORY_REVIEW_STATE, EventType.VALID_SEND_TO_INTERLOC));
+    }
+
     @Override
     public PreSubmitCallbackResponse<SscsCaseData> handle(CallbackType callbackType, Callback<SscsCaseData> callback, String userAuthorisation) {
         if (!canHandle(callbackType, callback)) {
@@ -3,32 +3,86 @@ package uk.gov.hmcts.reform.sscs.client;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * England and Wales bank holidays. Starts from the snapshot bundled in reference/bank-holidays.json and is refreshed
+ * from gov.uk in the background, so callers never wait on gov.uk. If a refresh fails the previous holidays are kept.
+ */
 @Slf4j
 @Component
 public class CachedHolidayClient {
 
-    private final OkHttpClient httpClient;
-    private Set<LocalDate> cachedHolidays;
     private static final String HOLIDAY_API_URL = "https://www.gov.uk/bank-holidays.json";
+    static final String HOLIDAY_SNAPSHOT = "/reference/bank-holidays.json";
+
+    private final OkHttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicReference<Set<LocalDate>> cachedHolidays = new AtomicReference<>();
 
     public CachedHolidayClient(OkHttpClient httpClient) {
         this.httpClient = httpClient;
+        this.cachedHolidays.set(loadSnapshot());
+    }
+
+    /**
+     * The latest holidays. Only goes to gov.uk if the bundled snapshot could not be read and no refresh has
+     * succeeded yet.
+     */
+    public Set<LocalDate> getHolidays() throws IOException {
+        Set<LocalDate> holidays = cachedHolidays.get();
+        if (holidays == null) {
+            holidays = fetchHolidaysFromApi();
+            cachedHolidays.compareAndSet(null, holidays);
+        }
+        return holidays;
+    }
+
+    @Scheduled(initialDelayString = "${bank-holidays.initialRefreshDelay:PT30S}",
+        fixedDelayString = "${bank-holidays.refreshInterval:PT12H}")
+    public void refresh() {
+        try {
+            Set<LocalDate> holidays = fetchHolidaysFromApi();
+            if (holidays.isEmpty()) {
+                log.warn("Got no bank holidays from {}, keeping the {} we have", HOLIDAY_API_URL, countCached());
+                return;
+            }
+            if (!holidays.equals(cachedHolidays.get())) {
+                cachedHolidays.set(holidays);
+                log.info("Refreshed bank holidays from {}, {} holidays", HOLIDAY_API_URL, holidays.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not refresh bank holidays from {}, keeping the {} we have", HOLIDAY_API_URL,
+                countCached(), e);
+        }
     }
 
-    public synchronized Set<LocalDate> getHolidays() throws IOException {
-        if (cachedHolidays == null) {
-            cachedHolidays = fetchHolidaysFromApi();
+    private int countCached() {
+        Set<LocalDate> holidays = cachedHolidays.get();
+        return holidays == null ? 0 : holidays.size();
+    }
+
+    private Set<LocalDate> loadSnapshot() {
+        try (InputStream in = getClass().getResourceAsStream(HOLIDAY_SNAPSHOT)) {
+            if (in == null) {
+                log.warn("Bank holiday snapshot {} not found", HOLIDAY_SNAPSHOT);
+                return null;
+            }
+            return parseHolidays(mapper.readTree(in));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read bank holiday snapshot {}", HOLIDAY_SNAPSHOT, e);
+            return null;
         }
-        return cachedHolidays;
     }
 
     private Set<LocalDate> fetchHolidaysFromApi() throws IOException {
@@ -39,17 +93,17 @@ public class CachedHolidayClient {
                 throw new IOException("Response unsuccessful: " + response);
             }
 
-            Set<LocalDate> holidays = new HashSet<>();
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(response.body().string());
-
-            JsonNode events = root.path("england-and-wales").path("events");
-            for (JsonNode event : events) {
-                String dateStr = event.path("date").asText();
-                holidays.add(LocalDate.parse(dateStr));
-            }
+            return parseHolidays(mapper.readTree(response.body().string()));
+        }
+    }
 
-            return holidays;
+    private static Set<LocalDate> parseHolidays(JsonNode root) {
+        Set<LocalDate> holidays = new HashSet<>();
+        JsonNode events = root.path("england-and-wales").path("events");
+        for (JsonNode event : events) {
+            String dateStr = event.path("date").asText();
+            holidays.add(LocalDate.parse(dateStr));
         }
+        return Set.copyOf(holidays);
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,19 @@ package uk.gov.hmcts.reform.sscs.config;
 
 import feign.Client;
 import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
@@ -26,6 +35,75 @@ public class HttpClientConfiguration {
         return restTemplate;
     }
 
+    /**
+     * Pooled client behind the application RestTemplate, so Docmosis renders and bundle requests reuse kept-alive
+     * connections instead of opening a new connection, and TLS session, per request. Pool usage is published as
+     * the httpcomponents.httpclient.pool.* metrics with httpclient=restTemplate.
+     */
+    @Bean(name = "restTemplateHttpClient", destroyMethod = "close")
+    public CloseableHttpClient restTemplateHttpClient(
+        @Value("${http.rest-template.maxTotal:100}") int maxTotal,
+        @Value("${http.rest-template.maxPerRoute:20}") int maxPerRoute,
+        @Value("${http.rest-template.connectTimeout:PT10S}") Duration connectTimeout,
+        @Value("${http.rest-template.readTimeout:PT2M}") Duration readTimeout,
+        @Value("${http.rest-template.connectionRequestTimeout:PT10S}") Duration connectionRequestTimeout,
+        @Value("${http.rest-template.connectionTimeToLive:PT5M}") Duration connectionTimeToLive,
+        @Value("${http.rest-template.evictIdleAfter:PT30S}") Duration evictIdleAfter,
+        MeterRegistry meterRegistry) {
+        return pooledHttpClient("restTemplate", maxTotal, maxPerRoute, connectTimeout, readTimeout,
+            connectionRequestTimeout, connectionTimeToLive, evictIdleAfter, meterRegistry);
+    }
+
+    /**
+     * Pooled client for streaming documents to the browser. A stream keeps its connection for as long as the client
+     * takes to read the document, so streams get their own pool rather than holding connections the RestTemplate
+     * needs. Pool usage is published with httpclient=documentStream.
+     */
+    @Bean(name = "documentStreamingHttpClient", destroyMethod = "close")
+    public CloseableHttpClient documentStreamingHttpClient(
+        @Value("${http.document-stream.maxTotal:50}") int maxTotal,
+        @Value("${http.document-stream.maxPerRoute:50}") int maxPerRoute,
+        @Value("${http.document-stream.connectTimeout:PT10S}") Duration connectTimeout,
+        @Value("${http.document-stream.readTimeout:PT2M}") Duration readTimeout,
+        @Value("${http.document-stream.connectionRequestTimeout:PT5S}") Duration connectionRequestTimeout,
+        @Value("${http.document-stream.connectionTimeToLive:PT5M}") Duration connectionTimeToLive,
+        @Value("${http.document-stream.evictIdleAfter:PT30S}") Duration evictIdleAfter,
+        MeterRegistry meterRegistry) {
+        return pooledHttpClient("documentStream", maxTotal, maxPerRoute, connectTimeout, readTimeout,
+            connectionRequestTimeout, connectionTimeToLive, evictIdleAfter, meterRegistry);
+    }
+
+    private static CloseableHttpClient pooledHttpClient(String name, int maxTotal, int maxPerRoute,
+                                                        Duration connectTimeout, Duration readTimeout,
+                                                        Duration connectionRequestTimeout,
+                                                        Duration connectionTimeToLive, Duration evictIdleAfter,
+                                                        MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .useSystemProperties()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(connectionTimeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return HttpClientBuilder
+            .create()
+            .useSystemProperties()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(evictIdleAfter))
+            .build();
+    }
+
     private HttpClient getHttpClient() {
         var timeout = Timeout.ofMilliseconds(10000);
         RequestConfig config = RequestConfig.custom()
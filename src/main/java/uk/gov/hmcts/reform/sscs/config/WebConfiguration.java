@@ -1,8 +1,10 @@
 package uk.gov.hmcts.reform.sscs.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.hmcts.reform.sscs.service.DocumentStreamCloser;
 
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
@@ -14,4 +16,12 @@ public class WebConfiguration implements WebMvcConfigurer {
     public void configurePathMatch(PathMatchConfigurer configurer) {
         configurer.setUseTrailingSlashMatch(true);
     }
+
+    /**
+     * Close streamed documents when their request ends, including on timeout or error.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new DocumentStreamCloser());
+    }
 }
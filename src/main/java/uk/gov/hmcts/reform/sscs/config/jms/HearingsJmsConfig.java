@@ -4,6 +4,7 @@ import jakarta.jms.ConnectionFactory;
 import javax.net.ssl.SSLContext;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.qpid.jms.JmsConnectionFactory;
+import org.apache.qpid.jms.JmsSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,7 +21,9 @@ import org.springframework.jms.listener.DefaultMessageListenerContainer;
 @Configuration
 public class HearingsJmsConfig {
 
-    public static final String AMQP_CONNECTION_STRING_TEMPLATE = "amqps://%1s?amqp.idleTimeout=%2d";
+    public static final String AMQP_CONNECTION_STRING_TEMPLATE =
+        "amqps://%1s?amqp.idleTimeout=%2d&jms.prefetchPolicy.all=%3d";
+
     @Value("${azure.service-bus.hmc-to-hearings-api.namespace}")
     private String namespace;
 
@@ -39,12 +42,38 @@ public class HearingsJmsConfig {
     @Value("${azure.service-bus.hmc-to-hearings-api.idleTimeout}")
     private Long idleTimeout;
 
+    @Value("${azure.service-bus.hmc-to-hearings-api.prefetch:1000}")
+    private int prefetch;
+
+    @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.enabled:false}")
+    private boolean keyedConsumption;
+
+    @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.workers:4}")
+    private int keyedConsumptionWorkers;
+
+    @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.queueCapacity:10}")
+    private int keyedConsumptionQueueCapacity;
+
     @Value("${spring.application.name}")
     private String clientId;
 
     @Bean("hmcHearingsJmsUrl")
     public String jmsUrlString(@Value("${azure.service-bus.hmc-to-hearings-api.namespace}${azure.service-bus.connection-postfix}") final String host) {
-        return String.format(AMQP_CONNECTION_STRING_TEMPLATE, host, idleTimeout);
+        return String.format(AMQP_CONNECTION_STRING_TEMPLATE, host, idleTimeout, effectivePrefetch());
+    }
+
+    // with keyed consumption prefetched messages wait behind the lanes while their locks run down, so no more are
+    // prefetched than the lanes can queue
+    int effectivePrefetch() {
+        if (!keyedConsumption) {
+            return prefetch;
+        }
+        int lanesCapacity = keyedConsumptionWorkers * keyedConsumptionQueueCapacity;
+        if (prefetch > lanesCapacity) {
+            log.info("Capping HMC topic prefetch at {}, the keyed consumption lanes' capacity", lanesCapacity);
+            return lanesCapacity;
+        }
+        return prefetch;
     }
 
     @Bean("hmcHearingsJmsConnectionFactory")
@@ -81,6 +110,11 @@ public class HearingsJmsConfig {
         returnValue.setSubscriptionDurable(Boolean.TRUE);
         returnValue.setErrorHandler(t -> log.error("Error while processing JMS message", t));
         returnValue.setExceptionListener(t -> log.error("Exception while processing JMS message", t));
+        if (keyedConsumption) {
+            // a single consumer keeps topic order; HmcMessageExecutor settles each message once it is processed
+            returnValue.setConcurrency("1");
+            returnValue.setSessionAcknowledgeMode(JmsSession.INDIVIDUAL_ACKNOWLEDGE);
+        }
         return returnValue;
     }
 }
@@ -6,19 +6,21 @@ import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.*;
 import static uk.gov.hmcts.reform.sscs.service.AuthorisationService.SERVICE_AUTHORISATION_HEADER;
 
 import com.google.common.base.Preconditions;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.InputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.presubmit.PreSubmitCallbackDispatcher;
 import uk.gov.hmcts.reform.sscs.service.AuthorisationService;
@@ -29,11 +31,11 @@ public class CcdCallbackController {
 
     private final AuthorisationService authorisationService;
     private final PreSubmitCallbackDispatcher<SscsCaseData> dispatcher;
-    private final SscsCaseCallbackDeserializer deserializer;
+    private final SscsCaseCallbackStreamDeserializer deserializer;
 
     @Autowired
     public CcdCallbackController(AuthorisationService authorisationService,
-                                 SscsCaseCallbackDeserializer deserializer,
+                                 SscsCaseCallbackStreamDeserializer deserializer,
                                  PreSubmitCallbackDispatcher<SscsCaseData> dispatcher) {
         this.authorisationService = authorisationService;
         this.deserializer = deserializer;
@@ -41,10 +43,12 @@ public class CcdCallbackController {
     }
 
     @PostMapping(path = "/ccdAboutToStart", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdAboutToStart(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        InputStream message) {
 
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to start sscs case callback `{}` received for Case ID `{}`", callback.getEvent(),
@@ -56,10 +60,12 @@ public class CcdCallbackController {
     }
 
     @PostMapping(path = "/ccdAboutToSubmit", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdAboutToSubmit(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to submit sscs case callback `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
@@ -68,10 +74,12 @@ public class CcdCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEvent", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEvent(
             @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
             @RequestHeader(AUTHORIZATION) String userAuthorisation,
-            @RequestBody String message,
+            InputStream message,
             @RequestParam(value = "pageId", required = false, defaultValue = "") String pageId
     ) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
@@ -84,11 +92,13 @@ public class CcdCallbackController {
     }
 
     @PostMapping(path = "/ccdSubmittedEvent", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdSubmittedEvent(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
-        validateRequest(serviceAuthHeader, userAuthorisation, message);
+        InputStream message) {
+        validateRequest(serviceAuthHeader, userAuthorisation);
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("Submitted event callback for`{}` event and Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
@@ -96,8 +106,7 @@ public class CcdCallbackController {
         return performRequest(SUBMITTED, callback, userAuthorisation);
     }
 
-    private void validateRequest(String serviceAuthHeader, String userAuthorisation, String message) {
-        Preconditions.checkNotNull(message);
+    private void validateRequest(String serviceAuthHeader, String userAuthorisation) {
         Preconditions.checkNotNull(userAuthorisation);
         Preconditions.checkNotNull(serviceAuthHeader);
     }
@@ -2,15 +2,18 @@ package uk.gov.hmcts.reform.sscs.controller;
 
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.InputStream;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
 
@@ -19,20 +22,28 @@ import uk.gov.hmcts.reform.sscs.service.servicebus.SendCallbackHandler;
 @Slf4j
 public class CcdCallbackOrchestratorController {
     private final SendCallbackHandler sendCallbackHandler;
-    private final SscsCaseCallbackDeserializer mapper;
+    private final SscsCaseCallbackStreamDeserializer mapper;
 
     public CcdCallbackOrchestratorController(final SendCallbackHandler sendCallbackHandler,
-                                             final SscsCaseCallbackDeserializer mapper) {
+                                             final SscsCaseCallbackStreamDeserializer mapper) {
         this.sendCallbackHandler = sendCallbackHandler;
         this.mapper = mapper;
     }
 
     @RequestMapping(value = "/send", produces = APPLICATION_JSON_VALUE, method = RequestMethod.POST)
-    public ResponseEntity<String> send(@RequestBody String body) {
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
+    public ResponseEntity<String> send(InputStream body) {
 
         Callback<SscsCaseData> callback = mapper.deserialize(body);
         log.info("Sending message for event: {} for case id: {}", callback.getEvent(), callback.getCaseDetails().getId());
-        sendCallbackHandler.handle(callback);
+        try {
+            sendCallbackHandler.handle(callback);
+        } catch (RejectedExecutionException e) {
+            log.warn("Callback queue is full, rejecting event: {} for case id: {}", callback.getEvent(),
+                callback.getCaseDetails().getId());
+            return new ResponseEntity<>("{}", HttpStatus.SERVICE_UNAVAILABLE);
+        }
         return new ResponseEntity<>("{}", HttpStatus.OK);
     }
 
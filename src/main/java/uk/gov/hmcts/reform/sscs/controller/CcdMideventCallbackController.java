@@ -7,6 +7,11 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ADMIN_ACTION_CORRECT
 import static uk.gov.hmcts.reform.sscs.service.AuthorisationService.SERVICE_AUTHORISATION_HEADER;
 
 import com.opencsv.CSVReader;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,13 +20,12 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.DocumentType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
@@ -41,7 +45,7 @@ import uk.gov.hmcts.reform.sscs.util.SscsUtil;
 public class CcdMideventCallbackController {
 
     private final AuthorisationService authorisationService;
-    private final SscsCaseCallbackDeserializer deserializer;
+    private final SscsCaseCallbackStreamDeserializer deserializer;
     private final DecisionNoticeService decisionNoticeService;
     private final AdjournCasePreviewService adjournCasePreviewService;
     private final AdjournCaseCcdService adjournCaseCcdService;
@@ -56,7 +60,7 @@ public class CcdMideventCallbackController {
 
     @Autowired
     public CcdMideventCallbackController(AuthorisationService authorisationService,
-                                         SscsCaseCallbackDeserializer deserializer,
+                                         SscsCaseCallbackStreamDeserializer deserializer,
                                          DecisionNoticeService decisionNoticeService,
                                          AdjournCasePreviewService adjournCasePreviewService,
                                          AdjournCaseCcdService adjournCaseCcdService,
@@ -71,10 +75,12 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEventAdjournCasePopulateVenueDropdown", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventAdjournCasePopulateVenueDropdown(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to start ccdMidEventAdjournCasePopulateVenueDropdown callback `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
@@ -92,10 +98,12 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEventPreviewFinalDecision", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventPreviewFinalDecision(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         EventType event = callback.getEvent();
         CaseDetails<SscsCaseData> caseDetails = callback.getCaseDetails();
@@ -134,10 +142,12 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEventPreviewAdjournCase", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventPreviewAdjournCase(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to start ccdMidEventPreviewAdjournCase callback `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
@@ -148,9 +158,11 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEventAdjournCaseDirectionDueDate", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventAdjournDirectionDueDate(
             @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
-            @RequestBody String message) {
+            InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to start ccdMidEventAdjournDirectionDueDate callback `{}` received for Case ID `{}`", callback.getEvent(),
                 callback.getCaseDetails().getId());
@@ -163,9 +175,11 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEventAdjournCaseNextHearing", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventAdjournCaseNextHearing(
             @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
-            @RequestBody String message) {
+            InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to start ccdMidEventAdjournCaseNextHearing callback `{}` received for Case ID `{}`", callback.getEvent(),
                 callback.getCaseDetails().getId());
@@ -178,9 +192,11 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/adjournCaseNextHearingListingDuration", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventadjournCaseNextHearingListingDuration(
             @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
-            @RequestBody String message) {
+            InputStream message) {
         Callback<SscsCaseData> callback = deserializer.deserialize(message);
         log.info("About to start ccdMidEventAdjournCaseNextHearing callback `{}` received for Case ID `{}`", callback.getEvent(),
                 callback.getCaseDetails().getId());
@@ -193,12 +209,16 @@ public class CcdMideventCallbackController {
     }
 
     @PostMapping(path = "/ccdMidEventAdminRestoreCases", produces = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Callback.class)))
     public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> ccdMidEventAdminRestoreCases(
         @RequestHeader(SERVICE_AUTHORISATION_HEADER) String serviceAuthHeader,
         @RequestHeader(AUTHORIZATION) String userAuthorisation,
-        @RequestBody String message) {
+        InputStream message) throws IOException {
 
-        Callback<SscsCaseData> callback = deserializer.deserialize(message);
+        // the restore file name is not part of SscsCaseData, so the body is read once and parsed for both
+        byte[] body = message.readAllBytes();
+        Callback<SscsCaseData> callback = deserializer.deserialize(new ByteArrayInputStream(body));
         log.info("About to start ccdMidEventAdminRestoreCases callback `{}` received for Case ID `{}`", callback.getEvent(),
             callback.getCaseDetails().getId());
 
@@ -208,7 +228,7 @@ public class CcdMideventCallbackController {
 
         try {
 
-            String fileName = restoreCasesService2.getRestoreCaseFileName(message);
+            String fileName = restoreCasesService2.getRestoreCaseFileName(body);
 
             ClassPathResource classPathResource = new ClassPathResource("csv/" + fileName);
             CSVReader reader = new CSVReader(new InputStreamReader(classPathResource.getInputStream()));
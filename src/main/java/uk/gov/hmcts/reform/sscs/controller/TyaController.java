@@ -12,24 +12,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import uk.gov.hmcts.reform.sscs.service.DocumentDownloadService;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.sscs.service.DocumentStreamingService;
 import uk.gov.hmcts.reform.sscs.service.TribunalsService;
 
 @RestController
 public class TyaController {
 
     private final TribunalsService tribunalsService;
-    private final DocumentDownloadService documentDownloadService;
+    private final DocumentStreamingService documentStreamingService;
 
     @Autowired
-    public TyaController(TribunalsService tribunalsService, DocumentDownloadService documentDownloadService) {
+    public TyaController(TribunalsService tribunalsService, DocumentStreamingService documentStreamingService) {
         this.tribunalsService = tribunalsService;
-        this.documentDownloadService = documentDownloadService;
+        this.documentStreamingService = documentStreamingService;
     }
 
     @Operation(summary = "getAppeal", description = "Returns an appeal given the CCD case id")
@@ -43,10 +46,14 @@ public class TyaController {
     }
 
     @Operation(summary = "getDocument", description = "Returns hearing outcome document given the document url")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Document", content = {
-        @Content(schema = @Schema(implementation = Resource.class))})})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Document", content = {
+            @Content(schema = @Schema(implementation = Resource.class))}),
+        @ApiResponse(responseCode = "206", description = "Requested range of the document"),
+        @ApiResponse(responseCode = "304", description = "Document has not changed")})
     @GetMapping(value = "/document", produces = APPLICATION_PDF_VALUE)
-    public ResponseEntity<Resource> getAppealDocument(@RequestParam(value = "url") String url) {
-        return documentDownloadService.downloadFile(url);
+    public ResponseEntity<StreamingResponseBody> getAppealDocument(@RequestParam(value = "url") String url,
+                                                                   @RequestHeader HttpHeaders headers) {
+        return documentStreamingService.streamFile(url, headers);
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.sscs.docmosis.config;
 
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +8,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.sscs.docmosis.service.DocmosisPdfGenerationService;
 import uk.gov.hmcts.reform.sscs.docmosis.service.DocumentManagementService;
+import uk.gov.hmcts.reform.sscs.docmosis.service.RenderedDocumentCache;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.service.CcdPdfService;
 
@@ -23,8 +25,9 @@ public class DocmosisConfiguration {
     @Bean
     public DocumentManagementService documentManagementService(RestTemplate restTemplate,
                                                                CcdPdfService ccdPdfService,
-                                                               IdamService idamService) {
+                                                               IdamService idamService,
+                                                               Optional<RenderedDocumentCache> renderedDocumentCache) {
         return new DocumentManagementService(new DocmosisPdfGenerationService(pdfServiceEndpoint,
-                pdfServiceAccessKey, restTemplate), ccdPdfService, idamService);
+                pdfServiceAccessKey, restTemplate, renderedDocumentCache.orElse(null)), ccdPdfService, idamService);
     }
 }
@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
@@ -21,15 +22,25 @@ public class DocmosisPdfGenerationService implements PdfGenerationService {
 
     private RestTemplate restTemplate;
 
+    private RenderedDocumentCache renderedDocumentCache;
+
     String templateEmptyMessage = "document generation template cannot be empty";
     String placeholdersEmptyMessage = "placeholders map cannot be null";
 
     public DocmosisPdfGenerationService(String pdfServiceEndpoint,
                                         String pdfServiceAccessKey,
                                         RestTemplate restTemplate) {
+        this(pdfServiceEndpoint, pdfServiceAccessKey, restTemplate, null);
+    }
+
+    public DocmosisPdfGenerationService(String pdfServiceEndpoint,
+                                        String pdfServiceAccessKey,
+                                        RestTemplate restTemplate,
+                                        RenderedDocumentCache renderedDocumentCache) {
         this.pdfServiceEndpoint = pdfServiceEndpoint;
         this.pdfServiceAccessKey = pdfServiceAccessKey;
         this.restTemplate = restTemplate;
+        this.renderedDocumentCache = renderedDocumentCache;
     }
 
     @Override
@@ -42,6 +53,15 @@ public class DocmosisPdfGenerationService implements PdfGenerationService {
         checkArgument(!isNullOrEmpty(templateName), templateEmptyMessage);
         checkNotNull(documentHolder.getPlaceholders(), placeholdersEmptyMessage);
 
+        Optional<String> cacheKey = renderedDocumentCache == null ? Optional.empty()
+            : renderedDocumentCache.key(templateName, documentHolder.getPlaceholders(), documentHolder.isPdfArchiveMode());
+        Optional<byte[]> cached = cacheKey.flatMap(renderedDocumentCache::get);
+        if (cached.isPresent()) {
+            log.info("Using cached render of template {} with placeholders of size [{}]", templateName,
+                documentHolder.getPlaceholders().size());
+            return cached.get();
+        }
+
         log.info("Making request to Docmosis pdf service to generate pdf document with template {} "
             + "and placeholders of size [{}] to endpoint {}", templateName, documentHolder.getPlaceholders().size(),
                 this.pdfServiceEndpoint);
@@ -49,7 +69,11 @@ public class DocmosisPdfGenerationService implements PdfGenerationService {
         try {
             ResponseEntity<byte[]> response =
                 restTemplate.postForEntity(pdfServiceEndpoint, request(templateName, documentHolder.getPlaceholders(), documentHolder.isPdfArchiveMode()), byte[].class);
-            return response.getBody();
+            byte[] pdf = response.getBody();
+            if (pdf != null) {
+                cacheKey.ifPresent(key -> renderedDocumentCache.put(key, pdf));
+            }
+            return pdf;
         } catch (Exception e) {
             log.error("Failed to request PDF from Docmosis REST endpoint " + this.pdfServiceEndpoint + " with error " + e.getMessage(), e);
             throw new PdfGenerationException("Failed to request PDF from REST endpoint " + e.getMessage(), e);
@@ -0,0 +1,225 @@
+package uk.gov.hmcts.reform.sscs.docmosis.service;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Cache of documents rendered by Docmosis, keyed by template name, PDF/A mode and a SHA-256 hash of the placeholders
+ * serialised with sorted keys, so the same render requested twice, for example a preview and then the issued
+ * document, only goes to Docmosis once. Rendered bytes are held in memory up to a total size and, if a directory is
+ * configured, also written to disk so they survive being evicted from memory. The disk tier keeps a running total of
+ * the bytes written and is pruned on a background thread, once per ttl and whenever the total goes over its limit, so
+ * renders never wait on a directory scan.
+ */
+@Slf4j
+public class RenderedDocumentCache {
+
+    static final String CACHE_NAME = "docmosis.render";
+    static final String DISK_HITS_COUNTER = "docmosis.render.disk.hits";
+    private static final String FILE_SUFFIX = ".pdf";
+
+    private final ObjectMapper canonicalMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToEnable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .build();
+    private final Cache<String, byte[]> memory;
+    private final Duration ttl;
+    private final Path diskDirectory;
+    private final long diskMaxBytes;
+    private final Counter diskHits;
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final AtomicBoolean pruneQueued = new AtomicBoolean();
+    private final ScheduledExecutorService diskPruner;
+
+    public RenderedDocumentCache(Duration ttl, long memoryMaxBytes, Path diskDirectory, long diskMaxBytes,
+                                 MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.diskDirectory = diskDirectory;
+        this.diskMaxBytes = diskMaxBytes;
+        this.memory = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumWeight(memoryMaxBytes)
+            .<String, byte[]>weigher((key, bytes) -> bytes.length)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, memory, CACHE_NAME);
+        this.diskHits = Counter.builder(DISK_HITS_COUNTER)
+            .description("Number of rendered documents read back from the disk cache")
+            .register(meterRegistry);
+        if (diskDirectory != null) {
+            try {
+                Files.createDirectories(diskDirectory);
+                pruneDisk();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create rendered document cache directory " + diskDirectory, e);
+            }
+            this.diskPruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "docmosis-render-cache-pruner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            diskPruner.scheduleWithFixedDelay(this::pruneDiskQuietly, ttl.toMillis(), ttl.toMillis(),
+                TimeUnit.MILLISECONDS);
+        } else {
+            this.diskPruner = null;
+        }
+    }
+
+    /**
+     * The cache key for a render, or empty if the placeholders cannot be serialised, in which case the render is
+     * not cached.
+     */
+    public Optional<String> key(String templateName, Map<String, Object> placeholders, boolean pdfArchiveMode) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((templateName + '\n' + pdfArchiveMode + '\n').getBytes(StandardCharsets.UTF_8));
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                canonicalMapper.writeValue(out, placeholders);
+            }
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Not caching render of template {} as its placeholders could not be hashed: {}",
+                templateName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<byte[]> get(String key) {
+        byte[] bytes = memory.getIfPresent(key);
+        if (bytes == null && diskDirectory != null) {
+            bytes = readFromDisk(key);
+            if (bytes != null) {
+                diskHits.increment();
+                memory.put(key, bytes);
+            }
+        }
+        return Optional.ofNullable(bytes).map(byte[]::clone);
+    }
+
+    public void put(String key, byte[] bytes) {
+        byte[] copy = bytes.clone();
+        memory.put(key, copy);
+        if (diskDirectory != null) {
+            writeToDisk(key, copy);
+        }
+    }
+
+    private byte[] readFromDisk(String key) {
+        Path file = diskDirectory.resolve(key + FILE_SUFFIX);
+        try {
+            if (!Files.exists(file) || isExpired(Files.getLastModifiedTime(file))) {
+                return null;
+            }
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            log.warn("Could not read rendered document {} from disk cache: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (diskPruner != null) {
+            diskPruner.shutdownNow();
+        }
+    }
+
+    long getDiskBytes() {
+        return diskBytes.get();
+    }
+
+    private void writeToDisk(String key, byte[] bytes) {
+        try {
+            Path temp = Files.createTempFile(diskDirectory, key, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, diskDirectory.resolve(key + FILE_SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write rendered document {} to disk cache: {}", key, e.getMessage());
+            return;
+        }
+        // a rewrite of the same key is counted twice until the next prune recounts the directory
+        if (diskBytes.addAndGet(bytes.length) > diskMaxBytes && pruneQueued.compareAndSet(false, true)) {
+            diskPruner.execute(() -> {
+                pruneQueued.set(false);
+                pruneDiskQuietly();
+            });
+        }
+    }
+
+    private void pruneDiskQuietly() {
+        try {
+            pruneDisk();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not prune rendered document disk cache: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void pruneDisk() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(diskDirectory, "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(RenderedDocumentCache::lastModified));
+
+        long totalBytes = 0;
+        for (Path file : files) {
+            totalBytes += Files.size(file);
+        }
+        for (Path file : files) {
+            if (totalBytes <= diskMaxBytes && !isExpired(lastModified(file))) {
+                break;
+            }
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                totalBytes -= size;
+            }
+        }
+        diskBytes.set(totalBytes);
+    }
+
+    private boolean isExpired(FileTime lastModified) {
+        return lastModified.toInstant().plus(ttl).isBefore(Instant.now());
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
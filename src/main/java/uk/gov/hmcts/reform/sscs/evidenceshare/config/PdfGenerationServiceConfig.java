@@ -1,10 +1,12 @@
 package uk.gov.hmcts.reform.sscs.evidenceshare.config;
 
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.sscs.docmosis.service.DocmosisPdfGenerationService;
+import uk.gov.hmcts.reform.sscs.docmosis.service.RenderedDocumentCache;
 
 @Configuration
 public class PdfGenerationServiceConfig {
@@ -12,7 +14,9 @@ public class PdfGenerationServiceConfig {
     public DocmosisPdfGenerationService docmosisPdfGenerationService(
         @Value("${service.pdf-service.uri}") String pdfServiceEndpoint,
         @Value("${service.pdf-service.accessKey}") String pdfServiceAccessKey,
-        RestTemplate restTemplate) {
-        return new DocmosisPdfGenerationService(pdfServiceEndpoint, pdfServiceAccessKey, restTemplate);
+        RestTemplate restTemplate,
+        Optional<RenderedDocumentCache> renderedDocumentCache) {
+        return new DocmosisPdfGenerationService(pdfServiceEndpoint, pdfServiceAccessKey, restTemplate,
+            renderedDocumentCache.orElse(null));
     }
 }
@@ -5,20 +5,14 @@ import static java.util.Base64.getEncoder;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.YesNo.NO;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.multipdf.PDFMergerUtility;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,7 +28,9 @@ import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.evidenceshare.domain.FurtherEvidenceLetterType;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.BulkPrintException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.NonPdfBulkPrintException;
+import uk.gov.hmcts.reform.sscs.exception.PdfMergeException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.pdf.PdfMerger;
 
 @Service
 @Slf4j
@@ -55,19 +51,22 @@ public class BulkPrintService implements PrintService {
     private final Integer maxRetryAttempts;
     private final BulkPrintServiceHelper bulkPrintServiceHelper;
     private final CcdNotificationService ccdNotificationService;
+    private final PdfMerger pdfMerger;
 
     @Autowired
     public BulkPrintService(SendLetterApi sendLetterApi,
                             IdamService idamService,
                             BulkPrintServiceHelper bulkPrintServiceHelper,
                             @Value("${send-letter.enabled}") boolean sendLetterEnabled,
-                            @Value("${send-letter.maxRetryAttempts}") Integer maxRetryAttempts, CcdNotificationService ccdNotificationService) {
+                            @Value("${send-letter.maxRetryAttempts}") Integer maxRetryAttempts, CcdNotificationService ccdNotificationService,
+                            PdfMerger pdfMerger) {
         this.idamService = idamService;
         this.bulkPrintServiceHelper = bulkPrintServiceHelper;
         this.sendLetterApi = sendLetterApi;
         this.sendLetterEnabled = sendLetterEnabled;
         this.maxRetryAttempts = maxRetryAttempts;
         this.ccdNotificationService = ccdNotificationService;
+        this.pdfMerger = pdfMerger;
     }
 
     public Optional<UUID> sendToBulkPrint(List<Pdf> pdfs, final SscsCaseData sscsCaseData, FurtherEvidenceLetterType letterType, EventType event, String recipient) {
@@ -133,21 +132,9 @@ public class BulkPrintService implements PrintService {
 
     public byte[] buildBundledLetter(byte[] coverSheet, byte[] letter) {
         if (coverSheet != null) {
-            PDDocument bundledLetter;
-
             try {
-                bundledLetter = Loader.loadPDF(letter);
-                PDDocument loadDoc = Loader.loadPDF(coverSheet);
-
-                final PDFMergerUtility merger = new PDFMergerUtility();
-                merger.appendDocument(bundledLetter, loadDoc);
-
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                bundledLetter.save(baos);
-                bundledLetter.close();
-
-                return baos.toByteArray();
-            } catch (IOException e) {
+                return pdfMerger.merge("coversheet", Arrays.asList(letter, coverSheet), false);
+            } catch (PdfMergeException e) {
                 log.info("Failed to merge letter and coversheet with exception {}", e.getMessage());
             }
         }
@@ -165,22 +152,9 @@ public class BulkPrintService implements PrintService {
             return documents.getFirst();
         }
 
-        try (PDDocument bundledLetter = Loader.loadPDF(documents.getFirst())) {
-            final PDFMergerUtility merger = new PDFMergerUtility();
-            for (int i = 1; i < documents.size(); i++) {
-                if (documents.get(i) != null) {
-                    if (bundledLetter.getNumberOfPages() % 2 != 0) {
-                        bundledLetter.addPage(new PDPage(PDRectangle.A4));
-                    }
-                    try (PDDocument loadDoc = Loader.loadPDF(documents.get(i))) {
-                        merger.appendDocument(bundledLetter, loadDoc);
-                    }
-                }
-            }
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bundledLetter.save(baos);
-            return baos.toByteArray();
-        } catch (IOException e) {
+        try {
+            return pdfMerger.merge("bulkPrintLetter", documents, true);
+        } catch (PdfMergeException e) {
             log.error("Failed to merge documents with exception {}", e.getMessage());
             throw new BulkPrintException("Failed to merge documents with exception " + e.getMessage(), e);
         }
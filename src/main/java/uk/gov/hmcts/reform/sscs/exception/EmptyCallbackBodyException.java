@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.sscs.exception;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(BAD_REQUEST)
+public class EmptyCallbackBodyException extends IllegalArgumentException {
+    private static final long serialVersionUID = -3180934211470925712L;
+
+    public EmptyCallbackBodyException() {
+        super("Callback request body is missing");
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.sscs.exception;
+
+public class PdfMergeException extends RuntimeException {
+
+    public PdfMergeException(String message) {
+        super(message);
+    }
+
+    public PdfMergeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
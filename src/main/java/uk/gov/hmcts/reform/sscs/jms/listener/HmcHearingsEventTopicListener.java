@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.sscs.jms.listener;
 
+import static org.apache.qpid.jms.message.JmsMessageSupport.ACCEPTED;
+import static org.apache.qpid.jms.message.JmsMessageSupport.MODIFIED_FAILED;
+import static org.apache.qpid.jms.message.JmsMessageSupport.RELEASED;
 import static uk.gov.hmcts.reform.sscs.service.HmcHearingApi.HMCTS_DEPLOYMENT_ID;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -7,8 +10,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.jms.JMSException;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.qpid.jms.message.JmsBytesMessage;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jms.annotation.JmsListener;
@@ -29,11 +36,34 @@ public class HmcHearingsEventTopicListener {
 
     private final ProcessHmcMessageServiceV2 processHmcMessageServiceV2;
 
+    private final HmcMessageExecutor messageExecutor;
+
+    private final HmcMessageCoalescer messageCoalescer;
+
     @Value("${hmc.deployment-id}")
     private String hmctsDeploymentId;
 
     public HmcHearingsEventTopicListener(ProcessHmcMessageServiceV2 processHmcMessageServiceV2) {
+        this(processHmcMessageServiceV2, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * When keyed consumption is enabled the container uses individual acknowledgement and each message is handed to
+     * the worker lane for its case id. The worker settles the message once it has been processed: accepted on
+     * success, or modified as failed so Service Bus increments the delivery count and dead letters it after the
+     * subscription's max delivery count, the same as when the listener throws. Messages for the same hearing that
+     * arrive within the coalescing window are merged, and the superseded ones are accepted without being processed.
+     * A message whose lock has expired while it waited for a worker is released unprocessed, as Service Bus has
+     * already made it available again. Settling from the worker threads relies on Qpid handing acknowledgements to
+     * the connection's own I/O thread, so it does not race the listener thread's receives on the same session.
+     */
+    @Autowired
+    public HmcHearingsEventTopicListener(ProcessHmcMessageServiceV2 processHmcMessageServiceV2,
+                                         Optional<HmcMessageExecutor> messageExecutor,
+                                         Optional<HmcMessageCoalescer> messageCoalescer) {
         this.processHmcMessageServiceV2 = processHmcMessageServiceV2;
+        this.messageExecutor = messageExecutor.orElse(null);
+        this.messageCoalescer = messageCoalescer.orElse(null);
         this.objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
     }
@@ -44,6 +74,8 @@ public class HmcHearingsEventTopicListener {
         containerFactory = "hmcHearingsEventTopicContainerFactory"
     )
     public void onMessage(JmsBytesMessage message) throws JMSException, HmcEventProcessingException {
+        // the lock is already running, so time spent coalescing or waiting for a lane counts against it
+        long received = System.nanoTime();
         log.info("message deploymentId , {}", message.getStringProperty(HMCTS_DEPLOYMENT_ID));
         log.info("application deploymentId , {}", hmctsDeploymentId);
 
@@ -53,20 +85,21 @@ public class HmcHearingsEventTopicListener {
 
         try {
             HmcMessage hmcMessage = objectMapper.readValue(convertedMessage, HmcMessage.class);
-            Long caseId = hmcMessage.getCaseId();
-            String hearingId = hmcMessage.getHearingId();
-
-            log.info(
-                "Attempting to process message from HMC hearings topic for event {}, Case ID {}, and Hearing ID {}.",
-                hmcMessage.getHearingUpdate().getHmcStatus(),
-                caseId,
-                hearingId
-            );
-
-            processHmcMessageServiceV2.processEventMessage(hmcMessage);
+            if (messageExecutor == null) {
+                process(hmcMessage);
+            } else if (messageCoalescer == null) {
+                dispatch(message, hmcMessage, convertedMessage, received);
+            } else {
+                messageCoalescer.submit(hmcMessage.getHearingId(),
+                    () -> dispatch(message, hmcMessage, convertedMessage, received),
+                    () -> settle(message, ACCEPTED));
+            }
         } catch (JsonProcessingException | MessageProcessingException
                  | HearingUpdateException | ExhaustedRetryException ex) {
             log.error("Unable to successfully deliver HMC message: {}", convertedMessage, ex);
+            if (messageExecutor != null) {
+                settle(message, MODIFIED_FAILED);
+            }
             throw new HmcEventProcessingException(String.format(
                 "Unable to successfully deliver HMC message: %s",
                 convertedMessage
@@ -74,4 +107,48 @@ public class HmcHearingsEventTopicListener {
         }
     }
 
+    private void dispatch(JmsBytesMessage message, HmcMessage hmcMessage, String convertedMessage, long received) {
+        try {
+            messageExecutor.execute(Objects.hashCode(hmcMessage.getCaseId()),
+                hmcMessage.getHearingUpdate().getHmcStatus(), received,
+                () -> processAndSettle(message, hmcMessage, convertedMessage),
+                () -> settle(message, RELEASED));
+        } catch (RejectedExecutionException ex) {
+            // not the message's fault, so release it without counting a delivery attempt
+            log.error("Unable to queue HMC message for Case ID {}, releasing it", hmcMessage.getCaseId(), ex);
+            settle(message, RELEASED);
+        }
+    }
+
+    private void processAndSettle(JmsBytesMessage message, HmcMessage hmcMessage, String convertedMessage) {
+        try {
+            process(hmcMessage);
+            settle(message, ACCEPTED);
+        } catch (Exception ex) {
+            log.error("Unable to successfully deliver HMC message: {}", convertedMessage, ex);
+            settle(message, MODIFIED_FAILED);
+        }
+    }
+
+    private void process(HmcMessage hmcMessage) throws MessageProcessingException {
+        log.info(
+            "Attempting to process message from HMC hearings topic for event {}, Case ID {}, and Hearing ID {}.",
+            hmcMessage.getHearingUpdate().getHmcStatus(),
+            hmcMessage.getCaseId(),
+            hmcMessage.getHearingId()
+        );
+
+        processHmcMessageServiceV2.processEventMessage(hmcMessage);
+    }
+
+    private static void settle(JmsBytesMessage message, int ackType) {
+        try {
+            message.getAcknowledgeCallback().setAckType(ackType);
+            message.acknowledge();
+        } catch (JMSException ex) {
+            log.error("Unable to settle HMC message with ack type {}, it will be redelivered when its lock expires",
+                ackType, ex);
+        }
+    }
+
 }
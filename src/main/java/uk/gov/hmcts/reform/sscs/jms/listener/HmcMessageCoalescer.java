@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.sscs.jms.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds each HMC message for a short window keyed by hearing id. If another message for the same hearing arrives
+ * within the window the earlier one is superseded, so only the latest status is processed and HMC and CCD are called
+ * once per burst. A window of zero processes every message straight away.
+ *
+ * <p>When a window closes the message is handed to a single hand-off thread, which may block while the worker lanes
+ * are full, so the scheduler keeps closing other windows on time. The hand-off runs messages in the order their
+ * windows closed, so a hearing's later message is never queued ahead of an earlier one.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty({"flags.hmc-to-hearings-api.enabled",
+    "azure.service-bus.hmc-to-hearings-api.keyedConsumption.enabled"})
+public class HmcMessageCoalescer {
+
+    static final String COALESCED_COUNTER = "sscs.hmc.message.coalesced";
+    static final String PENDING_GAUGE = "sscs.hmc.message.coalescing.pending";
+
+    private final long windowMillis;
+    private final int maxPending;
+    private final Map<String, Pending> pending = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService handOff;
+    private final AtomicInteger handingOff = new AtomicInteger();
+    private final Counter coalescedCounter;
+
+    public HmcMessageCoalescer(
+        @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.coalesceWindowMillis:0}") long windowMillis,
+        @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.coalesceMaxPending:500}") int maxPending,
+        MeterRegistry meterRegistry) {
+        this.windowMillis = windowMillis;
+        this.maxPending = maxPending;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-message-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.handOff = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-message-coalescer-hand-off");
+            thread.setDaemon(true);
+            return thread;
+        });
+        coalescedCounter = Counter.builder(COALESCED_COUNTER)
+            .description("Number of HMC messages superseded by a later message for the same hearing")
+            .register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE, this, HmcMessageCoalescer::getPendingCount)
+            .description("Number of hearings with an HMC message waiting for the coalescing window to close")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code process} for the latest message of the hearing once the window closes, and {@code superseded} for
+     * a message that has been replaced by a later one.
+     */
+    public void submit(String hearingId, Runnable process, Runnable superseded) {
+        if (windowMillis <= 0) {
+            process.run();
+            return;
+        }
+
+        Pending replaced;
+        synchronized (pending) {
+            if (!pending.containsKey(hearingId) && pending.size() + handingOff.get() >= maxPending) {
+                replaced = null;
+            } else {
+                replaced = pending.put(hearingId, new Pending(process, superseded));
+                if (replaced == null) {
+                    scheduler.schedule(() -> flush(hearingId), windowMillis, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            }
+        }
+
+        if (replaced == null) {
+            log.warn("{} hearings are already waiting to be coalesced, processing hearing {} straight away",
+                maxPending, hearingId);
+            process.run();
+        } else {
+            log.info("HMC message for hearing {} superseded by a later message", hearingId);
+            coalescedCounter.increment();
+            replaced.superseded().run();
+        }
+    }
+
+    int getPendingCount() {
+        synchronized (pending) {
+            return pending.size() + handingOff.get();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        handOff.shutdownNow();
+        // unsettled messages are released when the connection closes and will be redelivered
+        log.info("HMC message coalescer stopped with {} hearings pending", getPendingCount());
+    }
+
+    private void flush(String hearingId) {
+        Pending latest;
+        synchronized (pending) {
+            latest = pending.remove(hearingId);
+            if (latest == null) {
+                return;
+            }
+            handingOff.incrementAndGet();
+        }
+        handOff.execute(() -> {
+            try {
+                latest.process().run();
+            } catch (RuntimeException ex) {
+                log.error("Unable to hand over coalesced HMC message for hearing {}", hearingId, ex);
+            } finally {
+                handingOff.decrementAndGet();
+            }
+        });
+    }
+
+    private record Pending(Runnable process, Runnable superseded) {
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.sscs.jms.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus;
+import uk.gov.hmcts.reform.sscs.util.KeyedLaneExecutor;
+
+/**
+ * Worker lanes for HMC hearing messages, keyed by case id. Messages for one case are processed in the order they were
+ * received from the topic while messages for different cases are processed in parallel.
+ *
+ * <p>A message stays locked by Service Bus only for the subscription's lock duration, counted from when it reaches
+ * the client's prefetch buffer, and the lock cannot be renewed over JMS. Everything prefetched or waiting in the lanes
+ * has to be processed within that time, so {@code queueCapacity} times the time a message takes to process should
+ * stay well inside {@code lockDuration}, which must match the subscription's setting. A message that has waited
+ * longer than {@code lockDuration} has already been made available again by Service Bus, so it is released without
+ * being processed rather than processed twice.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty({"flags.hmc-to-hearings-api.enabled",
+    "azure.service-bus.hmc-to-hearings-api.keyedConsumption.enabled"})
+public class HmcMessageExecutor extends KeyedLaneExecutor {
+
+    static final String METRIC_PREFIX = "sscs.hmc.message";
+    static final String LOCK_EXPIRED_COUNTER = METRIC_PREFIX + ".lock.expired";
+
+    private final Duration lockDuration;
+    private final Counter lockExpiredCounter;
+
+    public HmcMessageExecutor(
+        @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.workers:4}") int workers,
+        @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.queueCapacity:10}") int queueCapacity,
+        @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.enqueueTimeoutMillis:30000}")
+        long enqueueTimeoutMillis,
+        @Value("${azure.service-bus.hmc-to-hearings-api.keyedConsumption.lockDuration:PT1M}") Duration lockDuration,
+        MeterRegistry meterRegistry) {
+        super("hmc-message", METRIC_PREFIX, "HMC messages", workers, queueCapacity, enqueueTimeoutMillis,
+            meterRegistry);
+        this.lockDuration = lockDuration;
+        this.lockExpiredCounter = Counter.builder(LOCK_EXPIRED_COUNTER)
+            .description("Number of HMC messages whose lock expired before a worker reached them")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues {@code task} on the lane for the case. If the message has waited longer than the lock duration since
+     * {@code receivedNanos}, the {@link System#nanoTime()} at which the listener received it, by the time a worker
+     * reaches it, {@code lockExpired} is run instead.
+     */
+    public void execute(long caseId, HmcStatus status, long receivedNanos, Runnable task, Runnable lockExpired) {
+        execute(caseId, Tag.of("hmcStatus", String.valueOf(status)), () -> {
+            long waitedNanos = System.nanoTime() - receivedNanos;
+            if (waitedNanos >= lockDuration.toNanos()) {
+                lockExpiredCounter.increment();
+                log.warn("HMC message for Case ID {} waited {}ms, longer than the {}ms lock, skipping it", caseId,
+                    Duration.ofNanos(waitedNanos).toMillis(), lockDuration.toMillis());
+                lockExpired.run();
+            } else {
+                task.run();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.HashMap;
@@ -8,6 +9,7 @@ import java.util.Properties;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.spi.JobFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
@@ -16,6 +18,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzFailedJobRescheduler;
+import uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz.QuartzJobMetricsListener;
 
 @Configuration
 @ConfigurationProperties(prefix = "job.scheduler")
@@ -56,7 +59,8 @@ public class QuartzConfiguration {
         SchedulerFactoryBean factory,
         @Value("${job.scheduler.autoStart:true}") boolean autoStart,
         @Value("${job.scheduler.retryPolicy.maxNumberOfJobExecutions}") int maxJobExecutionAttempts,
-        @Value("${job.scheduler.retryPolicy.delayBetweenAttemptsInMs}") long delayBetweenAttemptsInMs
+        @Value("${job.scheduler.retryPolicy.delayBetweenAttemptsInMs}") long delayBetweenAttemptsInMs,
+        ObjectProvider<MeterRegistry> meterRegistry
     ) throws SchedulerException {
 
         Scheduler scheduler = factory.getScheduler();
@@ -68,6 +72,16 @@ public class QuartzConfiguration {
 
         scheduler.getListenerManager().addJobListener(failedJobRescheduler);
 
+        meterRegistry.ifAvailable(registry -> {
+            QuartzJobMetricsListener metricsListener = new QuartzJobMetricsListener(registry);
+            try {
+                scheduler.getListenerManager().addJobListener(metricsListener);
+                scheduler.getListenerManager().addTriggerListener(metricsListener);
+            } catch (SchedulerException e) {
+                throw new IllegalStateException("Could not add job metrics listener", e);
+            }
+        });
+
         if (autoStart) {
             scheduler.start();
         }
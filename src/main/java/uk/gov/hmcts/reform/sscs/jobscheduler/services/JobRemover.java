@@ -1,9 +1,16 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services;
 
+import java.util.Collection;
+
 public interface JobRemover {
 
     void remove(String jobId, String jobGroup);
 
     void removeGroup(String jobGroup);
 
+    /**
+     * Removes the jobs of all the groups together. Throws {@link JobNotFoundException} if none of the groups has jobs.
+     */
+    void removeGroups(Collection<String> jobGroups);
+
 }
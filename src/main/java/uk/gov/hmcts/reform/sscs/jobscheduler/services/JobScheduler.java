@@ -1,8 +1,15 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services;
 
+import java.util.List;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
 
 public interface JobScheduler {
 
     <T> String schedule(Job<T> job);
+
+    /**
+     * Schedules all the jobs together, so either all of them are stored or none are.
+     * Returns the job ids in the same order as the jobs.
+     */
+    List<String> scheduleAll(List<? extends Job<?>> jobs);
 }
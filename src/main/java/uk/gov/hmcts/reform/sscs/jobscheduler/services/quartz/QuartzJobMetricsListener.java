@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+/**
+ * Records how late jobs start compared to when they were scheduled, how long they run and how many triggers
+ * misfire. Jobs are tagged with their name (the reminder or notification event), not their group, as every case
+ * has its own group.
+ */
+public class QuartzJobMetricsListener implements JobListener, TriggerListener {
+
+    static final String TRIGGER_LAG_TIMER = "sscs.job.scheduler.trigger.lag";
+    static final String JOB_DURATION_TIMER = "sscs.job.scheduler.job.duration";
+    static final String MISFIRE_COUNTER = "sscs.job.scheduler.misfires";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public QuartzJobMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return "Job Metrics";
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        Date scheduledFireTime = context.getScheduledFireTime();
+        Date fireTime = context.getFireTime();
+        if (scheduledFireTime != null && fireTime != null) {
+            Timer.builder(TRIGGER_LAG_TIMER)
+                .description("Time from when a job was scheduled to fire until it started")
+                .tag("job", jobName(context))
+                .register(meterRegistry)
+                .record(Math.max(0, fireTime.getTime() - scheduledFireTime.getTime()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        // nothing to do
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        Timer.builder(JOB_DURATION_TIMER)
+            .description("Time taken to run a job")
+            .tag("job", jobName(context))
+            .tag("outcome", jobException == null ? "success" : "failure")
+            .register(meterRegistry)
+            .record(Math.max(0, context.getJobRunTime()), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        // nothing to do
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        Counter.builder(MISFIRE_COUNTER)
+            .description("Number of triggers that missed their fire time")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                CompletedExecutionInstruction triggerInstructionCode) {
+        // nothing to do
+    }
+
+    private static String jobName(JobExecutionContext context) {
+        String description = context.getJobDetail().getDescription();
+        return description != null ? description : UNKNOWN;
+    }
+}
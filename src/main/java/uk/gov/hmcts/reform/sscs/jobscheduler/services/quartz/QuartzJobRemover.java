@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.quartz.JobKey;
@@ -63,4 +65,24 @@ public class QuartzJobRemover implements JobRemover {
         }
     }
 
+    public void removeGroups(Collection<String> jobGroups) {
+        try {
+
+            List<JobKey> jobKeys = new ArrayList<>();
+            for (String jobGroup : jobGroups) {
+                jobKeys.addAll(scheduler.getJobKeys(GroupMatcher.groupEquals(jobGroup)));
+            }
+
+            if (jobKeys.isEmpty() || !scheduler.deleteJobs(jobKeys)) {
+                throw new JobNotFoundException("Groups: " + String.join(", ", jobGroups));
+            }
+
+        } catch (SchedulerException e) {
+            throw new JobException(
+                "Error while removing Jobs by Group. Groups: " + String.join(", ", jobGroups),
+                e
+            );
+        }
+    }
+
 }
@@ -4,9 +4,17 @@ import static org.quartz.JobBuilder.newJob;
 import static org.quartz.TriggerBuilder.newTrigger;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import org.quartz.JobDetail;
 import org.quartz.Scheduler;
+import org.quartz.Trigger;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.JobDataKeys;
@@ -29,16 +37,8 @@ public class QuartzJobScheduler implements JobScheduler {
         try {
             String jobId = UUID.randomUUID().toString();
 
-            Class<T> payloadClass = (Class<T>) job.payload.getClass();
-            JobClassMapping<T> jobMapping = jobClassMapper.getJobMapping(payloadClass);
-
             scheduler.scheduleJob(
-                newJob(QuartzExecutionHandler.class)
-                    .withIdentity(jobId, job.group)
-                    .withDescription(job.name)
-                    .usingJobData(JobDataKeys.PAYLOAD, jobMapping.serialize(job.payload))
-                    .requestRecovery()
-                    .build(),
+                toQuartzJob(jobId, job),
                 toQuartzTrigger(job.triggerAt)
             );
 
@@ -49,7 +49,41 @@ public class QuartzJobScheduler implements JobScheduler {
         }
     }
 
-    private static org.quartz.Trigger toQuartzTrigger(ZonedDateTime triggerDateTime) {
+    public List<String> scheduleAll(List<? extends Job<?>> jobs) {
+        try {
+            List<String> jobIds = new ArrayList<>();
+            Map<JobDetail, Set<? extends Trigger>> jobsAndTriggers = new LinkedHashMap<>();
+
+            for (Job<?> job : jobs) {
+                String jobId = UUID.randomUUID().toString();
+                jobsAndTriggers.put(toQuartzJob(jobId, job), Collections.singleton(toQuartzTrigger(job.triggerAt)));
+                jobIds.add(jobId);
+            }
+
+            if (!jobsAndTriggers.isEmpty()) {
+                scheduler.scheduleJobs(jobsAndTriggers, false);
+            }
+
+            return jobIds;
+
+        } catch (Exception e) {
+            throw new JobException("Error while scheduling jobs", e);
+        }
+    }
+
+    private <T> JobDetail toQuartzJob(String jobId, Job<T> job) {
+        Class<T> payloadClass = (Class<T>) job.payload.getClass();
+        JobClassMapping<T> jobMapping = jobClassMapper.getJobMapping(payloadClass);
+
+        return newJob(QuartzExecutionHandler.class)
+            .withIdentity(jobId, job.group)
+            .withDescription(job.name)
+            .usingJobData(JobDataKeys.PAYLOAD, jobMapping.serialize(job.payload))
+            .requestRecovery()
+            .build();
+    }
+
+    private static Trigger toQuartzTrigger(ZonedDateTime triggerDateTime) {
         return newTrigger()
             .startAt(Date.from(triggerDateTime.toInstant()))
             .usingJobData(JobDataKeys.ATTEMPT, 1)
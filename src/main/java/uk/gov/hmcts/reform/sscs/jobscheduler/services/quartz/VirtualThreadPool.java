@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import java.util.concurrent.ThreadFactory;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs each job on its own virtual thread, so jobs waiting on CCD or GOV.UK Notify do not tie up platform threads.
+ * {@code threadCount} caps how many jobs run at once; the scheduler only acquires triggers while there is room
+ * for them.
+ *
+ * <p>Configured with {@code org.quartz.threadPool.class} and {@code org.quartz.threadPool.threadCount}.
+ */
+public class VirtualThreadPool implements ThreadPool {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+    private final Object lock = new Object();
+
+    private int threadCount = -1;
+    private String threadNamePrefix;
+    private String schedulerInstanceName;
+    private ThreadFactory threadFactory;
+    private int running;
+    private boolean shutdown;
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (threadCount <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+        String prefix = threadNamePrefix != null ? threadNamePrefix : schedulerInstanceName + "_Worker-";
+        threadFactory = Thread.ofVirtual().name(prefix, 1).factory();
+        log.info("Running at most {} jobs at once on virtual threads", threadCount);
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null) {
+            return false;
+        }
+        synchronized (lock) {
+            while (running >= threadCount && !shutdown) {
+                try {
+                    lock.wait(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            if (shutdown) {
+                return false;
+            }
+            running++;
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    finished();
+                }
+            }).start();
+            return true;
+        } catch (RuntimeException e) {
+            finished();
+            throw e;
+        }
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        synchronized (lock) {
+            while (running >= threadCount && !shutdown) {
+                try {
+                    lock.wait(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return Math.max(0, threadCount - running);
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+            if (waitForJobsToComplete) {
+                while (running > 0) {
+                    try {
+                        lock.wait(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return threadCount;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        // not needed
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.schedulerInstanceName = schedName;
+    }
+
+    int getRunningCount() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    private void finished() {
+        synchronized (lock) {
+            running--;
+            lock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package uk.gov.hmcts.reform.sscs.pdf;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.sscs.exception.PdfMergeException;
+
+/**
+ * Merges letters and bundles into one PDF. PDFBox keeps up to {@code maxHeapBytes} of the documents being merged in
+ * memory and the rest in scratch files, and the merged document is written to a temporary file rather than a buffer,
+ * so a large bundle does not need its whole size in heap several times over. Merges bigger than the configured limits
+ * are refused before any document is loaded, or as soon as the page limit is passed.
+ */
+@Slf4j
+@Service
+public class PdfMerger {
+
+    static final String MERGE_TIMER = "sscs.pdf.merge";
+    static final String MERGE_PAGES = "sscs.pdf.merge.pages";
+    static final String MERGE_ALLOCATED = "sscs.pdf.merge.allocated";
+
+    private final long maxHeapBytes;
+    private final long maxInputBytes;
+    private final int maxPages;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public PdfMerger(@Value("${pdf.merge.maxHeapBytes:33554432}") long maxHeapBytes,
+                     @Value("${pdf.merge.maxInputBytes:524288000}") long maxInputBytes,
+                     @Value("${pdf.merge.maxPages:10000}") int maxPages,
+                     MeterRegistry meterRegistry) {
+        this.maxHeapBytes = maxHeapBytes;
+        this.maxInputBytes = maxInputBytes;
+        this.maxPages = maxPages;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Appends the documents to the first one in order, skipping nulls. With {@code padToEvenPages} a blank A4 page is
+     * added before a document that would otherwise start on the back of the previous one's last page.
+     *
+     * @throws PdfMergeException if a document cannot be read or the merge is over the configured limits
+     */
+    public byte[] merge(String mergeName, List<byte[]> documents, boolean padToEvenPages) {
+        List<byte[]> sources = documents.stream().filter(Objects::nonNull).toList();
+        if (sources.isEmpty()) {
+            throw new PdfMergeException("No documents to merge");
+        }
+        long inputBytes = sources.stream().mapToLong(source -> source.length).sum();
+        if (inputBytes > maxInputBytes) {
+            record(mergeName, "refused", 0, 0, 0);
+            log.warn("Refusing to merge {} documents of {} bytes for {}, the limit is {} bytes",
+                sources.size(), inputBytes, mergeName, maxInputBytes);
+            throw new PdfMergeException("Documents of " + inputBytes + " bytes are over the merge limit of "
+                + maxInputBytes + " bytes");
+        }
+
+        long start = System.nanoTime();
+        long allocatedBefore = allocatedBytes();
+        String outcome = "failure";
+        int pages = 0;
+        Path output = null;
+        try {
+            output = Files.createTempFile("pdfMerge", ".pdf");
+            pages = mergeInto(output, sources, padToEvenPages);
+            byte[] merged = Files.readAllBytes(output);
+            outcome = "success";
+            return merged;
+        } catch (PdfMergeException e) {
+            outcome = "refused";
+            throw e;
+        } catch (IOException e) {
+            throw new PdfMergeException(e.getMessage(), e);
+        } finally {
+            record(mergeName, outcome, pages, allocatedBytes() - allocatedBefore, System.nanoTime() - start);
+            if (output != null) {
+                deleteTempFile(output);
+            }
+        }
+    }
+
+    private int mergeInto(Path output, List<byte[]> sources, boolean padToEvenPages) throws IOException {
+        StreamCacheCreateFunction streamCache = MemoryUsageSetting.setupMixed(maxHeapBytes).streamCache;
+        try (PDDocument merged = Loader.loadPDF(sources.getFirst(), "", null, null, streamCache)) {
+            final PDFMergerUtility merger = new PDFMergerUtility();
+            for (int i = 1; i < sources.size(); i++) {
+                if (padToEvenPages && merged.getNumberOfPages() % 2 != 0) {
+                    merged.addPage(new PDPage(PDRectangle.A4));
+                }
+                try (PDDocument source = Loader.loadPDF(sources.get(i), "", null, null, streamCache)) {
+                    merger.appendDocument(merged, source);
+                }
+                checkPages(merged.getNumberOfPages());
+            }
+            checkPages(merged.getNumberOfPages());
+            merged.save(output.toFile());
+            return merged.getNumberOfPages();
+        }
+    }
+
+    private void checkPages(int pages) {
+        if (pages > maxPages) {
+            throw new PdfMergeException("Merged document of " + pages + " pages is over the merge limit of "
+                + maxPages + " pages");
+        }
+    }
+
+    // bytes allocated by this thread stand in for the merge's memory use, the heap itself is shared with other work
+    private static long allocatedBytes() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (threadMxBean instanceof com.sun.management.ThreadMXBean allocationMxBean
+            && allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationMxBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static void deleteTempFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", file, e);
+        }
+    }
+
+    private void record(String mergeName, String outcome, int pages, long allocated, long nanos) {
+        Timer.builder(MERGE_TIMER)
+            .description("Time taken to merge documents into one PDF")
+            .tag("merge", mergeName)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+        if (!"success".equals(outcome)) {
+            return;
+        }
+        DistributionSummary.builder(MERGE_PAGES)
+            .description("Pages in a merged PDF")
+            .tag("merge", mergeName)
+            .register(meterRegistry)
+            .record(pages);
+        DistributionSummary.builder(MERGE_ALLOCATED)
+            .description("Heap allocated while merging documents into one PDF")
+            .baseUnit("bytes")
+            .tag("merge", mergeName)
+            .register(meterRegistry)
+            .record(allocated);
+    }
+}
@@ -1,8 +1,10 @@
 package uk.gov.hmcts.reform.sscs.pdf;
 
 import java.awt.*;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.*;
@@ -21,14 +23,22 @@ public class PdfWatermarker {
 
     private static final float SCALE_PERCENTAGE = .88f;
     private static final float margin = 45f;
+    private static final String FONT_RESOURCE = "/org/apache/pdfbox/resources/ttf/LiberationSans-Regular.ttf";
+
+    // read once and shared by every document watermarked, each document then embeds it once for all its pages
+    private final byte[] fontBytes = readFont();
 
     public byte[] shrinkAndWatermarkPdf(byte[] input, String leftText, String rightText) throws Exception {
         try (PDDocument document = Loader.loadPDF(input)) {
             document.setAllSecurityToBeRemoved(true);
+            PDFont font = null;
             int count = 1;
             for (PDPage page : document.getPages()) {
+                if (font == null) {
+                    font = loadFont(document);
+                }
                 scaleContent(document, page, SCALE_PERCENTAGE);
-                addFooterText(document, page, leftText, rightText + " | Page " + count++);
+                addFooterText(document, page, font, leftText, rightText + " | Page " + count++);
             }
 
             PdfACompliance p1a = new PdfACompliance();
@@ -42,17 +52,17 @@ public class PdfWatermarker {
         }
     }
 
-    // TODO amend this to be appropriately styled / designed / spaced - also bear in mind lower margins
-    // need to be in place for bulk print support which will define the text positioning.
-    private void addFooterText(PDDocument document, PDPage page, String leftText, String rightText)  throws IOException {
-
-        // NB we need to embed the font for PDF/A compliance.
-        // Loading it here causes it to be embedded into the resulting PDF doc.
-        // Note this TTF file is included in pdfbox 2.x, there don't seem to be any others available
-        // - the running code can load form the deployed system but if this is likely to be a Docker image there's
-        // no guarantee it will have any TTF fonts present. If we want something else we'll likely have to embed
-        // it into the code base, and be really careful about licensing.
-        PDFont font;
+    // NB we need to embed the font for PDF/A compliance.
+    // Loading it here causes it to be embedded into the resulting PDF doc.
+    // Note this TTF file is included in pdfbox 2.x, there don't seem to be any others available
+    // - the running code can load form the deployed system but if this is likely to be a Docker image there's
+    // no guarantee it will have any TTF fonts present. If we want something else we'll likely have to embed
+    // it into the code base, and be really careful about licensing.
+    private PDFont loadFont(PDDocument document) throws IOException {
+        return PDType0Font.load(document, new ByteArrayInputStream(fontBytes), true);
+    }
+
+    private byte[] readFont() {
         /**
          * The input stream here is automatically closed by this try-with-resources statement.
          * If there is an exception closing the input stream, the InputStreamWrapper will
@@ -62,12 +72,16 @@ public class PdfWatermarker {
          * assign the InputStream itself in the try-with-resources statement and the input stream would
          * be safely closed (eg.  try (InputStream inputStream = this.getClass().getResourceAsStream(... )) {
          */
-        try (InputStreamWrapper fontStreamWrapper = new InputStreamWrapper(log, this.getClass().getResourceAsStream(
-            "/org/apache/pdfbox/resources/ttf/LiberationSans-Regular.ttf"))) {
-
-            font = PDType0Font.load(document, fontStreamWrapper.get(), true);
-
+        try (InputStreamWrapper fontStreamWrapper = new InputStreamWrapper(log, this.getClass().getResourceAsStream(FONT_RESOURCE))) {
+            return fontStreamWrapper.get().readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the footer font " + FONT_RESOURCE, e);
         }
+    }
+
+    // TODO amend this to be appropriately styled / designed / spaced - also bear in mind lower margins
+    // need to be in place for bulk print support which will define the text positioning.
+    private void addFooterText(PDDocument document, PDPage page, PDFont font, String leftText, String rightText)  throws IOException {
 
         float fontSize = 12f;
 
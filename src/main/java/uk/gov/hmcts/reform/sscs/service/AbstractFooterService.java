@@ -2,10 +2,26 @@ package uk.gov.hmcts.reform.sscs.service;
 
 import static uk.gov.hmcts.reform.sscs.ccd.callback.DocumentType.*;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ComparatorUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -26,13 +42,36 @@ import uk.gov.hmcts.reform.sscs.pdf.PdfWatermarker;
 @Slf4j
 public abstract class AbstractFooterService<D extends AbstractDocument> {
 
+    static final String PDF_STATE_CACHE = "sscs.pdf.readable.states";
+    static final String FOOTER_TIMER = "sscs.footer.stamp";
+    static final String FOOTER_BATCH_TIMER = "sscs.footer.stamp.batch";
     private static final String DM_STORE_USER_ID = "sscs";
+    private static final byte[] PDF_HEADER = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+
     private final PdfStoreService pdfStoreService;
     private final PdfWatermarker alter;
+    private final Semaphore readableCheckPermits;
+    private final Semaphore footerPermits;
+    private final Cache<String, PdfState> pdfStates;
+    private final MeterRegistry meterRegistry;
 
-    public AbstractFooterService(PdfStoreService pdfStoreService, PdfWatermarker alter) {
+    /**
+     * Readability verdicts are remembered by document URL, as a stored document never changes. At most
+     * {@code readableCheckConcurrency} documents are downloaded and checked, and at most {@code footerConcurrency}
+     * documents stamped, at once by this service.
+     */
+    public AbstractFooterService(PdfStoreService pdfStoreService, PdfWatermarker alter, int readableCheckConcurrency,
+                                 long pdfStateCacheSize, int footerConcurrency, MeterRegistry meterRegistry) {
         this.pdfStoreService = pdfStoreService;
         this.alter = alter;
+        this.readableCheckPermits = new Semaphore(readableCheckConcurrency);
+        this.footerPermits = new Semaphore(footerConcurrency);
+        this.meterRegistry = meterRegistry;
+        this.pdfStates = CacheBuilder.newBuilder()
+            .maximumSize(pdfStateCacheSize)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, pdfStates, PDF_STATE_CACHE, "service", getClass().getSimpleName());
     }
 
     public FooterDetails addFooterToExistingToContentAndCreateNewUrl(DocumentLink url, List<D> documents, DocumentType documentType, String overrideFileName, String dateIssued) {
@@ -69,6 +108,71 @@ public abstract class AbstractFooterService<D extends AbstractDocument> {
 
 
     public DocumentLink addFooter(DocumentLink url, String leftText, String rightText) {
+        long start = System.nanoTime();
+        boolean stamped = false;
+        try {
+            DocumentLink newUrl = stampAndStore(url, leftText, rightText);
+            stamped = true;
+            return newUrl;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            log.info("Adding footer {} to {} took {} ms", rightText, url.getDocumentUrl(), TimeUnit.NANOSECONDS.toMillis(nanos));
+            record(FOOTER_TIMER, stamped, nanos);
+        }
+    }
+
+    /**
+     * Stamps several documents at once, returning the new links in the order the requests were given. Each request
+     * carries its own bundle addition, so the lettering is the same as stamping them one after another.
+     */
+    public List<DocumentLink> addFooters(List<FooterRequest> footerRequests) {
+        if (footerRequests.size() <= 1) {
+            return footerRequests.stream()
+                .map(footerRequest -> addFooter(footerRequest.url(), footerRequest.leftText(), footerRequest.rightText()))
+                .toList();
+        }
+
+        long start = System.nanoTime();
+        boolean stamped = false;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<DocumentLink>> footers = footerRequests.stream()
+                .map(footerRequest -> executor.submit(() -> addFooterWithPermit(footerRequest)))
+                .toList();
+            List<DocumentLink> newUrls = new ArrayList<>();
+            try {
+                for (Future<DocumentLink> footer : footers) {
+                    newUrls.add(footer.get());
+                }
+            } catch (ExecutionException e) {
+                footers.forEach(footer -> footer.cancel(true));
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                footers.forEach(footer -> footer.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while adding footers", e);
+            }
+            stamped = true;
+            return newUrls;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            log.info("Adding footers to {} documents took {} ms", footerRequests.size(), TimeUnit.NANOSECONDS.toMillis(nanos));
+            record(FOOTER_BATCH_TIMER, stamped, nanos);
+        }
+    }
+
+    private DocumentLink addFooterWithPermit(FooterRequest footerRequest) throws InterruptedException {
+        footerPermits.acquire();
+        try {
+            return addFooter(footerRequest.url(), footerRequest.leftText(), footerRequest.rightText());
+        } finally {
+            footerPermits.release();
+        }
+    }
+
+    private DocumentLink stampAndStore(DocumentLink url, String leftText, String rightText) {
 
         byte[] oldContent = toBytes(url.getDocumentUrl());
         byte[] newContent;
@@ -91,6 +195,14 @@ public abstract class AbstractFooterService<D extends AbstractDocument> {
         }
     }
 
+    private void record(String timerName, boolean stamped, long nanos) {
+        Timer.builder(timerName)
+            .description("Time taken to add footers to documents")
+            .tag("outcome", stamped ? "success" : "failure")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
     public String getNextBundleAddition(List<D> sscsDocument) {
         if (sscsDocument == null) {
             sscsDocument = new ArrayList<>();
@@ -129,7 +241,86 @@ public abstract class AbstractFooterService<D extends AbstractDocument> {
     }
 
     public PdfState isReadablePdf(String documentUrl) {
-        try (PDDocument document = Loader.loadPDF(toBytes(documentUrl))) {
+        PdfState cached = pdfStates.getIfPresent(documentUrl);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] content;
+        try {
+            content = toBytes(documentUrl);
+        } catch (Exception e) {
+            // a failed download says nothing about the document, so it is not remembered
+            log.error("Error while downloading the PDF with URL:{}, Exception:{}", documentUrl, e.getMessage());
+            return PdfState.UNREADABLE;
+        }
+        if (content == null) {
+            log.error("No content downloaded for the PDF with URL:{}", documentUrl);
+            return PdfState.UNREADABLE;
+        }
+
+        PdfState pdfState = checkPdf(documentUrl, content);
+        pdfStates.put(documentUrl, pdfState);
+        return pdfState;
+    }
+
+    /**
+     * Checks several documents at once, returning the verdicts in the order the URLs were given. Documents already
+     * checked are answered from the cache, the rest are downloaded and checked concurrently.
+     */
+    public Map<String, PdfState> isReadablePdfs(Collection<String> documentUrls) {
+        Map<String, PdfState> pdfStatesByUrl = new LinkedHashMap<>();
+        List<String> unchecked = new ArrayList<>();
+        for (String documentUrl : new LinkedHashSet<>(documentUrls)) {
+            PdfState cached = pdfStates.getIfPresent(documentUrl);
+            pdfStatesByUrl.put(documentUrl, cached);
+            if (cached == null) {
+                unchecked.add(documentUrl);
+            }
+        }
+
+        if (unchecked.size() == 1) {
+            pdfStatesByUrl.put(unchecked.get(0), isReadablePdf(unchecked.get(0)));
+        } else if (!unchecked.isEmpty()) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Map<String, Future<PdfState>> checks = new LinkedHashMap<>();
+                unchecked.forEach(documentUrl -> checks.put(documentUrl, executor.submit(() -> isReadablePdfWithPermit(documentUrl))));
+                checks.forEach((documentUrl, check) -> pdfStatesByUrl.put(documentUrl, await(documentUrl, check)));
+            }
+        }
+        return pdfStatesByUrl;
+    }
+
+    private PdfState isReadablePdfWithPermit(String documentUrl) throws InterruptedException {
+        readableCheckPermits.acquire();
+        try {
+            return isReadablePdf(documentUrl);
+        } finally {
+            readableCheckPermits.release();
+        }
+    }
+
+    private PdfState await(String documentUrl, Future<PdfState> check) {
+        try {
+            return check.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while checking the PDF with URL:{}", documentUrl);
+            return PdfState.UNKNOWN;
+        } catch (ExecutionException e) {
+            log.error("Error while checking the PDF with URL:{}, Exception:{}", documentUrl, e.getCause().getMessage());
+            return PdfState.UNREADABLE;
+        }
+    }
+
+    private PdfState checkPdf(String documentUrl, byte[] content) {
+        // the parser looks for this header before anything else, so content without it would fail to load anyway
+        if (!hasPdfHeader(content)) {
+            log.error("Error while reading the PDF with URL:{}, Exception:no PDF header found", documentUrl);
+            return PdfState.UNREADABLE;
+        }
+
+        try (PDDocument document = Loader.loadPDF(content)) {
 
             PdfACompliance p1a = new PdfACompliance();
             p1a.makeCompliant(document);
@@ -143,4 +334,14 @@ public abstract class AbstractFooterService<D extends AbstractDocument> {
             return PdfState.UNREADABLE;
         }
     }
+
+    private static boolean hasPdfHeader(byte[] content) {
+        int searchEnd = content.length - PDF_HEADER.length;
+        for (int start = 0; start <= searchEnd; start++) {
+            if (Arrays.equals(content, start, start + PDF_HEADER.length, PDF_HEADER, 0, PDF_HEADER.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
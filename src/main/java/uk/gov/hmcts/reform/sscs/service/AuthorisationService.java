@@ -2,11 +2,29 @@ package uk.gov.hmcts.reform.sscs.service;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.auth.checker.core.RequestAuthorizer;
@@ -24,6 +42,11 @@ import uk.gov.hmcts.reform.sscs.bulkscan.exceptions.UnauthorizedException;
 import uk.gov.hmcts.reform.sscs.service.exceptions.AuthorisationException;
 import uk.gov.hmcts.reform.sscs.service.exceptions.ClientAuthorisationException;
 
+/**
+ * Checks service to service tokens. A token s2s has verified is remembered, keyed by its hash, until shortly before
+ * its {@code exp} claim or for at most {@code s2s.verified-token-cache.maxTtl}, so callbacks from the same service do
+ * not each wait on s2s. Tokens without an {@code exp} claim, and tokens s2s rejects, are never remembered.
+ */
 @Component
 @Slf4j
 public class AuthorisationService implements RequestAuthorizer<Service> {
@@ -34,6 +57,10 @@ public class AuthorisationService implements RequestAuthorizer<Service> {
     public static final String CCD = "ccd_data";
     public static final String BULK_SCAN_PROC = "bulk_scan_processor";
     public static final String BULK_SCAN_ORCH = "bulk_scan_orchestrator";
+    static final String VERIFIED_TOKEN_CACHE = "s2s.verified.tokens";
+    static final String VERIFICATION_TIMER = "sscs.s2s.verification";
+    private static final Duration EXPIRY_LEEWAY = Duration.ofSeconds(30);
+    private static final String BEARER_PREFIX = "Bearer ";
 
     private final List<String> allowedServices;
     private final List<String> sscsOnlyEndpoints;
@@ -42,26 +69,62 @@ public class AuthorisationService implements RequestAuthorizer<Service> {
 
     private final ServiceAuthorisationApi serviceAuthorisationApi;
     private final SubjectResolver<Service> serviceResolver;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Duration verifiedTokenMaxTtl;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ObjectMapper mapper = new ObjectMapper();
 
+    @Autowired
     public AuthorisationService(ServiceAuthorisationApi serviceAuthorisationApi,
                                 SubjectResolver<Service> serviceResolver,
                                 @Value("${allowed-services-for-callback}") List<String> allowedServices,
                                 @Value("${s2s.service-to-endpoint-mapping.sscs}") List<String> sscsOnlyEndpoints,
                                 @Value("${s2s.service-to-endpoint-mapping.ccd}") List<String> ccdOnlyEndpoints,
                                 @Value("${s2s.service-to-endpoint-mapping.bulkscan}")
-                                List<String> bulkScanOnlyEndpoints) {
+                                List<String> bulkScanOnlyEndpoints,
+                                @Value("${s2s.verified-token-cache.maxTtl:PT5M}") Duration verifiedTokenMaxTtl,
+                                @Value("${s2s.verified-token-cache.maximumSize:1000}") long verifiedTokenMaximumSize,
+                                MeterRegistry meterRegistry) {
+        this(serviceAuthorisationApi, serviceResolver, allowedServices, sscsOnlyEndpoints, ccdOnlyEndpoints,
+            bulkScanOnlyEndpoints, verifiedTokenMaxTtl, verifiedTokenMaximumSize, meterRegistry, Clock.systemUTC());
+    }
+
+    AuthorisationService(ServiceAuthorisationApi serviceAuthorisationApi,
+                         SubjectResolver<Service> serviceResolver,
+                         List<String> allowedServices,
+                         List<String> sscsOnlyEndpoints,
+                         List<String> ccdOnlyEndpoints,
+                         List<String> bulkScanOnlyEndpoints,
+                         Duration verifiedTokenMaxTtl,
+                         long verifiedTokenMaximumSize,
+                         MeterRegistry meterRegistry,
+                         Clock clock) {
         this.serviceAuthorisationApi = serviceAuthorisationApi;
         this.allowedServices = allowedServices;
         this.sscsOnlyEndpoints = sscsOnlyEndpoints;
         this.ccdOnlyEndpoints = ccdOnlyEndpoints;
         this.bulkScanOnlyEndpoints = bulkScanOnlyEndpoints;
         this.serviceResolver = serviceResolver;
+        this.verifiedTokenMaxTtl = verifiedTokenMaxTtl;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        if (verifiedTokenMaxTtl.isZero() || verifiedTokenMaxTtl.isNegative()) {
+            this.verifiedTokens = null;
+        } else {
+            this.verifiedTokens = CacheBuilder.newBuilder()
+                .expireAfterWrite(verifiedTokenMaxTtl)
+                .maximumSize(verifiedTokenMaximumSize)
+                .recordStats()
+                .build();
+            GuavaCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_TOKEN_CACHE);
+        }
     }
 
     public boolean authorise(String serviceAuthHeader) {
         try {
             LOG.info("About to authorise request");
-            serviceAuthorisationApi.getServiceName(serviceAuthHeader);
+            getServiceName(serviceAuthHeader);
             LOG.info("Request authorised");
             return true;
         } catch (FeignException exc) {
@@ -100,7 +163,7 @@ public class AuthorisationService implements RequestAuthorizer<Service> {
             throw new UnauthorizedException("Missing ServiceAuthorization header");
         }
         try {
-            var serviceName = serviceAuthorisationApi.getServiceName(authHeader);
+            var serviceName = getServiceName(authHeader);
             log.info("Authorising service {} to access endpoint", serviceName);
             return  serviceName;
         } catch (FeignException exc) {
@@ -111,6 +174,79 @@ public class AuthorisationService implements RequestAuthorizer<Service> {
         }
     }
 
+    private String getServiceName(String serviceAuthHeader) {
+        if (verifiedTokens == null || serviceAuthHeader == null) {
+            return verify(serviceAuthHeader);
+        }
+        String key = hash(serviceAuthHeader);
+        Instant now = clock.instant();
+        VerifiedToken verified = verifiedTokens.getIfPresent(key);
+        if (verified != null) {
+            if (now.isBefore(verified.rememberUntil())) {
+                return verified.serviceName();
+            }
+            verifiedTokens.invalidate(key);
+        }
+
+        String serviceName = verify(serviceAuthHeader);
+        Instant expiry = getExpiry(serviceAuthHeader);
+        if (expiry != null) {
+            Instant rememberUntil = expiry.minus(EXPIRY_LEEWAY);
+            Instant latest = now.plus(verifiedTokenMaxTtl);
+            if (rememberUntil.isAfter(latest)) {
+                rememberUntil = latest;
+            }
+            if (rememberUntil.isAfter(now)) {
+                verifiedTokens.put(key, new VerifiedToken(serviceName, rememberUntil));
+            }
+        }
+        return serviceName;
+    }
+
+    private String verify(String serviceAuthHeader) {
+        long start = System.nanoTime();
+        boolean verified = false;
+        try {
+            String serviceName = serviceAuthorisationApi.getServiceName(serviceAuthHeader);
+            verified = true;
+            return serviceName;
+        } finally {
+            Timer.builder(VERIFICATION_TIMER)
+                .description("Time taken for s2s to verify a service token")
+                .tag("outcome", verified ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The {@code exp} claim of the token, or null if it does not have one or is not a JWT. The signature is not
+     * checked here, s2s has already verified the token before this is used.
+     */
+    private Instant getExpiry(String serviceAuthHeader) {
+        String token = serviceAuthHeader.startsWith(BEARER_PREFIX)
+            ? serviceAuthHeader.substring(BEARER_PREFIX.length()) : serviceAuthHeader;
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode exp = mapper.readTree(Base64.getUrlDecoder().decode(parts[1])).path("exp");
+            return exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String hash(String serviceAuthHeader) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(serviceAuthHeader.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     private Service getTokenDetails(String bearerToken) {
         try {
             return serviceResolver.getTokenDetails(bearerToken);
@@ -129,4 +265,7 @@ public class AuthorisationService implements RequestAuthorizer<Service> {
             default -> false;
         };
     }
+
+    private record VerifiedToken(String serviceName, Instant rememberUntil) {
+    }
 }
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Business days (weekdays that are not holidays) over a range of dates, precomputed so moving forward a number of
+ * business days is two array lookups. For each day it holds how many business days come before it, and for each
+ * business day its date.
+ */
+final class BusinessDayIndex {
+
+    private final Set<LocalDate> holidays;
+    private final LocalDate start;
+    private final int[] businessDaysBefore;
+    private final int[] businessDayOffsets;
+
+    BusinessDayIndex(Set<LocalDate> holidays, LocalDate start, LocalDate end) {
+        this.holidays = holidays;
+        this.start = start;
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        this.businessDaysBefore = new int[days];
+        int[] offsets = new int[days];
+        int count = 0;
+        for (int i = 0; i < days; i++) {
+            businessDaysBefore[i] = count;
+            if (isBusinessDay(start.plusDays(i))) {
+                offsets[count++] = i;
+            }
+        }
+        this.businessDayOffsets = Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Covers the years of the holidays, and at least five years back and three years forward from today.
+     */
+    static BusinessDayIndex of(Set<LocalDate> holidays, LocalDate today) {
+        int firstYear = today.getYear() - 5;
+        int lastYear = today.getYear() + 3;
+        for (LocalDate holiday : holidays) {
+            firstYear = Math.min(firstYear, holiday.getYear());
+            lastYear = Math.max(lastYear, holiday.getYear());
+        }
+        return new BusinessDayIndex(holidays, LocalDate.of(firstYear, 1, 1), LocalDate.of(lastYear, 12, 31));
+    }
+
+    boolean isFor(Set<LocalDate> holidays) {
+        return this.holidays == holidays;
+    }
+
+    /**
+     * The business day {@code numberOfBusinessDays} after {@code date}, starting from the next business day if
+     * {@code date} is not one. Returns null if either date is outside the index or the number is negative.
+     */
+    LocalDate getBusinessDay(LocalDate date, int numberOfBusinessDays) {
+        if (numberOfBusinessDays < 0 || date.isBefore(start)) {
+            return null;
+        }
+        long offset = ChronoUnit.DAYS.between(start, date);
+        if (offset >= businessDaysBefore.length) {
+            return null;
+        }
+        // a day that is not a business day has the same count as the business day after it
+        long target = (long) businessDaysBefore[(int) offset] + numberOfBusinessDays;
+        if (target >= businessDayOffsets.length) {
+            return null;
+        }
+        return start.plusDays(businessDayOffsets[(int) target]);
+    }
+
+    private boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !holidays.contains(date);
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import net.objectlab.kit.datecalc.common.DefaultHolidayCalendar;
 import net.objectlab.kit.datecalc.jdk8.LocalDateKitCalculatorsFactory;
@@ -16,6 +17,7 @@ import uk.gov.hmcts.reform.sscs.client.CachedHolidayClient;
 public class BusinessDaysCalculatorService {
 
     private final CachedHolidayClient cachedHolidayClient;
+    private final AtomicReference<BusinessDayIndex> businessDayIndex = new AtomicReference<>();
 
     @Autowired
     public BusinessDaysCalculatorService(CachedHolidayClient cachedHolidayClient) {
@@ -23,31 +25,39 @@ public class BusinessDaysCalculatorService {
     }
 
     public ZonedDateTime getBusinessDay(ZonedDateTime startDateTime, int numberOfBusinessDays) throws IOException {
-        initialiseHolidays();
         LocalDate startDate = startDateTime.toLocalDate();
-        return calculateBusinessDay(startDate, numberOfBusinessDays, startDateTime);
+        return ZonedDateTime.of(
+            getBusinessDay(startDate, numberOfBusinessDays),
+            startDateTime.toLocalTime(),
+            startDateTime.getZone()
+        );
     }
 
     public LocalDate getBusinessDay(LocalDate date, int numberOfBusinessDays) throws IOException {
-        initialiseHolidays();
+        Set<LocalDate> holidays = cachedHolidayClient.getHolidays();
+        LocalDate businessDay = getBusinessDayIndex(holidays).getBusinessDay(date, numberOfBusinessDays);
+        if (businessDay != null) {
+            return businessDay;
+        }
+        initialiseHolidays(holidays);
         return calculateBusinessDay(date, numberOfBusinessDays);
     }
 
-    private void initialiseHolidays() throws IOException {
-        Set<LocalDate> holidays = cachedHolidayClient.getHolidays();
+    private BusinessDayIndex getBusinessDayIndex(Set<LocalDate> holidays) {
+        BusinessDayIndex index = businessDayIndex.get();
+        if (index == null || !index.isFor(holidays)) {
+            index = BusinessDayIndex.of(holidays, LocalDate.now());
+            businessDayIndex.set(index);
+        }
+        return index;
+    }
+
+    private void initialiseHolidays(Set<LocalDate> holidays) {
         DefaultHolidayCalendar<LocalDate> ukCalendar = new DefaultHolidayCalendar<>();
         ukCalendar.setHolidays(holidays);
         LocalDateKitCalculatorsFactory.getDefaultInstance().registerHolidays("UK", ukCalendar);
     }
 
-    private ZonedDateTime calculateBusinessDay(LocalDate startDate, int numberOfBusinessDays, ZonedDateTime startDateTime) {
-        return ZonedDateTime.of(
-            calculateBusinessDay(startDate, numberOfBusinessDays),
-            startDateTime.toLocalTime(),
-            startDateTime.getZone()
-        );
-    }
-
     private LocalDate calculateBusinessDay(LocalDate startDate, int numberOfBusinessDays) {
         return LocalDateKitCalculatorsFactory.forwardCalculator("UK")
             .setStartDate(startDate)
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.sscs.service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -11,8 +10,6 @@ import java.util.Map;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
-import org.apache.pdfbox.io.RandomAccessReadBuffer;
-import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -28,9 +25,11 @@ import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.exception.PdfGenerationException;
+import uk.gov.hmcts.reform.sscs.exception.PdfMergeException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.model.LetterType;
+import uk.gov.hmcts.reform.sscs.pdf.PdfMerger;
 
 @Service
 @Slf4j
@@ -49,19 +48,23 @@ public class CcdNotificationsPdfService {
 
     private IdamService idamService;
 
-    private static final String DEFAULT_SENDER_TYPE = "Gov Notify";
+    private PdfMerger pdfMerger;
+
+    public static final String DEFAULT_SENDER_TYPE = "Gov Notify";
 
     @Autowired
     public CcdNotificationsPdfService(PdfStoreService pdfStoreService,
                                       PDFServiceClient pdfServiceClient,
                                       CcdService ccdService,
                                       UpdateCcdCaseService updateCcdCaseService,
-                                      IdamService idamService) {
+                                      IdamService idamService,
+                                      PdfMerger pdfMerger) {
         this.pdfStoreService = pdfStoreService;
         this.pdfServiceClient = pdfServiceClient;
         this.ccdService = ccdService;
         this.updateCcdCaseService = updateCcdCaseService;
         this.idamService = idamService;
+        this.pdfMerger = pdfMerger;
     }
 
     public SscsCaseData mergeCorrespondenceIntoCcd(SscsCaseData sscsCaseData, Correspondence correspondence) {
@@ -84,19 +87,57 @@ public class CcdNotificationsPdfService {
      * @param correspondence - Correspondence which needs to be added to the case data
      */
     public void mergeCorrespondenceIntoCcdV2(Long caseId, Correspondence correspondence) {
-        List<Correspondence> updatedCorrespondences = getCorrespondences(correspondence);
+        mergeStoredCorrespondenceIntoCcdV2(caseId, storeCorrespondence(correspondence),
+            String.format("Notification sent via %s", DEFAULT_SENDER_TYPE));
+    }
+
+    /**
+     * Generates the PDF of an email or SMS from HTML and stores it in the doc store, without updating the case.
+     *
+     * @param correspondence - Correspondence to generate the PDF for
+     * @return the correspondence linked to the stored PDF
+     */
+    public List<Correspondence> storeCorrespondence(Correspondence correspondence) {
+        return getCorrespondences(correspondence);
+    }
 
+    /**
+     * Stores the PDF of a letter in the doc store, without updating the case.
+     *
+     * @param pdf            - the letter as sent
+     * @param correspondence - Correspondence the letter belongs to
+     * @return the correspondence linked to the stored PDF
+     */
+    public List<Correspondence> storeLetterCorrespondence(byte[] pdf, Correspondence correspondence) {
+        return getCorrespondences(pdf, correspondence);
+    }
+
+    /**
+     * Adds correspondence whose documents are already stored to the case in a single NOTIFICATION_SENT event.
+     *
+     * @param caseId          - CCD case id
+     * @param correspondences - Correspondence which needs to be added to the case data
+     * @param description     - description of the event
+     */
+    public void mergeStoredCorrespondenceIntoCcdV2(Long caseId, List<Correspondence> correspondences, String description) {
         Consumer<SscsCaseDetails> caseDataConsumer = caseDetails -> {
             SscsCaseData caseData = caseDetails.getData();
             List<Correspondence> existingCorrespondence = caseData.getCorrespondence() == null ? new ArrayList<>() : caseData.getCorrespondence();
             List<Correspondence> allCorrespondence = new ArrayList<>(existingCorrespondence);
-            allCorrespondence.addAll(updatedCorrespondences);
+            allCorrespondence.addAll(correspondences);
             allCorrespondence.sort(Comparator.reverseOrder());
             caseData.setCorrespondence(allCorrespondence);
         };
 
+        log.info("Updating ccd case using v2 for {} with event {} adding {} correspondence",
+            caseId, EventType.NOTIFICATION_SENT.getCcdType(), correspondences.size());
         try {
-            updateCcdCaseService.updateCaseV2(caseId, EventType.NOTIFICATION_SENT.getCcdType(), NOTIFICATION_SENT, "Notification sent via Gov Notify", idamService.getIdamTokens(), caseDataConsumer);
+            updateCcdCaseService.updateCaseV2(caseId,
+                EventType.NOTIFICATION_SENT.getCcdType(),
+                NOTIFICATION_SENT,
+                description,
+                idamService.getIdamTokens(),
+                caseDataConsumer);
         } catch (CcdException ccdEx) {
             log.error(FAILED_TO_UPDATE_CCD_CASE_USING_V_2_BUT_CARRYING_ON_WITH_EVENT,
                     caseId, EventType.NOTIFICATION_SENT.getCcdType(), ccdEx);
@@ -132,46 +173,12 @@ public class CcdNotificationsPdfService {
     }
 
     public void mergeLetterCorrespondenceIntoCcdV2(byte[] pdf, Long ccdCaseId, Correspondence correspondence, String senderType) {
-        final List<Correspondence> correspondences = getCorrespondences(pdf, correspondence);
-
-        Consumer<SscsCaseDetails> caseDataConsumer = sscsCaseDetails -> {
-            SscsCaseData sscsCaseData = sscsCaseDetails.getData();
-            List<Correspondence> existingCorrespondence = sscsCaseData.getCorrespondence() == null ? new ArrayList<>() : sscsCaseData.getCorrespondence();
-            List<Correspondence> allCorrespondence = new ArrayList<>(existingCorrespondence);
-            allCorrespondence.addAll(correspondences);
-            allCorrespondence.sort(Comparator.reverseOrder());
-            sscsCaseData.setCorrespondence(allCorrespondence);
-        };
-
-        String description = String.format("Notification sent via %s", senderType);
-        log.info("Updating ccd case using v2 for {} with event {}", ccdCaseId, EventType.NOTIFICATION_SENT.getCcdType());
-        try {
-            updateCcdCaseService.updateCaseV2(ccdCaseId,
-                EventType.NOTIFICATION_SENT.getCcdType(),
-                NOTIFICATION_SENT,
-                description,
-                idamService.getIdamTokens(),
-                caseDataConsumer);
-        } catch (CcdException ccdEx) {
-            log.error(FAILED_TO_UPDATE_CCD_CASE_USING_V_2_BUT_CARRYING_ON_WITH_EVENT,
-                    ccdCaseId, EventType.NOTIFICATION_SENT.getCcdType(), ccdEx);
-        }
+        mergeStoredCorrespondenceIntoCcdV2(ccdCaseId, storeLetterCorrespondence(pdf, correspondence),
+            String.format("Notification sent via %s", senderType));
     }
 
     public SscsCaseData mergeReasonableAdjustmentsCorrespondenceIntoCcd(List<Pdf> pdfs, Long ccdCaseId, Correspondence correspondence, LetterType letterType) {
-        PDFMergerUtility merger = new PDFMergerUtility();
-        for (Pdf pdf : pdfs) {
-            merger.addSource(new RandomAccessReadBuffer(pdf.getContent()));
-        }
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        merger.setDestinationStream(baos);
-        try {
-            merger.mergeDocuments(null);
-        } catch (IOException e) {
-            log.error("Failed to create pdf of letter for {}", ccdCaseId, e);
-        }
-
-        byte[] letterDocument = baos.toByteArray();
+        byte[] letterDocument = getMergedDocument(pdfs, ccdCaseId);
 
         return mergeReasonableAdjustmentsCorrespondenceIntoCcd(letterDocument, ccdCaseId, correspondence, letterType);
     }
@@ -312,19 +319,12 @@ public class CcdNotificationsPdfService {
     }
 
     private byte[] getMergedDocument(List<Pdf> pdfs, Long ccdCaseId) {
-        PDFMergerUtility merger = new PDFMergerUtility();
-        for (Pdf pdf : pdfs) {
-            merger.addSource(new RandomAccessReadBuffer(pdf.getContent()));
-        }
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        merger.setDestinationStream(baos);
         try {
-            merger.mergeDocuments(null);
-        } catch (IOException e) {
+            return pdfMerger.merge("reasonableAdjustmentLetter", pdfs.stream().map(Pdf::getContent).toList(), false);
+        } catch (PdfMergeException e) {
             log.error("Failed to create pdf of letter for {}", ccdCaseId, e);
+            return new byte[0];
         }
-
-        return baos.toByteArray();
     }
 
     @NotNull
@@ -1,7 +1,20 @@
 package uk.gov.hmcts.reform.sscs.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -9,11 +22,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.document.am.feign.CaseDocumentClient;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
-import uk.gov.hmcts.reform.sscs.exception.DocumentNotFoundException;
+import uk.gov.hmcts.reform.document.domain.Document;
+import uk.gov.hmcts.reform.sscs.document.EvidenceMetadataDownloadClientApi;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.service.pdf.data.UploadedEvidence;
+import uk.gov.hmcts.reform.sscs.util.BoundedExecutors;
 
 @Service
 @Slf4j
@@ -22,75 +38,92 @@ public class DocumentDownloadService {
     private final AuthTokenGenerator authTokenGenerator;
     private final EvidenceManagementSecureDocStoreService evidenceManagementSecureDocStoreService;
     private final IdamService idamService;
+    private final EvidenceMetadataDownloadClientApi evidenceMetadataDownloadClientApi;
+    private final CaseDocumentClient caseDocumentClient;
+    private final Cache<String, Long> fileSizes;
+    private final ExecutorService fileSizeExecutor;
 
     private static final String OAUTH2_TOKEN = "oauth2Token";
     private static final String USER_ID = "sscs";
+    private static final String BINARY_SUFFIX = "/binary";
+    static final String FILE_SIZE_CACHE = "document.file.size";
     private final String documentManagementUrl;
     private final boolean secureDocStoreEnabled;
 
+    @Autowired
     DocumentDownloadService(DocumentDownloadClientApi documentDownloadClientApi,
                             AuthTokenGenerator authTokenGenerator,
                             @Value("${document_management.url}") String documentManagementUrl,
                             @Value("${feature.secure-doc-store.enabled:false}") boolean secureDocStoreEnabled,
                             EvidenceManagementSecureDocStoreService evidenceManagementSecureDocStoreService,
-                            IdamService idamService) {
+                            IdamService idamService,
+                            EvidenceMetadataDownloadClientApi evidenceMetadataDownloadClientApi,
+                            CaseDocumentClient caseDocumentClient,
+                            @Value("${document_management.file-size.cacheTtl:PT10M}") Duration fileSizeCacheTtl,
+                            @Value("${document_management.file-size.cacheMaximumSize:1000}")
+                            long fileSizeCacheMaximumSize,
+                            @Value("${document_management.file-size.threads:8}") int fileSizeThreads,
+                            @Value("${document_management.file-size.queueCapacity:100}") int fileSizeQueueCapacity,
+                            MeterRegistry meterRegistry) {
         this.documentDownloadClientApi = documentDownloadClientApi;
         this.authTokenGenerator = authTokenGenerator;
         this.documentManagementUrl = documentManagementUrl;
         this.secureDocStoreEnabled = secureDocStoreEnabled;
         this.evidenceManagementSecureDocStoreService = evidenceManagementSecureDocStoreService;
         this.idamService = idamService;
+        this.evidenceMetadataDownloadClientApi = evidenceMetadataDownloadClientApi;
+        this.caseDocumentClient = caseDocumentClient;
+        this.fileSizes = CacheBuilder.newBuilder()
+            .expireAfterWrite(fileSizeCacheTtl)
+            .maximumSize(fileSizeCacheMaximumSize)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, fileSizes, FILE_SIZE_CACHE);
+        this.fileSizeExecutor = BoundedExecutors.newBoundedPool("document-file-size", "documentFileSize",
+            fileSizeThreads, fileSizeQueueCapacity, meterRegistry);
     }
 
+    /**
+     * The size of the document in bytes, or 0 if it cannot be found. The size is read from the document's metadata
+     * so the binary is only downloaded if the metadata cannot be read. Sizes are cached by url.
+     */
     public Long getFileSize(String urlString) {
-        ResponseEntity<Resource> response;
-        try {
-            if (secureDocStoreEnabled) {
-                IdamTokens idamTokens = idamService.getIdamTokens();
-                response = evidenceManagementSecureDocStoreService.downloadResource(urlString, idamTokens);
-            } else {
-                response = documentDownloadClientApi.downloadBinary(
-                        OAUTH2_TOKEN,
-                        authTokenGenerator.generate(),
-                        "caseworker",
-                        USER_ID,
-                        getDownloadUrl(urlString)
-                );
-            }
-            if (response != null && response.getStatusCode() == HttpStatus.OK) {
-                Resource responseBody = response.getBody();
-                if (responseBody != null) {
-                    return responseBody.contentLength();
-                }
-            }
-        } catch (Exception e) {
-            log.info("Error when downloading the following Binary file from the Document Management: {} ", urlString, e);
+        if (urlString == null) {
+            return 0L;
         }
-        return 0L;
+        Long size = fileSizes.getIfPresent(urlString);
+        if (size != null) {
+            return size;
+        }
+        size = getFileSizeFromMetadata(urlString);
+        if (size == null) {
+            size = getFileSizeFromBinary(urlString);
+        }
+        if (size > 0) {
+            fileSizes.put(urlString, size);
+        }
+        return size;
     }
 
-    public ResponseEntity<Resource> downloadFile(String urlString) {
-        ResponseEntity<Resource> response = null;
-        try {
-            if (secureDocStoreEnabled) {
-                IdamTokens idamTokens = idamService.getIdamTokens();
-                response = evidenceManagementSecureDocStoreService.downloadResource(urlString, idamTokens);
-            } else {
-                response = documentDownloadClientApi.downloadBinary(
-                        OAUTH2_TOKEN,
-                        authTokenGenerator.generate(),
-                        "caseworker,citizen",
-                        USER_ID,
-                        getDownloadUrl(urlString)
-                );
-            }
-        } catch (Exception e) {
-            log.error("Error when downloading the following Binary file from the Document Management: {} ", urlString, e);
+    /**
+     * The sizes of several documents keyed by url. Sizes that are not cached are looked up in parallel, or on the
+     * calling thread when the lookup pool's queue is full.
+     */
+    public Map<String, Long> getFileSizes(Collection<String> urlStrings) {
+        Map<String, CompletableFuture<Long>> lookups = new LinkedHashMap<>();
+        for (String urlString : urlStrings) {
+            lookups.computeIfAbsent(urlString, url -> url == null || fileSizes.getIfPresent(url) != null
+                ? CompletableFuture.completedFuture(getFileSize(url))
+                : CompletableFuture.supplyAsync(() -> getFileSize(url), fileSizeExecutor));
         }
-        if (response != null && HttpStatus.OK.equals(response.getStatusCode())) {
-            return response;
-        }
-        throw new DocumentNotFoundException();
+        Map<String, Long> sizes = new HashMap<>();
+        lookups.forEach((url, lookup) -> sizes.put(url, lookup.join()));
+        return sizes;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fileSizeExecutor.shutdown();
     }
 
     public UploadedEvidence getUploadedEvidence(String urlString) {
@@ -123,4 +156,58 @@ public class DocumentDownloadService {
         }
         return "/documents/" + path + "/binary";
     }
+
+    protected String getMetadataUrl(String urlString) {
+        String path = getDownloadUrl(urlString);
+        return path.endsWith(BINARY_SUFFIX) ? path.substring(0, path.length() - BINARY_SUFFIX.length()) : path;
+    }
+
+    private Long getFileSizeFromMetadata(String urlString) {
+        try {
+            if (secureDocStoreEnabled) {
+                IdamTokens idamTokens = idamService.getIdamTokens();
+                return caseDocumentClient.getMetadataForDocument(idamTokens.getIdamOauth2Token(),
+                    idamTokens.getServiceAuthorization(), getMetadataUrl(urlString)).size;
+            }
+            Document document = evidenceMetadataDownloadClientApi.getDocumentMetadata(
+                    OAUTH2_TOKEN,
+                    authTokenGenerator.generate(),
+                    USER_ID,
+                    "caseworker",
+                    getMetadataUrl(urlString)
+            );
+            return document != null ? document.size : null;
+        } catch (Exception e) {
+            log.info("Error when getting the metadata of the following file from the Document Management, "
+                + "downloading the binary instead: {} ", urlString, e);
+        }
+        return null;
+    }
+
+    private Long getFileSizeFromBinary(String urlString) {
+        ResponseEntity<Resource> response;
+        try {
+            if (secureDocStoreEnabled) {
+                IdamTokens idamTokens = idamService.getIdamTokens();
+                response = evidenceManagementSecureDocStoreService.downloadResource(urlString, idamTokens);
+            } else {
+                response = documentDownloadClientApi.downloadBinary(
+                        OAUTH2_TOKEN,
+                        authTokenGenerator.generate(),
+                        "caseworker",
+                        USER_ID,
+                        getDownloadUrl(urlString)
+                );
+            }
+            if (response != null && response.getStatusCode() == HttpStatus.OK) {
+                Resource responseBody = response.getBody();
+                if (responseBody != null) {
+                    return responseBody.contentLength();
+                }
+            }
+        } catch (Exception e) {
+            log.info("Error when downloading the following Binary file from the Document Management: {} ", urlString, e);
+        }
+        return 0L;
+    }
 }
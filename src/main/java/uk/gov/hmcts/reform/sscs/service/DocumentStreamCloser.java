@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * Closes the document opened by {@link DocumentStreamingService} for a request once its async processing has ended,
+ * whether the body was written, the request timed out or it failed, so the document's connection always goes back
+ * to the pool.
+ */
+@Slf4j
+public class DocumentStreamCloser implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        Object body = request.getAttribute(DocumentStreamingService.BODY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (body instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.debug("Could not close document response", e);
+            }
+        }
+    }
+}
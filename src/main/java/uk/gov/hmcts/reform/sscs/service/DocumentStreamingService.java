@@ -0,0 +1,247 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.sscs.exception.DocumentNotFoundException;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+
+/**
+ * Streams a document from DM store, or CDAM when the secure doc store is enabled, straight to the client through a
+ * fixed size buffer, so the document is never held in memory. {@code Range} and {@code If-None-Match} are passed
+ * through, so media can be played from any point and a cached copy is revalidated without sending it again.
+ *
+ * <p>Each stream holds a connection from its own pool for as long as the client takes to read the document, so slow
+ * clients cannot starve the pool other outbound calls use. The upstream response is closed once the body has been
+ * written and when writing fails. The body is also kept on the request so that {@link DocumentStreamCloser} can close
+ * it when async processing ends, which covers a request that times out or fails before the body is written.
+ */
+@Slf4j
+@Service
+public class DocumentStreamingService {
+
+    static final String BYTES_SUMMARY = "sscs.document.stream.bytes";
+    static final String TIME_TO_FIRST_BYTE_TIMER = "sscs.document.stream.ttfb";
+    static final String BODY_ATTRIBUTE = DocumentStreamingService.class.getName() + ".body";
+
+    private static final String OAUTH2_TOKEN = "oauth2Token";
+    private static final String USER_ID = "sscs";
+    private static final String USER_ROLES = "caseworker,citizen";
+    private static final List<String> REQUEST_HEADERS = List.of(HttpHeaders.RANGE, HttpHeaders.IF_NONE_MATCH);
+    private static final List<String> RESPONSE_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_RANGE,
+        HttpHeaders.ACCEPT_RANGES, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CONTENT_DISPOSITION);
+
+    private final HttpClient httpClient;
+    private final DocumentDownloadService documentDownloadService;
+    private final AuthTokenGenerator authTokenGenerator;
+    private final IdamService idamService;
+    private final String documentManagementUrl;
+    private final String caseDocumentAmUrl;
+    private final boolean secureDocStoreEnabled;
+    private final int bufferSize;
+    private final MeterRegistry meterRegistry;
+
+    public DocumentStreamingService(@Qualifier("documentStreamingHttpClient") HttpClient httpClient,
+                                    DocumentDownloadService documentDownloadService,
+                                    AuthTokenGenerator authTokenGenerator,
+                                    IdamService idamService,
+                                    @Value("${document_management.url}") String documentManagementUrl,
+                                    @Value("${case_document_am.url}") String caseDocumentAmUrl,
+                                    @Value("${feature.secure-doc-store.enabled:false}") boolean secureDocStoreEnabled,
+                                    @Value("${document_management.stream.bufferSize:8192}") int bufferSize,
+                                    MeterRegistry meterRegistry) {
+        this.httpClient = httpClient;
+        this.documentDownloadService = documentDownloadService;
+        this.authTokenGenerator = authTokenGenerator;
+        this.idamService = idamService;
+        this.documentManagementUrl = documentManagementUrl;
+        this.caseDocumentAmUrl = caseDocumentAmUrl;
+        this.secureDocStoreEnabled = secureDocStoreEnabled;
+        this.bufferSize = bufferSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Opens the document and returns its status and headers, with a body that copies the document to the client
+     * when it is written. Throws {@link DocumentNotFoundException} if the document cannot be opened.
+     */
+    public ResponseEntity<StreamingResponseBody> streamFile(String urlString, HttpHeaders requestHeaders) {
+        long started = System.nanoTime();
+        ClassicHttpResponse upstream = open(urlString, requestHeaders);
+        try {
+            return respond(urlString, upstream, started);
+        } catch (RuntimeException e) {
+            discard(upstream);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> respond(String urlString, ClassicHttpResponse upstream,
+                                                          long started) {
+        HttpStatus status = HttpStatus.resolve(upstream.getCode());
+        if (status != HttpStatus.OK && status != HttpStatus.PARTIAL_CONTENT && status != HttpStatus.NOT_MODIFIED
+            && status != HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+            log.error("Got status {} when streaming the following file from the Document Management: {} ",
+                upstream.getCode(), urlString);
+            closeQuietly(upstream);
+            throw new DocumentNotFoundException();
+        }
+
+        HttpHeaders responseHeaders = new HttpHeaders();
+        for (String name : RESPONSE_HEADERS) {
+            for (Header header : upstream.getHeaders(name)) {
+                responseHeaders.add(name, header.getValue());
+            }
+        }
+        HttpEntity entity = upstream.getEntity();
+        if (entity == null || status == HttpStatus.NOT_MODIFIED) {
+            closeQuietly(upstream);
+            return ResponseEntity.status(status).headers(responseHeaders).build();
+        }
+        if (!responseHeaders.containsKey(HttpHeaders.CONTENT_TYPE) && entity.getContentType() != null) {
+            responseHeaders.set(HttpHeaders.CONTENT_TYPE, entity.getContentType());
+        }
+        if (entity.getContentLength() >= 0) {
+            responseHeaders.setContentLength(entity.getContentLength());
+        }
+
+        DocumentBody body = new DocumentBody(upstream, entity, status, started);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(BODY_ATTRIBUTE, body, RequestAttributes.SCOPE_REQUEST);
+        }
+        return ResponseEntity.status(status).headers(responseHeaders).body(body);
+    }
+
+    private ClassicHttpResponse open(String urlString, HttpHeaders requestHeaders) {
+        HttpGet request;
+        try {
+            if (secureDocStoreEnabled) {
+                String metadataUrl = documentDownloadService.getMetadataUrl(urlString);
+                String documentId = metadataUrl.substring(metadataUrl.lastIndexOf('/') + 1);
+                IdamTokens idamTokens = idamService.getIdamTokens();
+                request = new HttpGet(caseDocumentAmUrl + "/cases/documents/" + documentId + "/binary");
+                request.addHeader(HttpHeaders.AUTHORIZATION, idamTokens.getIdamOauth2Token());
+                request.addHeader("ServiceAuthorization", idamTokens.getServiceAuthorization());
+            } else {
+                request = new HttpGet(documentManagementUrl + documentDownloadService.getDownloadUrl(urlString));
+                request.addHeader(HttpHeaders.AUTHORIZATION, OAUTH2_TOKEN);
+                request.addHeader("ServiceAuthorization", authTokenGenerator.generate());
+                request.addHeader("user-id", USER_ID);
+                request.addHeader("user-roles", USER_ROLES);
+            }
+            for (String name : REQUEST_HEADERS) {
+                String value = requestHeaders.getFirst(name);
+                if (value != null) {
+                    request.addHeader(name, value);
+                }
+            }
+            return httpClient.executeOpen(null, request, null);
+        } catch (Exception e) {
+            log.error("Error when streaming the following Binary file from the Document Management: {} ", urlString, e);
+            throw new DocumentNotFoundException();
+        }
+    }
+
+    private void copy(ClassicHttpResponse upstream, HttpEntity entity, OutputStream out, HttpStatus status,
+                      long started) throws IOException {
+        long bytes = 0;
+        try (upstream; InputStream in = entity.getContent()) {
+            byte[] buffer = new byte[bufferSize];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (bytes == 0) {
+                    Timer.builder(TIME_TO_FIRST_BYTE_TIMER)
+                        .description("Time from opening a document to sending its first byte to the client")
+                        .tag("status", String.valueOf(status.value()))
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+                out.write(buffer, 0, read);
+                bytes += read;
+            }
+            out.flush();
+        } finally {
+            DistributionSummary.builder(BYTES_SUMMARY)
+                .description("Number of bytes of a document streamed to the client")
+                .baseUnit("bytes")
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .record(bytes);
+        }
+    }
+
+    private static void discard(ClassicHttpResponse upstream) {
+        // closing without consuming the entity drops the connection rather than reading the rest of the document
+        try {
+            upstream.close();
+        } catch (IOException e) {
+            log.debug("Could not close document response", e);
+        }
+    }
+
+    private static void closeQuietly(ClassicHttpResponse upstream) {
+        try {
+            EntityUtils.consumeQuietly(upstream.getEntity());
+            upstream.close();
+        } catch (IOException e) {
+            log.debug("Could not close document response", e);
+        }
+    }
+
+    private final class DocumentBody implements StreamingResponseBody, Closeable {
+        private final ClassicHttpResponse upstream;
+        private final HttpEntity entity;
+        private final HttpStatus status;
+        private final long started;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private DocumentBody(ClassicHttpResponse upstream, HttpEntity entity, HttpStatus status, long started) {
+            this.upstream = upstream;
+            this.entity = entity;
+            this.status = status;
+            this.started = started;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try {
+                copy(upstream, entity, out, status, started);
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                discard(upstream);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import uk.gov.hmcts.reform.sscs.ccd.domain.DocumentLink;
+
+/**
+ * A document to be stamped by {@link AbstractFooterService#addFooters}, with the bundle addition already chosen
+ * by the caller so the lettering does not depend on the order the footers finish in.
+ */
+public record FooterRequest(DocumentLink url, String leftText, String rightText) {
+}
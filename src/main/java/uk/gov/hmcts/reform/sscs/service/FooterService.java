@@ -2,11 +2,13 @@ package uk.gov.hmcts.reform.sscs.service;
 
 import static java.util.Objects.nonNull;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.callback.DocumentType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.*;
@@ -18,8 +20,12 @@ import uk.gov.hmcts.reform.sscs.util.SscsUtil;
 public class FooterService extends AbstractFooterService<SscsDocument> {
 
     @Autowired
-    public FooterService(PdfStoreService pdfStoreService, PdfWatermarker alter) {
-        super(pdfStoreService, alter);
+    public FooterService(PdfStoreService pdfStoreService, PdfWatermarker alter,
+                         @Value("${footer.readable-check.concurrency:4}") int readableCheckConcurrency,
+                         @Value("${footer.readable-check.maximumSize:1000}") long pdfStateCacheSize,
+                         @Value("${footer.stamp.concurrency:4}") int footerConcurrency,
+                         MeterRegistry meterRegistry) {
+        super(pdfStoreService, alter, readableCheckConcurrency, pdfStateCacheSize, footerConcurrency, meterRegistry);
     }
 
     public void createFooterAndAddDocToCase(DocumentLink url, SscsCaseData caseData, DocumentType documentType, String dateIssued, LocalDate dateAdded,
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.sscs.service;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ public class HmcHearingApiService {
 
     private final HmcHearingApi hmcHearingApi;
     private final IdamService idamService;
+    private final HmcHearingResponseCache responseCache;
     @Value("${hmc.deployment-id}")
     private String hmctsDeploymentId;
     @Value("${role-assignment.api.url:#{null}}")
@@ -31,6 +33,11 @@ public class HmcHearingApiService {
     private String dataStoreUrl;
 
     public HearingGetResponse getHearingRequest(String hearingId) throws GetHearingException {
+        HearingGetResponse cachedResponse = responseCache.getHearing(hearingId);
+        if (nonNull(cachedResponse)) {
+            log.info("Using cached Get Hearing Response for Hearing ID {}", hearingId);
+            return cachedResponse;
+        }
         log.info("Sending Get Hearing Request for Hearing ID {}, {}, {}", hearingId, roleAssignmentUrl, dataStoreUrl);
         HearingGetResponse hearingResponse = hmcHearingApi.getHearingRequest(
                 getIdamTokens().getIdamOauth2Token(),
@@ -43,6 +50,7 @@ public class HmcHearingApiService {
         if (isNull(hearingResponse)) {
             throw new GetHearingException(String.format("Failed to retrieve hearing with Id: %s from HMC", hearingId));
         }
+        responseCache.putHearing(hearingId, hearingResponse);
         return hearingResponse;
     }
 
@@ -52,13 +60,15 @@ public class HmcHearingApiService {
                 dataStoreUrl,
                 hearingPayload.getCaseDetails().getCaseId(),
                 hearingPayload);
-        return hmcHearingApi.createHearingRequest(
+        HmcUpdateResponse response = hmcHearingApi.createHearingRequest(
                 getIdamTokens().getIdamOauth2Token(),
                 getIdamTokens().getServiceAuthorization(),
                 hmctsDeploymentId,
                 dataStoreUrl,
                 roleAssignmentUrl,
                 hearingPayload);
+        responseCache.invalidate(hearingPayload.getCaseDetails().getCaseId(), null);
+        return response;
     }
 
     public HmcUpdateResponse sendUpdateHearingRequest(HearingRequestPayload hearingPayload, String hearingId) {
@@ -68,7 +78,7 @@ public class HmcHearingApiService {
                 dataStoreUrl,
                 hearingId,
                 hearingPayload);
-        return hmcHearingApi.updateHearingRequest(
+        HmcUpdateResponse response = hmcHearingApi.updateHearingRequest(
                 getIdamTokens().getIdamOauth2Token(),
                 getIdamTokens().getServiceAuthorization(),
                 hmctsDeploymentId,
@@ -76,6 +86,8 @@ public class HmcHearingApiService {
                 roleAssignmentUrl,
                 hearingId,
                 hearingPayload);
+        responseCache.invalidate(hearingPayload.getCaseDetails().getCaseId(), hearingId);
+        return response;
     }
 
     public HmcUpdateResponse sendCancelHearingRequest(HearingCancelRequestPayload hearingPayload, String hearingId) {
@@ -84,7 +96,7 @@ public class HmcHearingApiService {
                 roleAssignmentUrl,
                 dataStoreUrl,
                 hearingPayload);
-        return hmcHearingApi.cancelHearingRequest(
+        HmcUpdateResponse response = hmcHearingApi.cancelHearingRequest(
                 getIdamTokens().getIdamOauth2Token(),
                 getIdamTokens().getServiceAuthorization(),
                 hmctsDeploymentId,
@@ -92,11 +104,18 @@ public class HmcHearingApiService {
                 roleAssignmentUrl,
                 hearingId,
                 hearingPayload);
+        responseCache.invalidate(null, hearingId);
+        return response;
     }
 
     public HearingsGetResponse getHearingsRequest(String caseId, HmcStatus hmcStatus) {
+        HearingsGetResponse cachedResponse = responseCache.getCaseHearings(caseId, hmcStatus);
+        if (nonNull(cachedResponse)) {
+            log.info("Using cached Get Hearings Response for Case ID {}", caseId);
+            return cachedResponse;
+        }
         log.info("Sending Get Hearings Request for Case ID {}, {}, {}", caseId, roleAssignmentUrl, dataStoreUrl);
-        return hmcHearingApi.getHearingsRequest(
+        HearingsGetResponse response = hmcHearingApi.getHearingsRequest(
             getIdamTokens().getIdamOauth2Token(),
             getIdamTokens().getServiceAuthorization(),
             dataStoreUrl,
@@ -104,6 +123,15 @@ public class HmcHearingApiService {
             hmctsDeploymentId,
             caseId,
             hmcStatus);
+        responseCache.putCaseHearings(caseId, hmcStatus, response);
+        return response;
+    }
+
+    /**
+     * Drops any cached responses for the case and hearing, for when HMC tells us the hearing has changed.
+     */
+    public void invalidateCachedResponses(String caseId, String hearingId) {
+        responseCache.invalidate(caseId, hearingId);
     }
 
 
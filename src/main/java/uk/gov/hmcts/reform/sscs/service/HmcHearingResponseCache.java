@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static java.util.Objects.nonNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus;
+import uk.gov.hmcts.reform.sscs.model.multi.hearing.HearingsGetResponse;
+import uk.gov.hmcts.reform.sscs.model.single.hearing.HearingGetResponse;
+
+/**
+ * Short lived cache of HMC hearing responses, so a single flow that reads the same hearing several times only calls
+ * HMC once. Entries are dropped when we change a hearing or HMC tells us it has changed. Cached responses are shared
+ * between callers and must not be modified.
+ */
+@Slf4j
+@Component
+public class HmcHearingResponseCache {
+
+    static final String HEARING_CACHE = "hmc.hearing";
+    static final String CASE_HEARINGS_CACHE = "hmc.case.hearings";
+
+    private final boolean enabled;
+    private final Cache<String, HearingGetResponse> hearings;
+    private final Cache<CaseHearingsKey, HearingsGetResponse> caseHearings;
+
+    public HmcHearingResponseCache(@Value("${hmc.response-cache.enabled:true}") boolean enabled,
+                                   @Value("${hmc.response-cache.ttl:PT5S}") Duration ttl,
+                                   @Value("${hmc.response-cache.maximumSize:1000}") long maximumSize,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.hearings = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        this.caseHearings = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, hearings, HEARING_CACHE);
+        GuavaCacheMetrics.monitor(meterRegistry, caseHearings, CASE_HEARINGS_CACHE);
+        log.info("HMC response cache {} with ttl {} and maximum size {}",
+            enabled ? "enabled" : "disabled", ttl, maximumSize);
+    }
+
+    public HearingGetResponse getHearing(String hearingId) {
+        return enabled ? hearings.getIfPresent(hearingId) : null;
+    }
+
+    public void putHearing(String hearingId, HearingGetResponse response) {
+        if (enabled) {
+            hearings.put(hearingId, response);
+        }
+    }
+
+    public HearingsGetResponse getCaseHearings(String caseId, HmcStatus hmcStatus) {
+        return enabled ? caseHearings.getIfPresent(new CaseHearingsKey(caseId, hmcStatus)) : null;
+    }
+
+    public void putCaseHearings(String caseId, HmcStatus hmcStatus, HearingsGetResponse response) {
+        if (enabled && nonNull(caseId) && nonNull(response)) {
+            caseHearings.put(new CaseHearingsKey(caseId, hmcStatus), response);
+        }
+    }
+
+    /**
+     * Drops the hearing and every cached hearings list that belongs to the case or contains the hearing. Either id
+     * may be null.
+     */
+    public void invalidate(String caseId, String hearingId) {
+        if (nonNull(hearingId)) {
+            hearings.invalidate(hearingId);
+        }
+        caseHearings.asMap().entrySet().removeIf(entry ->
+            Objects.equals(entry.getKey().caseId(), caseId) || containsHearing(entry.getValue(), hearingId));
+    }
+
+    private static boolean containsHearing(HearingsGetResponse response, String hearingId) {
+        return nonNull(hearingId) && nonNull(response.getCaseHearings())
+            && response.getCaseHearings().stream()
+                .anyMatch(hearing -> hearingId.equals(String.valueOf(hearing.getHearingId())));
+    }
+
+    private record CaseHearingsKey(String caseId, HmcStatus hmcStatus) {
+    }
+}
@@ -6,6 +6,7 @@ import static org.springframework.http.MediaType.APPLICATION_PDF;
 
 import feign.FeignException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -14,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.reform.ccd.document.am.model.UploadResponse;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DocumentLink;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocument;
@@ -21,6 +23,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocumentDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocumentTranslationStatus;
 import uk.gov.hmcts.reform.sscs.domain.UpdateDocParams;
 import uk.gov.hmcts.reform.sscs.domain.pdf.ByteArrayMultipartFile;
+import uk.gov.hmcts.reform.sscs.domain.pdf.FileMultipartFile;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 
@@ -60,6 +63,18 @@ public class PdfStoreService {
         return singletonList(sscsDocument);
     }
 
+    /**
+     * Stores a pdf that is on disk, so it does not have to be read into memory before it is uploaded.
+     */
+    public List<SscsDocument> storeFile(Path content, String fileName, String documentType) {
+        FileMultipartFile file = FileMultipartFile.builder().path(content).name(fileName).contentType(APPLICATION_PDF).build();
+        SscsDocument sscsDocument = storeDocument(file, UpdateDocParams.builder().fileName(fileName).documentType(documentType).build());
+        if (sscsDocument == null) {
+            return emptyList();
+        }
+        return singletonList(sscsDocument);
+    }
+
     public SscsDocument storeDocument(byte[] content) {
         return this.storeDocument(content, null, null);
     }
@@ -78,11 +93,13 @@ public class PdfStoreService {
     }
 
     public SscsDocument storeDocument(UpdateDocParams updateDocParams) {
+        return storeDocument(toMultipartFile(updateDocParams), updateDocParams);
+    }
+
+    private SscsDocument storeDocument(MultipartFile file, UpdateDocParams updateDocParams) {
         if (secureDocStoreEnabled) {
-            return storeSecureDocStore(updateDocParams);
+            return storeSecureDocStore(file, updateDocParams);
         }
-        ByteArrayMultipartFile file = ByteArrayMultipartFile.builder().content(updateDocParams.getPdf()).name(updateDocParams.getFileName())
-                .contentType(APPLICATION_PDF).build();
         try {
             log.info("Storing file {} of type {} into docstore", updateDocParams.getFileName(), updateDocParams.getDocumentType());
             uk.gov.hmcts.reform.document.domain.UploadResponse upload = evidenceManagementService.upload(singletonList(file), "sscs");
@@ -107,8 +124,10 @@ public class PdfStoreService {
     }
 
     public SscsDocument storeSecureDocStore(UpdateDocParams updateDocParams) {
-        ByteArrayMultipartFile file = ByteArrayMultipartFile.builder().content(updateDocParams.getPdf()).name(updateDocParams.getFileName())
-                .contentType(APPLICATION_PDF).build();
+        return storeSecureDocStore(toMultipartFile(updateDocParams), updateDocParams);
+    }
+
+    private SscsDocument storeSecureDocStore(MultipartFile file, UpdateDocParams updateDocParams) {
         try {
             log.info("Storing file {} of type {} into secure docstore", updateDocParams.getFileName(), updateDocParams.getDocumentType());
             IdamTokens idamTokens = idamService.getIdamTokens();
@@ -135,6 +154,11 @@ public class PdfStoreService {
         }
     }
 
+    private static ByteArrayMultipartFile toMultipartFile(UpdateDocParams updateDocParams) {
+        return ByteArrayMultipartFile.builder().content(updateDocParams.getPdf()).name(updateDocParams.getFileName())
+                .contentType(APPLICATION_PDF).build();
+    }
+
     public byte[] download(String href) {
         if (secureDocStoreEnabled) {
             log.info("Downloading file {} from secure docstore", href);
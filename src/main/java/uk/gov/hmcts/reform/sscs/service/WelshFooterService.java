@@ -1,7 +1,9 @@
 package uk.gov.hmcts.reform.sscs.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsWelshDocument;
 import uk.gov.hmcts.reform.sscs.pdf.PdfWatermarker;
@@ -11,8 +13,12 @@ import uk.gov.hmcts.reform.sscs.pdf.PdfWatermarker;
 public class WelshFooterService extends AbstractFooterService<SscsWelshDocument> {
 
     @Autowired
-    public WelshFooterService(PdfStoreService pdfStoreService, PdfWatermarker alter) {
-        super(pdfStoreService, alter);
+    public WelshFooterService(PdfStoreService pdfStoreService, PdfWatermarker alter,
+                              @Value("${footer.readable-check.concurrency:4}") int readableCheckConcurrency,
+                              @Value("${footer.readable-check.maximumSize:1000}") long pdfStateCacheSize,
+                              @Value("${footer.stamp.concurrency:4}") int footerConcurrency,
+                              MeterRegistry meterRegistry) {
+        super(pdfStoreService, alter, readableCheckConcurrency, pdfStateCacheSize, footerConcurrency, meterRegistry);
     }
 
 }
@@ -9,7 +9,6 @@ import static uk.gov.hmcts.reform.sscs.service.CaseCodeService.generateCaseCode;
 import static uk.gov.hmcts.reform.sscs.service.CaseCodeService.generateIssueCode;
 import static uk.gov.hmcts.reform.sscs.service.RegionalProcessingCenterService.getFirstHalfOfPostcode;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
@@ -61,7 +60,7 @@ public class RestoreCasesService2 {
         this.airLookupService = airLookupService;
     }
 
-    public String getRestoreCaseFileName(String message) throws JsonProcessingException {
+    public String getRestoreCaseFileName(byte[] message) throws IOException {
         JsonNode jsonNode = objectMapper.readTree(message);
         if (jsonNode == null) {
             throw new IllegalStateException("Unable to extract restoreCaseFileName");
@@ -3,10 +3,20 @@ package uk.gov.hmcts.reform.sscs.service.bundle;
 import static java.util.Objects.nonNull;
 import static org.springframework.http.MediaType.APPLICATION_PDF;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -18,8 +28,10 @@ import uk.gov.hmcts.reform.sscs.model.docassembly.PdfTemplateContent;
 import uk.gov.hmcts.reform.sscs.service.PdfStoreService;
 import uk.gov.hmcts.reform.sscs.thirdparty.pdfservice.PdfService;
 
+@Slf4j
 @Service
 public class BundleAudioVideoPdfService {
+    static final String FINGERPRINT_CACHE = "sscs.bundle.audio-video.fingerprints";
     private final PdfService pdfService;
     private static final String TEMPLATE = "TB-SCS-GNO-ENG-00670.docx";
     private final PdfStoreService pdfStoreService;
@@ -27,16 +39,29 @@ public class BundleAudioVideoPdfService {
     private String dmGatewayUrl;
     private String documentManagementUrl;
     protected static DateTimeFormatter DATEFORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private final Cache<String, String> renderedFingerprints;
 
+    /**
+     * Remembers, by the URL of each stored audio/video document, the fingerprint of the rows it was rendered from,
+     * so a bundle whose audio/video evidence has not changed keeps the document it already has.
+     */
+    @Autowired
     public BundleAudioVideoPdfService(
             @Qualifier("docmosisPdfService") PdfService pdfService,
             PdfStoreService pdfStoreService,
             @Value("${dm_gateway.url}") String dmGatewayUrl,
-            @Value("${document_management.url}") String documentManagementUrl) {
+            @Value("${document_management.url}") String documentManagementUrl,
+            @Value("${bundle.audio-video.fingerprints.maximumSize:1000}") long fingerprintCacheSize,
+            MeterRegistry meterRegistry) {
         this.pdfService = pdfService;
         this.pdfStoreService = pdfStoreService;
         this.dmGatewayUrl = dmGatewayUrl;
         this.documentManagementUrl = documentManagementUrl;
+        this.renderedFingerprints = CacheBuilder.newBuilder()
+            .maximumSize(fingerprintCacheSize)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, renderedFingerprints, FINGERPRINT_CACHE);
     }
 
     public void createAudioVideoPdf(SscsCaseData sscsCaseData) {
@@ -44,6 +69,13 @@ public class BundleAudioVideoPdfService {
         List<PdfTableDescriptor> descriptors = buildAudioVideoEvidenceDescriptorsForTable(sscsCaseData);
 
         if (descriptors != null && descriptors.size() > 0) {
+            String fingerprint = fingerprint(descriptors);
+            if (isRenderedFrom(sscsCaseData.getAudioVideoEvidenceBundleDocument(), fingerprint)) {
+                log.info("Audio/video evidence unchanged for case {}, keeping the existing audio/video document",
+                    sscsCaseData.getCcdCaseId());
+                return;
+            }
+
             PdfTemplateContent pdfTemplateContent = PdfTemplateContent.builder().content(descriptors).build();
 
             byte[] content = pdfService.createPdf(pdfTemplateContent, TEMPLATE);
@@ -62,7 +94,33 @@ public class BundleAudioVideoPdfService {
                         .documentHash(sscsDocument.getValue().getDocumentLink().getDocumentHash()).build();
 
                 sscsCaseData.setAudioVideoEvidenceBundleDocument(AudioVideoEvidenceBundleDocument.builder().documentLink(newDocLink).documentFileName("Audio/video evidence document").build());
+                if (location != null) {
+                    renderedFingerprints.put(location, fingerprint);
+                }
+            }
+        }
+    }
+
+    private boolean isRenderedFrom(AudioVideoEvidenceBundleDocument existing, String fingerprint) {
+        if (existing == null || existing.getDocumentLink() == null || existing.getDocumentLink().getDocumentUrl() == null) {
+            return false;
+        }
+        return fingerprint.equals(renderedFingerprints.getIfPresent(existing.getDocumentLink().getDocumentUrl()));
+    }
+
+    private static String fingerprint(List<PdfTableDescriptor> descriptors) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(TEMPLATE.getBytes(StandardCharsets.UTF_8));
+            for (PdfTableDescriptor descriptor : descriptors) {
+                String row = String.join("\u001f", String.valueOf(descriptor.getDocumentType()),
+                    String.valueOf(descriptor.getDocumentUrl()), String.valueOf(descriptor.getDateAdded()),
+                    String.valueOf(descriptor.getDateApproved()), String.valueOf(descriptor.getUploadParty()));
+                digest.update(("\n" + row).getBytes(StandardCharsets.UTF_8));
             }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
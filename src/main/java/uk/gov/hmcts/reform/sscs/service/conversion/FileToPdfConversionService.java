@@ -1,82 +1,142 @@
 package uk.gov.hmcts.reform.sscs.service.conversion;
 
-import static pl.touk.throwing.ThrowingFunction.unchecked;
-
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.fileupload.disk.DiskFileItem;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.tika.Tika;
 import org.apache.tika.config.TikaConfig;
 import org.apache.tika.detect.Detector;
 import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.HttpHeaders;
 import org.apache.tika.metadata.Metadata;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.reform.sscs.exception.FileToPdfConversionException;
+import uk.gov.hmcts.reform.sscs.util.BoundedExecutors;
 
+/**
+ * Converts uploaded files to PDF where a converter accepts their type. Conversions run on a pool of their own, so
+ * files waiting on Docmosis do not hold up the common fork join pool, and the temporary files a conversion uses are
+ * deleted when it finishes. When the pool's queue is full the uploading thread converts the file itself.
+ */
 @Slf4j
 @Service
 public class FileToPdfConversionService {
 
-    private final List<FileToPdfConverter> converters;
+    static final String CONVERSION_TIMER = "sscs.file.conversion";
 
-    private final Tika tika = new Tika();
+    private final List<FileToPdfConverter> converters;
+    private final Detector detector = TikaConfig.getDefaultConfig().getDetector();
+    private final ExecutorService conversionExecutor;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public FileToPdfConversionService(List<FileToPdfConverter> converters) {
+    public FileToPdfConversionService(List<FileToPdfConverter> converters,
+                                      @Value("${docmosis.convert.threads:4}") int conversionThreads,
+                                      @Value("${docmosis.convert.queueCapacity:50}") int conversionQueueCapacity,
+                                      MeterRegistry meterRegistry) {
         this.converters = converters;
+        this.meterRegistry = meterRegistry;
+        this.conversionExecutor = BoundedExecutors.newBoundedPool("file-to-pdf-conversion", "fileToPdfConversion",
+            conversionThreads, conversionQueueCapacity, meterRegistry);
     }
 
     public List<MultipartFile> convert(List<MultipartFile> files) {
+        List<CompletableFuture<MultipartFile>> conversions = files.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> convertUnchecked(file), conversionExecutor))
+            .toList();
+        try {
+            return conversions.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            log.error("cannot convert files to PDF.", e.getCause());
+            throw new FileToPdfConversionException("Cannot convert files to PDF.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        conversionExecutor.shutdown();
+    }
+
+    private MultipartFile convertUnchecked(MultipartFile f) {
         try {
-            return files.stream().parallel().map(unchecked(this::convert)).toList();
-        } catch (Exception e) {
-            log.error("cannot convert files to PDF.", e);
-            throw new FileToPdfConversionException("Cannot convert files to PDF.", e);
+            return convert(f);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
     private MultipartFile convert(MultipartFile f) throws IOException {
-        TikaConfig config = TikaConfig.getDefaultConfig();
-        Detector detector = config.getDetector();
-        Metadata metadata = new Metadata();
-        metadata.set(HttpHeaders.CONTENT_TYPE, f.getOriginalFilename());
-        try (InputStream is = f.getInputStream()) {
-            TikaInputStream stream = TikaInputStream.get(is);
-            String mimeType = detector.detect(stream, metadata).getBaseType().toString();
+        String mimeType;
+        try (InputStream is = f.getInputStream(); TikaInputStream stream = TikaInputStream.get(is)) {
+            mimeType = detect(stream, f);
+        }
+
+        Optional<FileToPdfConverter> converter = converters.stream()
+                .filter(g -> g.accepts().contains(mimeType))
+                .findFirst();
 
-            Optional<File> fileOptional = convertFile(mimeType, f);
+        if (converter.isEmpty()) {
+            return f;
+        }
+        return convert(converter.get(), f);
+    }
 
-            if (!fileOptional.isPresent()) {
-                return f;
+    private MultipartFile convert(FileToPdfConverter converter, MultipartFile f) throws IOException {
+        long start = System.nanoTime();
+        boolean converted = false;
+        File input = transferToFile(f);
+        File output = null;
+        try {
+            output = converter.convert(input);
+            MultipartFile multipartFile = getMultipartFile(f, output);
+            converted = true;
+            return multipartFile;
+        } finally {
+            recordConversion(converter, converted, System.nanoTime() - start);
+            deleteTempFile(input);
+            if (output != null) {
+                deleteTempFile(output);
             }
-            return getMultipartFile(f, fileOptional.get());
         }
     }
 
-    private MultipartFile getMultipartFile(MultipartFile f, File file) throws IOException {
-        TikaConfig config = TikaConfig.getDefaultConfig();
-        Detector detector = config.getDetector();
+    private String detect(TikaInputStream stream, MultipartFile f) throws IOException {
         Metadata metadata = new Metadata();
         metadata.set(HttpHeaders.CONTENT_TYPE, f.getOriginalFilename());
-        String newMimeType = detector.detect(TikaInputStream.get(file.toPath()), metadata).getBaseType().toString();
+        return detector.detect(stream, metadata).getBaseType().toString();
+    }
+
+    private MultipartFile getMultipartFile(MultipartFile f, File file) throws IOException {
+        String newMimeType;
+        try (TikaInputStream stream = TikaInputStream.get(file.toPath())) {
+            newMimeType = detect(stream, f);
+        }
 
         String extension =  FilenameUtils.getExtension(file.getName());
         final String fileName = String.format("%s.%s", FilenameUtils.getBaseName(f.getOriginalFilename()), extension);
 
+        // the threshold is the size of the file, so the item is kept in memory and the file can be deleted
         final DiskFileItem diskFileItem = new DiskFileItem(fileName, newMimeType, false, fileName, (int) file.length(), file.getParentFile());
 
         // This shoddy library doesn't work as it should.
@@ -90,21 +150,35 @@ public class FileToPdfConversionService {
         return new FileMultipartFile(diskFileItem);
     }
 
-    private Optional<File> convertFile(String mimeType, MultipartFile f) {
-        return converters.stream()
-                .filter(g -> g.accepts().contains(mimeType))
-                .findFirst()
-                .map(unchecked(g -> g.convert(transferToFile(f))));
-    }
-
     private File transferToFile(MultipartFile f) throws IOException {
         String suffix = String.format(".%s", FilenameUtils.getExtension(f.getOriginalFilename()));
         File tempFile = Files.createTempFile(Paths.get("").toAbsolutePath(), "tempConversion", suffix).toFile();
-        tempFile.deleteOnExit();
-        f.transferTo(tempFile);
+        try {
+            f.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            deleteTempFile(tempFile);
+            throw e;
+        }
         return tempFile;
     }
 
+    private static void deleteTempFile(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", file, e);
+        }
+    }
+
+    private void recordConversion(FileToPdfConverter converter, boolean converted, long nanos) {
+        Timer.builder(CONVERSION_TIMER)
+            .description("Time taken to convert a file to PDF")
+            .tag("converter", converter.getClass().getSimpleName())
+            .tag("outcome", converted ? "success" : "failure")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
     private record FileMultipartFile(DiskFileItem file) implements MultipartFile {
 
         @Override
@@ -74,9 +74,12 @@ public class ImageConverter implements FileToPdfConverter {
                 contentStream.drawImage(pdImage, MARGIN, ypos, imageWidth * scale, imageHeight * scale);
             }
             File outputFile = Files.createTempFile(Paths.get("").toAbsolutePath(), file.getName(), ".pdf").toFile();
-            outputFile.deleteOnExit();
-
-            doc.save(outputFile);
+            try {
+                doc.save(outputFile);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(outputFile.toPath());
+                throw e;
+            }
             return outputFile;
         }
     }
@@ -46,17 +46,20 @@ public class RtfConverter extends WordDocumentConverter implements FileToPdfConv
         AutoDetectParser parser = new AutoDetectParser();
         Metadata metadata = new Metadata();
         File textFile = Files.createTempFile(Paths.get("").toAbsolutePath(), FilenameUtils.getBaseName(file.getName()), ".txt").toFile();
-        textFile.deleteOnExit();
-        try (InputStream stream = new FileInputStream(file);
-             FileWriter writer = new FileWriter(textFile)) {
+        try {
+            try (InputStream stream = new FileInputStream(file);
+                 FileWriter writer = new FileWriter(textFile)) {
 
-            parser.parse(stream, handler, metadata);
-            String content = handler.toString();
-            writer.write(content);
+                parser.parse(stream, handler, metadata);
+                String content = handler.toString();
+                writer.write(content);
+            }
 
             return super.convert(textFile);
         } catch (TikaException | SAXException e) {
             throw new IOException(e);
+        } finally {
+            Files.deleteIfExists(textFile.toPath());
         }
     }
 }
@@ -3,8 +3,10 @@ package uk.gov.hmcts.reform.sscs.service.conversion;
 import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
@@ -66,16 +68,21 @@ public class WordDocumentConverter implements FileToPdfConverter {
                 .method("POST", requestBody)
                 .build();
 
-        final Response response = httpClient.newCall(request).execute();
+        try (Response response = httpClient.newCall(request).execute()) {
 
-        if (!response.isSuccessful()) {
-            throw new IOException(String.format("Docmosis error (%s) converting: %s", response.code(), file.getName()));
-        }
+            if (!response.isSuccessful()) {
+                throw new IOException(String.format("Docmosis error (%s) converting: %s", response.code(), file.getName()));
+            }
 
-        final File convertedFile = Files.createTempFile(Paths.get("").toAbsolutePath(), "stitch-conversion", ".pdf").toFile();
-        convertedFile.deleteOnExit();
-        Files.write(convertedFile.toPath(), Objects.requireNonNull(response.body()).bytes());
+            final File convertedFile = Files.createTempFile(Paths.get("").toAbsolutePath(), "stitch-conversion", ".pdf").toFile();
+            try (InputStream body = Objects.requireNonNull(response.body()).byteStream()) {
+                Files.copy(body, convertedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(convertedFile.toPath());
+                throw e;
+            }
 
-        return convertedFile;
+            return convertedFile;
+        }
     }
 }
@@ -6,6 +6,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -757,10 +758,15 @@ public class ConvertSscsCaseDataIntoSessionDraft implements ConvertAIntoBService
             return null;
         }
 
+        Map<String, Long> fileSizes = documentDownloadService.getFileSizes(caseData.getSscsDocument()
+            .stream()
+            .map(f -> f.getValue().getDocumentLink().getDocumentBinaryUrl())
+            .toList());
+
         List<SessionEvidence> sessionEvidences = caseData.getSscsDocument()
             .stream()
             .map(f -> new SessionEvidence(
-                documentDownloadService.getFileSize(f.getValue().getDocumentLink().getDocumentBinaryUrl()),
+                fileSizes.getOrDefault(f.getValue().getDocumentLink().getDocumentBinaryUrl(), 0L),
                 f.getValue())
             )
             .toList();
@@ -22,10 +22,11 @@ import static uk.gov.hmcts.reform.sscs.util.OtherPartyDataUtil.isOtherPartyAppoi
 import static uk.gov.hmcts.reform.sscs.util.OtherPartyDataUtil.isOtherPartyRep;
 import static uk.gov.hmcts.reform.sscs.util.OtherPartyDataUtil.withEmailPredicate;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
@@ -38,17 +39,24 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
 import org.apache.pdfbox.multipdf.PDFMergerUtility;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.reform.document.domain.Document;
 import uk.gov.hmcts.reform.sscs.ccd.domain.AudioVideoEvidence;
@@ -93,6 +101,8 @@ public class EvidenceUploadService {
     private final EvidenceManagementService evidenceManagementService;
     private final PdfStoreService pdfStoreService;
     private final UpdateCcdCaseService updateCcdCaseService;
+    private final int downloadConcurrency;
+    private final long mergeMaxHeapBytes;
 
     public static final String DM_STORE_USER_ID = "sscs";
     private static final Enum<EventType> EVENT_TYPE = EventType.UPLOAD_DOCUMENT;
@@ -106,7 +116,9 @@ public class EvidenceUploadService {
                                  StoreEvidenceDescriptionService storeEvidenceDescriptionService,
                                  FileToPdfConversionService fileToPdfConversionService,
                                  EvidenceManagementService evidenceManagementService,
-                                 PdfStoreService pdfStoreService, UpdateCcdCaseService updateCcdCaseService, AddedDocumentsUtil addedDocumentsUtil) {
+                                 PdfStoreService pdfStoreService, UpdateCcdCaseService updateCcdCaseService, AddedDocumentsUtil addedDocumentsUtil,
+                                 @Value("${evidence.upload.downloadConcurrency:4}") int downloadConcurrency,
+                                 @Value("${evidence.upload.mergeMaxHeapBytes:33554432}") long mergeMaxHeapBytes) {
         this.documentStoreService = documentStoreService;
         this.idamService = idamService;
         this.onlineHearingService = onlineHearingService;
@@ -116,6 +128,8 @@ public class EvidenceUploadService {
         this.pdfStoreService = pdfStoreService;
         this.updateCcdCaseService = updateCcdCaseService;
         this.addedDocumentsUtil = addedDocumentsUtil;
+        this.downloadConcurrency = Math.max(1, downloadConcurrency);
+        this.mergeMaxHeapBytes = mergeMaxHeapBytes;
     }
 
     public Optional<Evidence> uploadDraftEvidence(String identifier, MultipartFile file) {
@@ -337,27 +351,72 @@ public class EvidenceUploadService {
             }
         }
 
-        List<byte[]> contentUploads = getContentListFromTheEvidenceUploads(storePdfContext);
-        ByteArrayResource statementContent = getContentFromTheStatement(storePdfContext);
-        byte[] combinedContent = appendEvidenceUploadsToStatement(statementContent.getByteArray(), contentUploads,
-                sscsCaseData.getCcdCaseId());
-        SscsDocument combinedPdfEvidence = pdfStoreService.store(combinedContent, filename, "Other evidence").get(0);
-        buildUploadedDocumentByGivenSscsDoc(sscsCaseData, combinedPdfEvidence, audioVideoMedia, idamEmail);
+        Path workDirectory = createWorkDirectory();
+        try {
+            List<Path> contentUploads = downloadTheEvidenceUploads(storePdfContext, workDirectory, sscsCaseData.getCcdCaseId());
+            ByteArrayResource statementContent = getContentFromTheStatement(storePdfContext);
+            Path combinedContent = appendEvidenceUploadsToStatement(statementContent.getByteArray(), contentUploads,
+                    workDirectory, sscsCaseData.getCcdCaseId());
+            SscsDocument combinedPdfEvidence = pdfStoreService.storeFile(combinedContent, filename, "Other evidence").get(0);
+            buildUploadedDocumentByGivenSscsDoc(sscsCaseData, combinedPdfEvidence, audioVideoMedia, idamEmail);
+        } finally {
+            FileSystemUtils.deleteRecursively(workDirectory.toFile());
+        }
+    }
+
+    private static Path createWorkDirectory() {
+        try {
+            return Files.createTempDirectory("evidence-upload-");
+        } catch (IOException e) {
+            throw new EvidenceUploadException("Error when creating a directory for the evidence uploads..", e);
+        }
     }
 
     private ByteArrayResource getContentFromTheStatement(MyaEventActionContext storePdfContext) {
         return (ByteArrayResource) storePdfContext.getPdf().getContent();
     }
 
-    private List<byte[]> getContentListFromTheEvidenceUploads(MyaEventActionContext storePdfContext) {
-        List<byte[]> draftPdfContentList = new ArrayList<>();
+    /**
+     * Downloads the draft uploads into the work directory, at most {@code downloadConcurrency} at a time, so only
+     * that many are ever held in memory. Returns the files in the same order as the drafts.
+     */
+    private List<Path> downloadTheEvidenceUploads(MyaEventActionContext storePdfContext, Path workDirectory, String caseId) {
         List<SscsDocument> drafts = storePdfContext.getDocument().getData().getDraftSscsDocument();
-        drafts.forEach(draft -> {
-            String documentUrl = draft.getValue().getDocumentLink().getDocumentUrl();
-            byte[] draftPdfContent = getContentInBytesForGivenDocumentStoreUrl(documentUrl);
-            draftPdfContentList.add(draftPdfContent);
-        });
-        return draftPdfContentList;
+        Semaphore permits = new Semaphore(downloadConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Path>> downloads = new ArrayList<>();
+            for (int i = 0; i < drafts.size(); i++) {
+                String documentUrl = drafts.get(i).getValue().getDocumentLink().getDocumentUrl();
+                Path uploadFile = workDirectory.resolve("upload" + i + ".pdf");
+                downloads.add(executor.submit(() -> downloadTo(documentUrl, uploadFile, permits)));
+            }
+            List<Path> uploadFiles = new ArrayList<>();
+            try {
+                for (Future<Path> download : downloads) {
+                    uploadFiles.add(download.get());
+                }
+            } catch (ExecutionException e) {
+                downloads.forEach(download -> download.cancel(true));
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new EvidenceUploadException("Error when downloading the evidence uploads for caseId " + caseId, e.getCause());
+            } catch (InterruptedException e) {
+                downloads.forEach(download -> download.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new EvidenceUploadException("Interrupted when downloading the evidence uploads for caseId " + caseId, e);
+            }
+            return uploadFiles;
+        }
+    }
+
+    private Path downloadTo(String documentUrl, Path uploadFile, Semaphore permits) throws InterruptedException, IOException {
+        permits.acquire();
+        try {
+            return Files.write(uploadFile, getContentInBytesForGivenDocumentStoreUrl(documentUrl));
+        } finally {
+            permits.release();
+        }
     }
 
     private byte[] getContentInBytesForGivenDocumentStoreUrl(String draftDocUrl) {
@@ -371,62 +430,35 @@ public class EvidenceUploadService {
     }
 
 
-    private byte[] appendEvidenceUploadsToStatement(byte[] statement, List<byte[]> uploads, String caseId) {
+    /**
+     * Merges into a file in the work directory. PDFBox keeps up to {@code mergeMaxHeapBytes} of the documents being
+     * merged in memory and the rest in scratch files.
+     */
+    private Path appendEvidenceUploadsToStatement(byte[] statement, List<Path> uploads, Path workDirectory, String caseId) {
 
         if (statement != null && uploads != null) {
 
-            PDDocument statementDoc = getLoadSafe(statement, "statementDoc", caseId);
+            Path combinedContent = workDirectory.resolve("combined.pdf");
             final PDFMergerUtility merger = new PDFMergerUtility();
-
-            for (int i = 0; i < uploads.size(); i++) {
-                PDDocument uploadDoc = getLoadSafe(uploads.get(i), "uploadDoc" + i, caseId);
-                appendDocumentSafe(statementDoc, merger, uploadDoc);
-                closeSafe(uploadDoc);
+            merger.addSource(new RandomAccessReadBuffer(statement));
+            for (Path upload : uploads) {
+                merger.addSource(upload.toFile());
             }
+            merger.setDestinationFileName(combinedContent.toString());
 
-            ByteArrayOutputStream combinedContent = new ByteArrayOutputStream();
-            saveDocSafe(statementDoc, combinedContent);
-            closeSafe(statementDoc);
-            return combinedContent.toByteArray();
+            try {
+                merger.mergeDocuments(MemoryUsageSetting.setupMixed(mergeMaxHeapBytes).streamCache);
+            } catch (IOException e) {
+                throw new EvidenceUploadException("Error when appending the evidence uploads to the statement for caseId "
+                        + caseId, e);
+            }
+            return combinedContent;
 
         } else {
             throw new RuntimeException("Can not combine empty statement or evidence documents");
         }
     }
 
-    private static void closeSafe(PDDocument statementDoc) {
-        try {
-            statementDoc.close();
-        } catch (IOException e) {
-            throw new EvidenceUploadException("Error when closing Doc..", e);
-        }
-    }
-
-    private static void saveDocSafe(PDDocument statementDoc, ByteArrayOutputStream combinedContent) {
-        try {
-            statementDoc.save(combinedContent);
-        } catch (IOException e) {
-            throw new RuntimeException("Error when saving Doc..", e);
-        }
-    }
-
-    private static void appendDocumentSafe(PDDocument statementDoc, PDFMergerUtility merger, PDDocument uploadDoc) {
-        try {
-            merger.appendDocument(statementDoc, uploadDoc);
-        } catch (IOException e) {
-            throw new RuntimeException("Error when appending docs..", e);
-        }
-    }
-
-    public static PDDocument getLoadSafe(byte[] statement, String docType, String caseId) {
-        try {
-            return Loader.loadPDF(statement);
-        } catch (IOException e) {
-            throw new EvidenceUploadException("Error when getting PDDocument " + docType + " for caseId " + caseId
-                    + " with bytes length " + statement.length, e);
-        }
-    }
-
     private void removeStatementDocFromDocumentTab(SscsCaseData sscsCaseData, List<SscsDocument> sscsDocument) {
         sscsDocument.removeIf(doc -> doc.getValue().getDocumentFileName().startsWith(TEMP_UNIQUE_ID)
                 || doc.getValue().getDocumentLink().getDocumentFilename().startsWith(TEMP_UNIQUE_ID));
@@ -40,6 +40,7 @@ public class ProcessHmcMessageServiceV2 {
         Long caseId = hmcMessage.getCaseId();
         String hearingId = hmcMessage.getHearingId();
 
+        hmcHearingApiService.invalidateCachedResponses(String.valueOf(caseId), hearingId);
         HearingGetResponse hearingResponse = hmcHearingApiService.getHearingRequest(hearingId);
 
         HmcStatus hmcMessageStatus = hmcMessage.getHearingUpdate().getHmcStatus();
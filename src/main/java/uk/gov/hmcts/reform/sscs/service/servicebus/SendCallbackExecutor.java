@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+import uk.gov.hmcts.reform.sscs.util.KeyedLaneExecutor;
+
+/**
+ * Runs /send callback work on a fixed number of single threaded lanes keyed by case id, so callbacks for one case are
+ * handled in the order they arrived while different cases run in parallel. A callback for a full lane is rejected
+ * straight away rather than holding the request thread, and /send answers 503 so the caller tries again later.
+ */
+@Component
+public class SendCallbackExecutor extends KeyedLaneExecutor {
+
+    static final String METRIC_PREFIX = "sscs.send.callback";
+    static final String QUEUE_DEPTH_GAUGE = METRIC_PREFIX + QUEUE_DEPTH_SUFFIX;
+    static final String ACTIVE_WORKERS_GAUGE = METRIC_PREFIX + ACTIVE_WORKERS_SUFFIX;
+    static final String HANDLING_TIMER = METRIC_PREFIX + HANDLING_SUFFIX;
+    static final String REJECTED_COUNTER = METRIC_PREFIX + REJECTED_SUFFIX;
+
+    public SendCallbackExecutor(@Value("${callback.executor.lanes:8}") int laneCount,
+                                @Value("${callback.executor.queueCapacity:200}") int queueCapacity,
+                                MeterRegistry meterRegistry) {
+        super("send-callback", METRIC_PREFIX, "/send callbacks", laneCount, queueCapacity, 0, meterRegistry);
+    }
+
+    public void execute(long caseId, EventType event, Runnable task) {
+        execute(caseId, Tag.of("event", String.valueOf(event)), task);
+    }
+}
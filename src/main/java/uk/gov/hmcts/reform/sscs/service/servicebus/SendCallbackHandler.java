@@ -5,7 +5,6 @@ import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.SUBMITTED;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.callback.CallbackDispatcher;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
@@ -27,18 +26,24 @@ public class SendCallbackHandler {
     private final Integer maxRetryAttempts;
     private final CallbackDispatcher<SscsCaseData> dispatcher;
     private final NotificationsMessageProcessor notificationsMessageProcessor;
+    private final SendCallbackExecutor executor;
 
     public SendCallbackHandler(@Value("${callback.maxRetryAttempts}") Integer maxRetryAttempts,
                                CallbackDispatcher<SscsCaseData> dispatcher,
-                               NotificationsMessageProcessor notificationsMessageProcessor) {
+                               NotificationsMessageProcessor notificationsMessageProcessor,
+                               SendCallbackExecutor executor) {
         this.maxRetryAttempts = maxRetryAttempts;
         this.dispatcher = dispatcher;
         this.notificationsMessageProcessor = notificationsMessageProcessor;
+        this.executor = executor;
     }
 
-    @Async
     public void handle(Callback<SscsCaseData> callback) {
         log.info("Received message for case ID: {}, event: {}", callback.getCaseDetails().getId(), callback.getEvent());
+        executor.execute(callback.getCaseDetails().getId(), callback.getEvent(), () -> process(callback));
+    }
+
+    private void process(Callback<SscsCaseData> callback) {
         processEvidenceShareMessageWithRetry(callback, 1);
         notificationsMessageProcessor.processMessage(callback);
     }
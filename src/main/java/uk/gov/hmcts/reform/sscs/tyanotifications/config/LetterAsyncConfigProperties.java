@@ -15,4 +15,5 @@ public class LetterAsyncConfigProperties {
     private double multiplier;
     private long maxDelay;
     private long initialDelay;
+    private int pollerThreads = 2;
 }
\ No newline at end of file
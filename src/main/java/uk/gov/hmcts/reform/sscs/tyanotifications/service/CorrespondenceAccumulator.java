@@ -0,0 +1,205 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
+import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
+
+/**
+ * Collects the correspondence stored for a case and adds it to the case in one {@code NOTIFICATION_SENT} update, so
+ * an event sent to several parties is saved with one CCD round trip instead of one per notification. Pending
+ * correspondence is saved once the flush delay has passed since the first item for the case, or straight away when
+ * the batch reaches its maximum size.
+ *
+ * <p>Batching is opt-in and off by default: with a delay of zero every item is saved straight away on the caller's
+ * thread and a failure is thrown back to it as before. Once switched on, pending correspondence is only held in
+ * memory. A deferred save that fails is tried again after a delay, up to the maximum number of attempts, and is then
+ * given up on: it is counted and logged with the documents that were not added to the case. Pending and retrying
+ * correspondence is saved when the application shuts down cleanly, but it is lost if the instance is killed.
+ */
+@Slf4j
+@Component
+public class CorrespondenceAccumulator {
+
+    static final String PENDING_GAUGE = "sscs.correspondence.pending";
+    static final String BATCH_SIZE_SUMMARY = "sscs.correspondence.batch.size";
+    static final String FAILED_COUNTER = "sscs.correspondence.save.failed";
+
+    private final CcdNotificationsPdfService ccdNotificationsPdfService;
+    private final long flushDelayMillis;
+    private final int maxBatchSize;
+    private final int maxSaveAttempts;
+    private final long retryDelayMillis;
+    private final Map<Long, Pending> pending = new HashMap<>();
+    private final Set<Retry> retries = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSize;
+    private final Counter failedSaves;
+
+    public CorrespondenceAccumulator(CcdNotificationsPdfService ccdNotificationsPdfService,
+                                     @Value("${notification.correspondence.flushDelayMillis:0}") long flushDelayMillis,
+                                     @Value("${notification.correspondence.maxBatchSize:20}") int maxBatchSize,
+                                     @Value("${notification.correspondence.maxSaveAttempts:3}") int maxSaveAttempts,
+                                     @Value("${notification.correspondence.retryDelayMillis:5000}")
+                                     long retryDelayMillis,
+                                     MeterRegistry meterRegistry) {
+        this.ccdNotificationsPdfService = ccdNotificationsPdfService;
+        this.flushDelayMillis = flushDelayMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.maxSaveAttempts = maxSaveAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "correspondence-accumulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        batchSize = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+            .description("Number of correspondence items saved to a case in one update")
+            .register(meterRegistry);
+        failedSaves = Counter.builder(FAILED_COUNTER)
+            .description("Number of correspondence batches given up on after every save attempt failed")
+            .register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE, this, CorrespondenceAccumulator::getPendingCount)
+            .description("Number of correspondence items waiting to be saved to their case")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues correspondence whose documents have already been stored to be added to the case.
+     */
+    public void add(Long caseId, List<Correspondence> correspondences, String senderType) {
+        if (flushDelayMillis <= 0) {
+            merge(caseId, new Pending(correspondences, senderType));
+            return;
+        }
+
+        Pending full = null;
+        synchronized (pending) {
+            Pending forCase = pending.get(caseId);
+            if (forCase == null) {
+                forCase = new Pending(correspondences, senderType);
+                pending.put(caseId, forCase);
+                scheduler.schedule(() -> flush(caseId), flushDelayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                forCase.add(correspondences, senderType);
+            }
+            if (forCase.correspondences().size() >= maxBatchSize) {
+                full = pending.remove(caseId);
+            }
+        }
+        if (full != null) {
+            save(caseId, full, 1);
+        }
+    }
+
+    int getPendingCount() {
+        int retrying = retries.stream().mapToInt(retry -> retry.forCase.correspondences().size()).sum();
+        synchronized (pending) {
+            return retrying + pending.values().stream().mapToInt(forCase -> forCase.correspondences().size()).sum();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        Map<Long, Pending> remaining;
+        synchronized (pending) {
+            remaining = new HashMap<>(pending);
+            pending.clear();
+        }
+        List<Retry> retrying = new ArrayList<>(retries);
+        retries.clear();
+        log.info("Correspondence accumulator stopping, saving correspondence for {} cases and {} retries",
+            remaining.size(), retrying.size());
+        remaining.forEach((caseId, forCase) -> save(caseId, forCase, 1));
+        retrying.forEach(retry -> save(retry.caseId, retry.forCase, retry.attempt));
+    }
+
+    private void flush(Long caseId) {
+        Pending forCase;
+        synchronized (pending) {
+            forCase = pending.remove(caseId);
+        }
+        if (forCase != null) {
+            save(caseId, forCase, 1);
+        }
+    }
+
+    private void merge(Long caseId, Pending forCase) {
+        batchSize.record(forCase.correspondences().size());
+        ccdNotificationsPdfService.mergeStoredCorrespondenceIntoCcdV2(caseId, forCase.correspondences(),
+            "Notification sent via " + String.join(" and ", forCase.senderTypes()));
+    }
+
+    private void save(Long caseId, Pending forCase, int attempt) {
+        try {
+            merge(caseId, forCase);
+        } catch (RuntimeException ex) {
+            if (attempt < maxSaveAttempts && retry(new Retry(caseId, forCase, attempt + 1))) {
+                log.warn("Failed to save {} correspondence items to case {} on attempt {} of {}, trying again in {}ms",
+                    forCase.correspondences().size(), caseId, attempt, maxSaveAttempts, retryDelayMillis * attempt, ex);
+            } else {
+                failedSaves.increment();
+                log.error("Giving up saving {} correspondence items to case {} after {} attempts, not added: {}",
+                    forCase.correspondences().size(), caseId, attempt, forCase.correspondences(), ex);
+            }
+        }
+    }
+
+    private boolean retry(Retry retry) {
+        retries.add(retry);
+        try {
+            scheduler.schedule(() -> {
+                if (retries.remove(retry)) {
+                    save(retry.caseId, retry.forCase, retry.attempt);
+                }
+            }, retryDelayMillis * (retry.attempt - 1), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            retries.remove(retry);
+            return false;
+        }
+    }
+
+    private record Pending(List<Correspondence> correspondences, Set<String> senderTypes) {
+
+        Pending(List<Correspondence> correspondences, String senderType) {
+            this(new ArrayList<>(correspondences), new LinkedHashSet<>(List.of(senderType)));
+        }
+
+        void add(List<Correspondence> moreCorrespondences, String senderType) {
+            correspondences.addAll(moreCorrespondences);
+            senderTypes.add(senderType);
+        }
+    }
+
+    // a class rather than a record so each retry is tracked by identity, not by the correspondence it holds
+    private static final class Retry {
+        private final Long caseId;
+        private final Pending forCase;
+        private final int attempt;
+
+        private Retry(Long caseId, Pending forCase, int attempt) {
+            this.caseId = caseId;
+            this.forCase = forCase;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Waits for GOV.UK Notify to render the PDF of a sent letter. Each letter is a scheduled task that asks Notify for the
+ * PDF after the initial delay and again with an increasing backoff until it is ready, so no thread is held while a
+ * letter is waiting. Uses the letter-async delay, backoff and attempt settings.
+ *
+ * <p>Once the PDF has been fetched it is saved on the application's async executor, so a slow save does not hold up
+ * the other letters' polls. A failed save is tried again with the same PDF, without asking Notify for it again. On
+ * shutdown every letter still waiting is tried once more, and any that still cannot be saved are logged with their
+ * notification id so they can be saved by hand.
+ */
+@Slf4j
+@Component
+public class LetterPdfPoller {
+
+    static final String PENDING_GAUGE = "sscs.letter.pdf.pending";
+    static final String OLDEST_PENDING_GAUGE = "sscs.letter.pdf.pending.oldest.age";
+    static final String WAIT_TIMER = "sscs.letter.pdf.wait";
+
+    private final LetterAsyncConfigProperties properties;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Executor saveExecutor;
+    private final Map<Long, Attempt> pending = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public LetterPdfPoller(LetterAsyncConfigProperties properties,
+                           @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                           Executor saveExecutor,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.saveExecutor = saveExecutor;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(properties.getPollerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "letter-pdf-poller-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        Gauge.builder(PENDING_GAUGE, pending, Map::size)
+            .description("Number of sent letters waiting for GOV.UK Notify to render their PDF")
+            .register(meterRegistry);
+        Gauge.builder(OLDEST_PENDING_GAUGE, this, LetterPdfPoller::getOldestPendingSeconds)
+            .description("Seconds the longest waiting letter has been waiting for its PDF")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Fetches the PDF of the letter once it is ready and hands it to {@code onReady} on the save executor. If the
+     * fetch fails it is tried again later, and if {@code onReady} fails it is called again with the same PDF, each up
+     * to the maximum number of attempts.
+     */
+    public void submit(NotificationClient client, String notificationId, String ccdCaseId, Consumer<byte[]> onReady) {
+        Attempt attempt = new Attempt(ids.incrementAndGet(), client, notificationId, ccdCaseId, onReady);
+        pending.put(attempt.id, attempt);
+        log.debug("Waiting {} milliseconds before making first attempt to get letter pdf for case id : {}",
+            properties.getInitialDelay(), ccdCaseId);
+        schedule(attempt, properties.getInitialDelay());
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    double getOldestPendingSeconds() {
+        Instant now = Instant.now();
+        return pending.values().stream()
+            .mapToDouble(attempt -> Duration.between(attempt.since, now).toMillis() / 1000.0)
+            .max()
+            .orElse(0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(properties.getMaxDelay(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("Letter pdf poller stopping, trying {} waiting letters once more", pending.size());
+        pending.values().forEach(Attempt::lastTry);
+        pending.values().forEach(attempt ->
+            log.error("Failed saving correspondence. Letter pdf {} for case id: {} was not saved before shutdown",
+                attempt.notificationId, attempt.ccdCaseId));
+    }
+
+    private void schedule(Attempt attempt, long delayMillis) {
+        try {
+            scheduler.schedule(attempt, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down, the letter is tried once more and then logged by shutdown
+            log.debug("Not scheduling letter pdf {} for case id: {} as the poller is stopping",
+                attempt.notificationId, attempt.ccdCaseId);
+        }
+    }
+
+    private long backoff(int attemptsMade) {
+        long delay = (long) Math.min(properties.getDelay() * Math.pow(properties.getMultiplier(), attemptsMade - 1),
+            properties.getMaxDelay());
+        // randomised up to the next step, as the random exponential backoff of the retry template did
+        long jitter = (long) (delay * Math.max(0, properties.getMultiplier() - 1)
+            * ThreadLocalRandom.current().nextDouble());
+        return Math.min(delay + jitter, properties.getMaxDelay());
+    }
+
+    private void finish(long id, String outcome) {
+        Attempt attempt = pending.remove(id);
+        if (attempt != null) {
+            Timer.builder(WAIT_TIMER)
+                .description("Time from sending a letter until its PDF was saved or we gave up waiting")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.between(attempt.since, Instant.now()));
+        }
+    }
+
+    private final class Attempt implements Runnable {
+        private final long id;
+        private final Instant since = Instant.now();
+        private final NotificationClient client;
+        private final String notificationId;
+        private final String ccdCaseId;
+        private final Consumer<byte[]> onReady;
+        private final AtomicBoolean saving = new AtomicBoolean();
+        private volatile byte[] pdf;
+        private int fetchesMade;
+        private int savesMade;
+
+        private Attempt(long id, NotificationClient client, String notificationId, String ccdCaseId,
+                        Consumer<byte[]> onReady) {
+            this.id = id;
+            this.client = client;
+            this.notificationId = notificationId;
+            this.ccdCaseId = ccdCaseId;
+            this.onReady = onReady;
+        }
+
+        @Override
+        public void run() {
+            if (pdf == null && !fetch()) {
+                return;
+            }
+            if (saving.compareAndSet(false, true)) {
+                try {
+                    saveExecutor.execute(this::save);
+                } catch (RejectedExecutionException e) {
+                    save();
+                }
+            }
+        }
+
+        /**
+         * Runs on the shutdown thread once the scheduler has stopped. A save already running on the save executor is
+         * left to finish.
+         */
+        private void lastTry() {
+            if (!saving.compareAndSet(false, true)) {
+                return;
+            }
+            if (pdf == null) {
+                try {
+                    pdf = client.getPdfForLetter(notificationId);
+                } catch (NotificationClientException e) {
+                    saving.set(false);
+                    return;
+                }
+            }
+            save();
+        }
+
+        private boolean fetch() {
+            fetchesMade++;
+            try {
+                pdf = client.getPdfForLetter(notificationId);
+                return true;
+            } catch (NotificationClientException e) {
+                if (e.getMessage() != null && e.getMessage().contains("PDFNotReadyError")) {
+                    log.info("Got a PDFNotReadyError back from gov.notify for case id: {}.", ccdCaseId);
+                } else {
+                    log.warn("Got a strange error '{}' back from gov.notify for case id: {}.", e.getMessage(),
+                        ccdCaseId);
+                }
+            }
+
+            if (fetchesMade >= properties.getMaxAttempts()) {
+                log.error("Failed saving correspondence. Gave up waiting for letter pdf {} for case id: {} "
+                    + "after {} attempts", notificationId, ccdCaseId, fetchesMade);
+                finish(id, "failed");
+            } else {
+                schedule(this, backoff(fetchesMade));
+            }
+            return false;
+        }
+
+        private void save() {
+            savesMade++;
+            try {
+                onReady.accept(pdf);
+                finish(id, "saved");
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed saving letter pdf for case id: {}.", ccdCaseId, e);
+            }
+
+            if (savesMade >= properties.getMaxAttempts()) {
+                log.error("Failed saving correspondence. Gave up saving letter pdf {} for case id: {} "
+                    + "after {} attempts", notificationId, ccdCaseId, savesMade);
+                finish(id, "failed");
+            } else {
+                saving.set(false);
+                schedule(this, backoff(savesMade));
+            }
+        }
+    }
+}
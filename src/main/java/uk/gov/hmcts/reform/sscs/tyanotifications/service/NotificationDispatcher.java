@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.util.BoundedExecutors;
+
+/**
+ * Sends the notifications for one event in parallel on a bounded pool, and limits the rate of calls to GOV.UK Notify
+ * per channel so the fan-out cannot exceed the service's rate limit. When the pool's queue is full the calling thread
+ * does the send itself. Tests can pass a direct executor so every send runs on the calling thread.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    static final String THROTTLED_COUNTER = "sscs.notification.dispatch.throttled";
+    static final String EMAIL = "Email";
+    static final String SMS = "SMS";
+    static final String LETTER = "Letter";
+
+    private final ExecutorService executor;
+    private final Map<String, RateLimiter> rateLimiters;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public NotificationDispatcher(@Value("${notification.dispatch.threads:8}") int threads,
+                                  @Value("${notification.dispatch.queueCapacity:100}") int queueCapacity,
+                                  @Value("${notification.dispatch.emailsPerSecond:40}") double emailsPerSecond,
+                                  @Value("${notification.dispatch.smsPerSecond:40}") double smsPerSecond,
+                                  @Value("${notification.dispatch.lettersPerSecond:10}") double lettersPerSecond,
+                                  MeterRegistry meterRegistry) {
+        this(BoundedExecutors.newBoundedPool("notification-dispatch", "notificationDispatch", threads, queueCapacity,
+                meterRegistry),
+            emailsPerSecond, smsPerSecond, lettersPerSecond, meterRegistry);
+    }
+
+    public NotificationDispatcher(ExecutorService executor, double emailsPerSecond, double smsPerSecond,
+                                  double lettersPerSecond, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.rateLimiters = Map.of(
+            EMAIL, RateLimiter.create(emailsPerSecond),
+            SMS, RateLimiter.create(smsPerSecond),
+            LETTER, RateLimiter.create(lettersPerSecond));
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs every send and waits for them all to finish. If any send fails the first failure is rethrown, with the
+     * others added as suppressed exceptions, once all the other sends have completed.
+     */
+    public void dispatchAll(List<Runnable> sends) {
+        if (sends.size() <= 1) {
+            sends.forEach(Runnable::run);
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(sends.size());
+        sends.forEach(send -> futures.add(CompletableFuture.runAsync(send, executor)));
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                RuntimeException cause = unwrap(e);
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until a call to GOV.UK Notify on the channel is allowed. Channels without a limit return straight away.
+     */
+    public void acquire(String channel) {
+        RateLimiter rateLimiter = rateLimiters.get(channel);
+        if (rateLimiter != null && rateLimiter.acquire() > 0) {
+            Counter.builder(THROTTLED_COUNTER)
+                .description("Number of notification sends delayed by the per channel rate limit")
+                .tag("channel", channel)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+}
@@ -3,7 +3,6 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 import java.net.UnknownHostException;
 import java.time.ZonedDateTime;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
 import uk.gov.hmcts.reform.sscs.jobscheduler.services.JobScheduler;
@@ -21,18 +20,21 @@ public class NotificationHandler {
     private final OutOfHoursCalculator outOfHoursCalculator;
     private final JobScheduler jobScheduler;
     private final JobGroupGenerator jobGroupGenerator;
+    private final NotificationDispatcher notificationDispatcher;
 
-    @Autowired
-    public NotificationHandler(OutOfHoursCalculator outOfHoursCalculator, JobScheduler jobScheduler, JobGroupGenerator jobGroupGenerator) {
+    public NotificationHandler(OutOfHoursCalculator outOfHoursCalculator, JobScheduler jobScheduler, JobGroupGenerator jobGroupGenerator,
+                               NotificationDispatcher notificationDispatcher) {
         this.outOfHoursCalculator = outOfHoursCalculator;
         this.jobScheduler = jobScheduler;
         this.jobGroupGenerator = jobGroupGenerator;
+        this.notificationDispatcher = notificationDispatcher;
     }
 
     public boolean sendNotification(NotificationWrapper wrapper, String notificationTemplate, final String notificationType, SendNotification sendNotification) {
         final String caseId = wrapper.getCaseId();
         try {
             log.info("Sending {} template {} for case id: {}", notificationType, notificationTemplate, caseId);
+            notificationDispatcher.acquire(notificationType);
             sendNotification.send();
             log.info("{} template {} sent for case id: {}", notificationType, notificationTemplate, caseId);
             return true;
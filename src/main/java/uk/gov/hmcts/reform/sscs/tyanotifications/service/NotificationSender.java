@@ -176,7 +176,7 @@ public class NotificationSender {
 
         if (saveCorrespondence) {
             final Correspondence correspondence = getLetterCorrespondence(notificationEventType, name, null);
-            saveCorrespondenceAsyncService.saveLetter(
+            saveCorrespondenceAsyncService.saveLetterWhenReady(
                     client, sendLetterResponse.getNotificationId().toString(), correspondence, ccdCaseId);
         }
 
@@ -237,7 +237,7 @@ public class NotificationSender {
                 if (isNull(govNotifyId)) {
                     saveCorrespondenceAsyncService.saveLetter(content, correspondence, wrapper.getCaseId());
                 } else {
-                    saveCorrespondenceAsyncService.saveLetter(client, govNotifyId, correspondence, wrapper.getCaseId());
+                    saveCorrespondenceAsyncService.saveLetterWhenReady(client, govNotifyId, correspondence, wrapper.getCaseId());
                 }
             }
         }
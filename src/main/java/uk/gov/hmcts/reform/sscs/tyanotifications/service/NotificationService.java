@@ -18,10 +18,13 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationVali
 import static uk.gov.hmcts.reform.sscs.util.SscsUtil.isBenefitTypeChildSupportOrUc;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,6 +59,7 @@ public class NotificationService {
     private final boolean cmOtherPartyConfidentialityEnabled;
     private final AdditionalOtherPartyAddedPredicate additionalOtherPartyAddedPredicate;
     private final FirstOtherPartyAddedPredicate firstOtherPartyAddedPredicate;
+    private final NotificationDispatcher notificationDispatcher;
 
     @SuppressWarnings("squid:S107")
     @Autowired
@@ -68,8 +72,10 @@ public class NotificationService {
         NotificationConfig notificationConfig,
         SendNotificationService sendNotificationService,
         @Value("${feature.covid19}") boolean covid19Feature,
-        @Value("${feature.cm-other-party-confidentiality.enabled}") boolean cmOtherPartyConfidentialityEnabled) {
+        @Value("${feature.cm-other-party-confidentiality.enabled}") boolean cmOtherPartyConfidentialityEnabled,
+        NotificationDispatcher notificationDispatcher) {
 
+        this.notificationDispatcher = notificationDispatcher;
         this.notificationFactory = notificationFactory;
         this.reminderService = reminderService;
         this.notificationValidService = notificationValidService;
@@ -174,23 +180,56 @@ public class NotificationService {
             notificationWrapper.getCaseId(),
             subscriptionTypes);
 
+        // build every notification up front, then send each channel of each in parallel and scrub once they have all gone
+        List<SubscriptionWithType> sentTo = new ArrayList<>();
+        List<Runnable> sends = new ArrayList<>();
+        List<Runnable> afterSends = new ArrayList<>();
         for (SubscriptionWithType subscriptionWithType : notificationWrapper.getSubscriptionsBasedOnNotificationType()) {
             if (isSubscriptionValidToSendAfterOverride(notificationWrapper, subscriptionWithType)
                 && isValidNotification(notificationWrapper, subscriptionWithType)) {
-                sendNotification(notificationWrapper, subscriptionWithType);
+                Notification notification = notificationFactory.create(notificationWrapper, subscriptionWithType);
+                NotificationEventType notificationType = notificationWrapper.getNotificationType();
+                addChannelSends(sends, afterSends, notificationWrapper, notification, subscriptionWithType, notificationType);
+                processOldSubscriptionNotifications(notificationWrapper, notification, subscriptionWithType)
+                    .ifPresent(old -> addChannelSends(sends, afterSends, notificationWrapper, old.notification(),
+                        old.subscriptionWithType(), notificationType));
+                sentTo.add(subscriptionWithType);
+            } else {
+                logInvalidNotification(notificationWrapper);
+            }
+        }
+        notificationDispatcher.dispatchAll(sends);
+        afterSends.forEach(Runnable::run);
+        sentTo.forEach(subscriptionWithType -> scrubIfSubscriptionUpdated(notificationWrapper, subscriptionWithType));
+    }
 
-                if (subscriptionWithType.getSubscription() != null
-                    && NotificationEventType.SUBSCRIPTION_UPDATED.equals(notificationWrapper.getSscsCaseDataWrapper().getNotificationEventType())) {
-                    scrubEmailAndSmsIfSubscribedBefore(notificationWrapper, subscriptionWithType);
+    private void addChannelSends(List<Runnable> sends, List<Runnable> afterSends, NotificationWrapper notificationWrapper,
+                                 Notification notification, SubscriptionWithType subscriptionWithType,
+                                 NotificationEventType notificationType) {
+        AtomicBoolean notificationSent = new AtomicBoolean();
+        for (BooleanSupplier channelSend : sendNotificationService.channelSends(notificationWrapper, notification,
+            subscriptionWithType, notificationType)) {
+            sends.add(() -> {
+                if (channelSend.getAsBoolean()) {
+                    notificationSent.set(true);
                 }
+            });
+        }
+        afterSends.add(() -> SendNotificationService.logIfNotSent(notificationWrapper, notificationType, notificationSent.get()));
+    }
 
-            } else {
-                log.error("Is not a valid notification event {} for case id {}, not sending notification.",
-                    notificationWrapper.getNotificationType().getId(), notificationWrapper.getCaseId());
-            }
+    private void scrubIfSubscriptionUpdated(NotificationWrapper notificationWrapper, SubscriptionWithType subscriptionWithType) {
+        if (subscriptionWithType.getSubscription() != null
+            && NotificationEventType.SUBSCRIPTION_UPDATED.equals(notificationWrapper.getSscsCaseDataWrapper().getNotificationEventType())) {
+            scrubEmailAndSmsIfSubscribedBefore(notificationWrapper, subscriptionWithType);
         }
     }
 
+    private static void logInvalidNotification(NotificationWrapper notificationWrapper) {
+        log.error("Is not a valid notification event {} for case id {}, not sending notification.",
+            notificationWrapper.getNotificationType().getId(), notificationWrapper.getCaseId());
+    }
+
     private void overrideNotificationType(NotificationWrapper wrapper) {
 
         if (REISSUE_DOCUMENT.equals(wrapper.getNotificationType()) && null != wrapper.getNewSscsCaseData().getReissueArtifactUi().getReissueFurtherEvidenceDocument()) {
@@ -265,19 +304,13 @@ public class NotificationService {
             || ((oldSubscription == null || !oldSubscription.isSmsSubscribed()) && newSubscription.isSmsSubscribed()));
     }
 
-    private void sendNotification(NotificationWrapper notificationWrapper, SubscriptionWithType subscriptionWithType) {
-        Notification notification = notificationFactory.create(notificationWrapper, subscriptionWithType);
-        sendNotificationService.sendEmailSmsLetterNotification(notificationWrapper, notification, subscriptionWithType, notificationWrapper.getNotificationType());
-        processOldSubscriptionNotifications(notificationWrapper, notification, subscriptionWithType, notificationWrapper.getNotificationType());
-    }
-
     private boolean isValidNotification(NotificationWrapper wrapper, SubscriptionWithType subscriptionWithType) {
         Subscription subscription = subscriptionWithType.getSubscription();
         return (isMandatoryLetterEventType(wrapper.getNotificationType())
             || isOkToSendNotification(wrapper, wrapper.getNotificationType(), subscription, notificationValidService));
     }
 
-    private void  processOldSubscriptionNotifications(NotificationWrapper wrapper, Notification notification, SubscriptionWithType subscriptionWithType, NotificationEventType eventType) {
+    private Optional<OldSubscriptionNotification> processOldSubscriptionNotifications(NotificationWrapper wrapper, Notification notification, SubscriptionWithType subscriptionWithType) {
         if (wrapper.getNotificationType() == NotificationEventType.SUBSCRIPTION_UPDATED) {
             Subscription newSubscription;
             Subscription oldSubscription;
@@ -313,8 +346,12 @@ public class NotificationService {
 
             SubscriptionWithType updatedSubscriptionWithType = new SubscriptionWithType(oldSubscription,
                 subscriptionWithType.getSubscriptionType(), subscriptionWithType.getParty(), subscriptionWithType.getEntity());
-            sendNotificationService.sendEmailSmsLetterNotification(wrapper, oldNotification, updatedSubscriptionWithType, eventType);
+            return Optional.of(new OldSubscriptionNotification(oldNotification, updatedSubscriptionWithType));
         }
+        return Optional.empty();
+    }
+
+    private record OldSubscriptionNotification(Notification notification, SubscriptionWithType subscriptionWithType) {
     }
 
     private String getSubscriptionDetails(String newSubscription, String oldSubscription) {
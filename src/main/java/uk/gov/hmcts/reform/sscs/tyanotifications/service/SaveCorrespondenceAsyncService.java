@@ -2,10 +2,12 @@ package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
 import static java.lang.Long.valueOf;
 import static uk.gov.hmcts.reform.sscs.model.LetterType.findLetterTypeFromSubscription;
+import static uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService.DEFAULT_SENDER_TYPE;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
@@ -15,60 +17,52 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
-import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType;
 import uk.gov.service.notify.NotificationClient;
-import uk.gov.service.notify.NotificationClientException;
 
 @Slf4j
 @Component
 public class SaveCorrespondenceAsyncService {
+    private static final String BULK_PRINT_SENDER_TYPE = "Bulk Print";
+
     private final CcdNotificationsPdfService ccdNotificationsPdfService;
+    private final CorrespondenceAccumulator correspondenceAccumulator;
+    private final LetterPdfPoller letterPdfPoller;
 
     @Autowired
-    public SaveCorrespondenceAsyncService(CcdNotificationsPdfService ccdNotificationsPdfService) {
+    public SaveCorrespondenceAsyncService(CcdNotificationsPdfService ccdNotificationsPdfService,
+                                          CorrespondenceAccumulator correspondenceAccumulator,
+                                          LetterPdfPoller letterPdfPoller) {
         this.ccdNotificationsPdfService = ccdNotificationsPdfService;
+        this.correspondenceAccumulator = correspondenceAccumulator;
+        this.letterPdfPoller = letterPdfPoller;
     }
 
-    @Autowired
-    private LetterAsyncConfigProperties letterAsyncConfigProperties;
-
-    @Async
-    @Retryable(maxAttemptsExpression = "#{@letterAsyncConfigProperties.maxAttempts}", backoff = @Backoff(delayExpression = "#{@letterAsyncConfigProperties.delay}", multiplierExpression = "#{@letterAsyncConfigProperties.multiplier}", random = true, maxDelayExpression = "#{@letterAsyncConfigProperties.maxDelay}"))
-    public void saveLetter(NotificationClient client, String notificationId, Correspondence correspondence,
-                           String ccdCaseId) throws NotificationClientException {
+    /**
+     * Saves a letter sent through GOV.UK Notify once Notify has rendered its PDF, without holding a thread while
+     * waiting. The PDF is stored once; if adding it to the case fails, only that step is tried again.
+     */
+    public void saveLetterWhenReady(NotificationClient client, String notificationId, Correspondence correspondence,
+                                    String ccdCaseId) {
+        AtomicReference<List<Correspondence>> stored = new AtomicReference<>();
+        letterPdfPoller.submit(client, notificationId, ccdCaseId,
+            pdfForLetter -> saveNotifyLetter(pdfForLetter, correspondence, ccdCaseId, stored));
+    }
 
-        RetryContext context = RetrySynchronizationManager.getContext();
-        if (context != null && context.getRetryCount() == 0) {
-            log.debug("delaying by {} milliseconds before making first attempt to get letter pdf for case id : {}",
-                    letterAsyncConfigProperties.getInitialDelay(), ccdCaseId);
-            try {
-                // Using  Thread.sleep here as it's already running in async and not blocking end user requests. Using CompletableFuture is too complex for this.
-                Thread.sleep(letterAsyncConfigProperties.getInitialDelay());
-            } catch (InterruptedException e) {
-                log.warn("Thread was interrupted while applying a sleep to get letter pdf for case ({}) ", ccdCaseId);
-                Thread.currentThread().interrupt();
-            }
-        }
-        try {
-            final byte[] pdfForLetter = client.getPdfForLetter(notificationId);
-            log.info("Using merge letter correspondence V2 to upload letter correspondence for {} ", ccdCaseId);
-            ccdNotificationsPdfService
-                    .mergeLetterCorrespondenceIntoCcdV2(pdfForLetter, valueOf(ccdCaseId), correspondence);
-        } catch (NotificationClientException e) {
-            if (e.getMessage().contains("PDFNotReadyError")) {
-                log.info("Got a PDFNotReadyError back from gov.notify for case id: {}.", ccdCaseId);
-            } else {
-                log.warn("Got a strange error '{}' back from gov.notify for case id: {}.", e.getMessage(), ccdCaseId);
-            }
-            throw e;
+    private void saveNotifyLetter(byte[] pdfForLetter, Correspondence correspondence, String ccdCaseId,
+                                  AtomicReference<List<Correspondence>> stored) {
+        log.info("Saving letter correspondence for {} ", ccdCaseId);
+        if (stored.get() == null) {
+            stored.set(ccdNotificationsPdfService.storeLetterCorrespondence(pdfForLetter, correspondence));
         }
+        correspondenceAccumulator.add(valueOf(ccdCaseId), stored.get(), DEFAULT_SENDER_TYPE);
     }
 
     public void saveLetter(byte[] pdfForLetter, Correspondence correspondence, String ccdCaseId) {
-        log.info("Using mergeLetterCorrespondenceV2 to upload BulkPrint sent letter correspondence for {} ", ccdCaseId);
-        ccdNotificationsPdfService
-                .mergeLetterCorrespondenceIntoCcdV2(pdfForLetter, valueOf(ccdCaseId), correspondence, "Bulk Print");
+        log.info("Saving BulkPrint sent letter correspondence for {} ", ccdCaseId);
+        correspondenceAccumulator.add(valueOf(ccdCaseId),
+                ccdNotificationsPdfService.storeLetterCorrespondence(pdfForLetter, correspondence),
+                BULK_PRINT_SENDER_TYPE);
     }
 
     @Async
@@ -87,7 +81,8 @@ public class SaveCorrespondenceAsyncService {
         log.info("Retry number {} : to upload correspondence for {}, case reference {}",
             retry, correspondence.getValue().getCorrespondenceType().name(), sscsCaseData.getCcdCaseId());
 
-        ccdNotificationsPdfService.mergeCorrespondenceIntoCcdV2(valueOf(sscsCaseData.getCcdCaseId()), correspondence);
+        correspondenceAccumulator.add(valueOf(sscsCaseData.getCcdCaseId()),
+            ccdNotificationsPdfService.storeCorrespondence(correspondence), DEFAULT_SENDER_TYPE);
     }
 
     @Recover
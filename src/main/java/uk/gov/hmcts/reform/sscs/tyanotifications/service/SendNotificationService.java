@@ -57,9 +57,13 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationVali
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
@@ -112,35 +116,56 @@ public class SendNotificationService {
 
     boolean sendEmailSmsLetterNotification(NotificationWrapper wrapper, Notification notification,
                                            SubscriptionWithType subscriptionWithType, NotificationEventType eventType) {
-
-        boolean emailSent = sendEmailNotification(wrapper, subscriptionWithType.getSubscription(), notification);
-        notificationSuccessLog(wrapper, "Email", notification, notification.getEmailTemplate(), emailSent);
-
-        boolean smsSent = sendSmsNotification(wrapper, subscriptionWithType.getSubscription(), notification, eventType);
-        if (nonNull(notification.getSmsTemplate())) {
-            notificationSuccessLog(wrapper, "SMS", notification, String.join(", ", notification.getSmsTemplate()), smsSent);
+        boolean notificationSent = false;
+        for (BooleanSupplier channelSend : channelSends(wrapper, notification, subscriptionWithType, eventType)) {
+            notificationSent |= channelSend.getAsBoolean();
         }
+        logIfNotSent(wrapper, eventType, notificationSent);
+        return notificationSent;
+    }
+
+    /**
+     * The email, SMS and letter sends for one subscription, each on its own so they can be dispatched separately.
+     * Each returns whether it sent anything.
+     */
+    List<BooleanSupplier> channelSends(NotificationWrapper wrapper, Notification notification,
+                                       SubscriptionWithType subscriptionWithType, NotificationEventType eventType) {
+        List<BooleanSupplier> channelSends = new ArrayList<>();
+        channelSends.add(() -> {
+            boolean emailSent = sendEmailNotification(wrapper, subscriptionWithType.getSubscription(), notification);
+            notificationSuccessLog(wrapper, "Email", notification, notification.getEmailTemplate(), emailSent);
+            return emailSent;
+        });
+
+        channelSends.add(() -> {
+            boolean smsSent = sendSmsNotification(wrapper, subscriptionWithType.getSubscription(), notification, eventType);
+            if (nonNull(notification.getSmsTemplate())) {
+                notificationSuccessLog(wrapper, "SMS", notification, String.join(", ", notification.getSmsTemplate()), smsSent);
+            }
+            return smsSent;
+        });
 
         boolean isInterlocLetter = NotificationEventTypeLists.EVENT_TYPES_FOR_INTERLOC_LETTERS.contains(eventType);
         boolean isDocmosisLetter = NotificationEventTypeLists.DOCMOSIS_LETTERS.contains(eventType);
 
-        boolean letterSent = false;
         if (shouldSendLetter(wrapper, notification, isInterlocLetter, isDocmosisLetter)) {
-            letterSent = sendLetterNotification(wrapper, notification, subscriptionWithType, eventType);
-            if (isDocmosisLetter) {
-                notificationSuccessLog(wrapper, "Docmosis Letter", notification, notification.getDocmosisLetterTemplate(), letterSent);
-            } else {
-                notificationSuccessLog(wrapper, "Gov Notify Letter", notification, notification.getLetterTemplate(), letterSent);
-            }
+            channelSends.add(() -> {
+                boolean letterSent = sendLetterNotification(wrapper, notification, subscriptionWithType, eventType);
+                if (isDocmosisLetter) {
+                    notificationSuccessLog(wrapper, "Docmosis Letter", notification, notification.getDocmosisLetterTemplate(), letterSent);
+                } else {
+                    notificationSuccessLog(wrapper, "Gov Notify Letter", notification, notification.getLetterTemplate(), letterSent);
+                }
+                return letterSent;
+            });
         }
+        return channelSends;
+    }
 
-        boolean notificationSent = emailSent || smsSent || letterSent;
-
+    static void logIfNotSent(NotificationWrapper wrapper, NotificationEventType eventType, boolean notificationSent) {
         if (!notificationSent) {
             log.error("Did not send a notification for event {} for case id {}.", eventType.getId(), wrapper.getCaseId());
         }
-
-        return notificationSent;
     }
 
     private static void notificationSuccessLog(NotificationWrapper wrapper, String notificationType,
@@ -263,7 +288,8 @@ public class SendNotificationService {
 
     protected void sendLetterNotificationToAddress(NotificationWrapper wrapper, Notification notification, final Address address, SubscriptionWithType subscriptionWithType) throws NotificationClientException {
         if (address != null) {
-            Map<String, Object> placeholders = notification.getPlaceholders();
+            // the email and SMS for this subscription may be sending from the same map on other threads
+            Map<String, Object> placeholders = new HashMap<>(notification.getPlaceholders());
             String fullNameNoTitle = getNameToUseForLetter(wrapper, subscriptionWithType);
 
             placeholders.put(ADDRESS_LINE_1, fullNameNoTitle);
@@ -290,7 +316,7 @@ public class SendNotificationService {
             notificationSender.sendLetter(
                 notification.getLetterTemplate(),
                 address,
-                notification.getPlaceholders(),
+                placeholders,
                 wrapper.getNotificationType(),
                 fullNameNoTitle,
                 wrapper.getCaseId()
@@ -48,19 +48,15 @@ public class AllReminderRemover implements ReminderHandler {
         }
 
         String caseId = wrapper.getCaseId();
-        for (NotificationEventType eventType : REMINDERS_TO_REMOVE) {
-            removeReminder(caseId, eventType);
-        }
-    }
-
-    private void removeReminder(String caseId, NotificationEventType eventType) {
-        String jobGroup = jobGroupGenerator.generate(caseId, eventType.getId());
+        List<String> jobGroups = REMINDERS_TO_REMOVE.stream()
+            .map(eventType -> jobGroupGenerator.generate(caseId, eventType.getId()))
+            .toList();
         try {
-            jobRemover.removeGroup(jobGroup);
-            log.info("Removed {} from case id: {}", eventType, caseId);
+            jobRemover.removeGroups(jobGroups);
+            log.info("Removed {} from case id: {}", REMINDERS_TO_REMOVE, caseId);
 
         } catch (JobNotFoundException ignore) {
-            log.debug("{} for case id: {} could not be found", eventType, caseId);
+            log.debug("{} for case id: {} could not be found", REMINDERS_TO_REMOVE, caseId);
         }
     }
 
@@ -7,6 +7,8 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notificati
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -72,29 +74,30 @@ public class HearingReminder implements ReminderHandler {
             throw new IllegalArgumentException("cannot handle ccdResponse");
         }
 
-        scheduleReminder(wrapper.getNewSscsCaseData(), beforeFirstHearingReminder);
-        scheduleReminder(wrapper.getNewSscsCaseData(), beforeSecondHearingReminder);
-    }
-
-    private void scheduleReminder(SscsCaseData ccdResponse, long secondsBeforeHearing) {
-
+        SscsCaseData ccdResponse = wrapper.getNewSscsCaseData();
         String caseId = ccdResponse.getCcdCaseId();
         String eventId = HEARING_REMINDER.getId();
         String jobGroup = jobGroupGenerator.generate(caseId, eventId);
-        ZonedDateTime reminderDate = calculateReminderDate(ccdResponse, secondsBeforeHearing);
-
-        if (reminderDate != null) {
-            jobScheduler.schedule(new Job<>(
-                jobGroup,
-                eventId,
-                caseId,
-                reminderDate
-            ));
 
+        List<Job<String>> reminders = new ArrayList<>();
+        for (long secondsBeforeHearing : List.of(beforeFirstHearingReminder, beforeSecondHearingReminder)) {
+            ZonedDateTime reminderDate = calculateReminderDate(ccdResponse, secondsBeforeHearing);
+            if (reminderDate != null) {
+                reminders.add(new Job<>(
+                    jobGroup,
+                    eventId,
+                    caseId,
+                    reminderDate
+                ));
+            } else {
+                LOG.info("Could not find reminder date for case id {}", caseId);
+            }
+        }
 
-            LOG.info("Scheduled hearing reminder for case id: {} @ {}", caseId, reminderDate);
-        } else {
-            LOG.info("Could not find reminder date for case id {}", ccdResponse.getCcdCaseId());
+        if (!reminders.isEmpty()) {
+            jobScheduler.scheduleAll(reminders);
+            reminders.forEach(reminder ->
+                LOG.info("Scheduled hearing reminder for case id: {} @ {}", caseId, reminder.triggerAt));
         }
     }
 
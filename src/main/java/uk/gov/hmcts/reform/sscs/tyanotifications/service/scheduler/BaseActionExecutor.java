@@ -4,16 +4,11 @@ import static org.slf4j.LoggerFactory.getLogger;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.getNotificationByEvent;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationUtils.buildSscsCaseDataWrapper;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.slf4j.Logger;
-import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.State;
 import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
@@ -31,16 +26,14 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
     protected final CcdService ccdService;
     protected final UpdateCcdCaseService updateCcdCaseService;
     protected final IdamService idamService;
-    private final SscsCaseCallbackDeserializer deserializer;
     private final RetryNotificationService retryNotificationService;
 
-    BaseActionExecutor(NotificationService notificationService, RetryNotificationService retryNotificationService, CcdService ccdService, UpdateCcdCaseService updateCcdCaseService, IdamService idamService, SscsCaseCallbackDeserializer deserializer) {
+    BaseActionExecutor(NotificationService notificationService, RetryNotificationService retryNotificationService, CcdService ccdService, UpdateCcdCaseService updateCcdCaseService, IdamService idamService) {
         this.notificationService = notificationService;
         this.retryNotificationService = retryNotificationService;
         this.ccdService = ccdService;
         this.updateCcdCaseService = updateCcdCaseService;
         this.idamService = idamService;
-        this.deserializer = deserializer;
     }
 
     @Override
@@ -57,16 +50,17 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
 
             if (caseDetails != null) {
 
-                //The deserialiser does things the ccd find method doesn't do. e.g. sorts collections,
+                //The ccd find method doesn't sort collections the way the callback deserialiser does, and
                 // notifications relies on events being sorted. If there are multiple hearings on the case
                 // the notification should refer to the latest one.
-                Callback<SscsCaseData> callback = deserializer.deserialize(buildCcdNode(caseDetails, eventId));
+                SscsCaseData caseData = caseDetails.getData();
+                SscsCaseCallbackStreamDeserializer.normalise(caseDetails.getId(), caseData);
 
                 NotificationSscsCaseDataWrapper wrapper = buildSscsCaseDataWrapper(
-                    callback.getCaseDetails().getCaseData(),
+                    caseData,
                     null,
                     getNotificationByEvent(eventId),
-                    callback.getCaseDetails().getState());
+                    caseDetails.getState() != null ? State.getById(caseDetails.getState()) : null);
 
                 NotificationWrapper notificationWrapper = getWrapper(wrapper, payload);
 
@@ -88,22 +82,6 @@ public abstract class BaseActionExecutor<T> implements JobExecutor<T> {
         }
     }
 
-    private String buildCcdNode(SscsCaseDetails caseDetails, String jobName) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-        JsonNode jsonNode = mapper.valueToTree(caseDetails);
-        ObjectNode node2 = (ObjectNode) jsonNode;
-        ObjectNode node = JsonNodeFactory.instance.objectNode();
-
-        node2.set("case_data", jsonNode.get("data"));
-        node2.remove("data");
-
-        node.set("case_details", node2);
-        node = node.put("event_id", jobName);
-
-        return mapper.writeValueAsString(node);
-    }
-
     protected abstract void updateCase(Long caseId, NotificationSscsCaseDataWrapper wrapper, IdamTokens idamTokens);
 
     protected abstract NotificationWrapper getWrapper(NotificationSscsCaseDataWrapper wrapper, T payload);
@@ -5,7 +5,6 @@ import static java.lang.Long.parseLong;
 import static org.apache.commons.lang3.RegExUtils.replaceAll;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
@@ -23,9 +22,8 @@ public class CcdActionExecutor extends BaseActionExecutor<String> {
                              RetryNotificationService retryNotificationService,
                              CcdService ccdService,
                              UpdateCcdCaseService updateCcdCaseService,
-                             IdamService idamService,
-                             SscsCaseCallbackDeserializer deserializer) {
-        super(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer);
+                             IdamService idamService) {
+        super(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService);
     }
 
     @Override
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the fixed size thread pools the services use for parallel outbound calls. Every pool has a bounded queue, so
+ * a burst of work cannot pile up in memory. When the queue is full the calling thread runs the task itself, which
+ * slows the caller down instead of dropping the work. Once the pool is shut down, new tasks are rejected with a
+ * {@link RejectedExecutionException} rather than silently discarded.
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * Creates a pool of daemon threads, named {@code <name>-<n>}, that time out when idle, and publishes its metrics
+     * under {@code metricName}.
+     */
+    public static ExecutorService newBoundedPool(String name, String metricName, int threads, int queueCapacity,
+                                                 MeterRegistry meterRegistry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException(name + " pool has been shut down");
+                }
+                runnable.run();
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, pool, metricName);
+    }
+}
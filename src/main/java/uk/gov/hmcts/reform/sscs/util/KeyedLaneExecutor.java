@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs work on a fixed number of single threaded lanes. Work for a key, normally a case id, always goes to the same
+ * lane, so work for one key is handled in the order it arrived while different keys run in parallel. When a lane's
+ * queue is full the caller waits for space for up to {@code enqueueTimeoutMillis}, or not at all when it is zero,
+ * before the work is rejected with a {@link RejectedExecutionException}.
+ *
+ * <p>Publishes {@code <metricPrefix>.queue.depth}, {@code <metricPrefix>.active.workers},
+ * {@code <metricPrefix>.handling} and {@code <metricPrefix>.rejected}.
+ */
+@Slf4j
+public class KeyedLaneExecutor {
+
+    public static final String QUEUE_DEPTH_SUFFIX = ".queue.depth";
+    public static final String ACTIVE_WORKERS_SUFFIX = ".active.workers";
+    public static final String HANDLING_SUFFIX = ".handling";
+    public static final String REJECTED_SUFFIX = ".rejected";
+
+    private final String name;
+    private final String metricPrefix;
+    private final String workDescription;
+    private final List<ThreadPoolExecutor> lanes;
+    private final long enqueueTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    /**
+     * Creates the lanes and registers the metrics.
+     *
+     * @param name            used for thread names and log messages, e.g. {@code send-callback}
+     * @param metricPrefix    prefix for the published metric names
+     * @param workDescription what a unit of work is, used in metric descriptions, e.g. {@code /send callbacks}
+     */
+    public KeyedLaneExecutor(String name, String metricPrefix, String workDescription, int laneCount,
+                             int queueCapacity, long enqueueTimeoutMillis, MeterRegistry meterRegistry) {
+        if (laneCount < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException(name + " executor lanes and queue capacity must be at least 1");
+        }
+        this.name = name;
+        this.metricPrefix = metricPrefix;
+        this.workDescription = workDescription;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+        this.lanes = new ArrayList<>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes.add(createLane(lane, queueCapacity));
+        }
+
+        Gauge.builder(metricPrefix + QUEUE_DEPTH_SUFFIX, this, KeyedLaneExecutor::getQueueDepth)
+            .description("Number of " + workDescription + " waiting to be handled")
+            .register(meterRegistry);
+        Gauge.builder(metricPrefix + ACTIVE_WORKERS_SUFFIX, this, KeyedLaneExecutor::getActiveWorkers)
+            .description("Number of " + workDescription + " currently being handled")
+            .register(meterRegistry);
+        rejectedCounter = Counter.builder(metricPrefix + REJECTED_SUFFIX)
+            .description("Number of " + workDescription + " rejected because the queue stayed full")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues the task on the lane for the key, blocking for up to the enqueue timeout while that lane is full.
+     *
+     * @throws RejectedExecutionException if the lane is still full after the enqueue timeout, or is shut down
+     */
+    public void execute(long key, Tag tag, Runnable task) {
+        ThreadPoolExecutor lane = lanes.get(Math.floorMod(Long.hashCode(key), lanes.size()));
+        Timer timer = Timer.builder(metricPrefix + HANDLING_SUFFIX)
+            .description("Time taken to handle " + workDescription)
+            .tags(List.of(tag))
+            .register(meterRegistry);
+        lane.execute(() -> timer.record(task));
+    }
+
+    public int getQueueDepth() {
+        return lanes.stream().mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    public int getActiveWorkers() {
+        return lanes.stream().mapToInt(ThreadPoolExecutor::getActiveCount).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                if (!lane.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("{} lane did not finish within 30 seconds, {} tasks dropped",
+                        name, lane.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lane.shutdownNow();
+            }
+        }
+    }
+
+    private ThreadPoolExecutor createLane(int lane, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + lane + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, executor) -> waitForSpace(lane, runnable, executor));
+    }
+
+    private void waitForSpace(int lane, Runnable runnable, ThreadPoolExecutor executor) {
+        try {
+            if (enqueueTimeoutMillis > 0 && !executor.isShutdown()
+                && executor.getQueue().offer(runnable, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)
+                // a lane shut down while we waited may already have stopped, and would never run the task
+                && (!executor.isShutdown() || !executor.remove(runnable))) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        log.error("{} lane {} is full or shut down, rejecting {} after waiting {}ms", name, lane, workDescription,
+            enqueueTimeoutMillis);
+        throw new RejectedExecutionException(name + " queue is full or shut down");
+    }
+}
@@ -0,0 +1,7 @@
+-- Job group lookups (getJobKeys by group, then deleting the jobs and their triggers) can be answered
+-- from the index alone when it also holds the job name.
+create index if not exists idx_qrtz_j_grp_name on qrtz_job_details(SCHED_NAME,JOB_GROUP,JOB_NAME);
+drop index if exists idx_qrtz_j_grp;
+
+create index if not exists idx_qrtz_t_jg_name on qrtz_triggers(SCHED_NAME,JOB_GROUP,JOB_NAME);
+drop index if exists idx_qrtz_t_jg;
@@ -1,11 +1,21 @@
 package uk.gov.hmcts.reform.sscs.bulkscan.service;
 
+import static org.apache.commons.lang3.ArrayUtils.contains;
+import static org.apache.commons.lang3.RegExUtils.replaceAll;
+import static org.apache.commons.lang3.StringUtils.lowerCase;
+import static org.apache.commons.lang3.StringUtils.stripToEmpty;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.Benefit.findBenefitByDescription;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.Benefit.findBenefitByShortName;
 
+import java.util.List;
+import java.util.Optional;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -16,6 +26,27 @@ public class FuzzyMatcherServiceTest {
 
     private static final String CASE_ID = "123489";
 
+    // benefit types as they have come off scanned forms, typos and all
+    private static final List<String> OCR_CORPUS = List.of(
+        "PIP", "pip", "P.I.P", "P I P", "P1P", "Personal Independence Payment", "Personal Independance Paymnt",
+        "personal independence payment (PIP)", "Persnal Independence", "ESA", "E.S.A.", "E S A",
+        "Employment and Support Allowance", "Employment Suport Alowance", "Employmnt Support", "UC", "U.C.",
+        "Universal Credit", "Univers Credit", "Universal Credit (UC)", "Universal Credits", "DLA", "D.L.A.",
+        "Disability Living Allowance", "Disability Living Allowance (DLA)", "Disabilty Livng Allowance",
+        "Attendance Allowance", "Attendence Allowance", "AA", "Carers Allowance", "carer's allowance",
+        "Carers Allowence", "Carer Allowance", "JSA", "Jobseekers Allowance", "Job Seekers Allowance",
+        "Jobseeker's Allowance (JSA)", "job seekers", "Jobseeker", "Income Support", "Incme Support", "IS",
+        "Social Fund", "Socal Fund", "Maternity Allowance", "Maternaty Allowance", "Maternit", "Bereavement Benefit",
+        "Bereavment Benefit", "Bereavement", "BSPS", "Bereavement Support Payment Scheme",
+        "Bereavement Support Payment", "Industrial Injuries Disablement Benefit", "Industrial Injuries", "IIDB",
+        "Industrial Death Benefit", "IDB", "Retirement Pension", "retiremen pension", "State Pension",
+        "Pension Credit", "Pension Credits", "PC", "RP", "Credit", "Tax Credits", "Housing Benefit",
+        "Child Benefit", "Child Support", "Guardians Allowance", "Winter Fuel Payment", "Infected Blood Compensation",
+        "pip esa", "personal living", "ESA / PIP", "UC & ESA", "support", "allowance", "benefit", "pension", "",
+        "   ", "12345", "N/A", "see attached", "?", "DWP", "Not sure", "ESA (contribution based)", "New Style ESA",
+        "PIP - Mobility", "PIP Daily Living", "DLA child", "Uni Credit", "Pip", "pIP", "esa.", "uc,"
+    );
+
     private FuzzyMatcherService fuzzyMatcherService;
 
     @Before
@@ -228,4 +259,42 @@ public class FuzzyMatcherServiceTest {
         final String result = fuzzyMatcherService.matchBenefitType(CASE_ID, code);
         assertThat(result, is(expectedBenefit.getShortName()));
     }
+
+    @Test
+    public void givenRealWorldOcrValues_thenMatchesTheSameBenefitsAsSearchingEveryWord() {
+        for (String ocrValue : OCR_CORPUS) {
+            String expected = matchBySearchingEveryWord(ocrValue);
+
+            assertEquals(ocrValue, expected, fuzzyMatcherService.matchBenefitType(CASE_ID, ocrValue));
+            assertEquals("remembered fuzzy search for " + ocrValue, expected,
+                fuzzyMatcherService.matchBenefitType(CASE_ID, ocrValue));
+        }
+    }
+
+    // how matchBenefitType worked before the words were indexed
+    private static String matchBySearchingEveryWord(String ocrValue) {
+        String code = stripToEmpty(replaceAll(ocrValue, "[^A-Za-z0-9 ]", ""));
+        if (List.of("support", "allowance", "benefit", "pension", "").contains(lowerCase(code))) {
+            return ocrValue;
+        }
+        return findBenefitByShortName(code)
+            .or(() -> findBenefitByDescription(code))
+            .or(() -> FuzzyMatcherService.EXACT_WORDS_THAT_WILL_CAUSE_A_MATCH.stream()
+                .filter(pair -> pair.getLeft().equalsIgnoreCase(code))
+                .findFirst()
+                .map(Pair::getRight))
+            .or(() -> {
+                List<Benefit> benefits = FuzzyMatcherService.CONTAINS_STRING.stream()
+                    .filter(pair -> contains(lowerCase(code).split(" "), pair.getLeft()))
+                    .map(Pair::getRight)
+                    .distinct()
+                    .toList();
+                return benefits.size() == 1 ? Optional.of(benefits.getFirst()) : Optional.empty();
+            })
+            .or(() -> Optional.of(FuzzySearch.extractOne(code, FuzzyMatcherService.FUZZY_CHOICES, Pair::getLeft))
+                .filter(result -> result.getScore() >= 90)
+                .map(result -> result.getReferent().getRight()))
+            .map(Benefit::getShortName)
+            .orElse(ocrValue);
+    }
 }
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.sscs.callback;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING;
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Objects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.exception.EmptyCallbackBodyException;
+
+class SscsCaseCallbackStreamDeserializerTest {
+
+    private SscsCaseCallbackDeserializer stringDeserializer;
+    private SscsCaseCallbackStreamDeserializer streamDeserializer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
+            .featuresToEnable(READ_ENUMS_USING_TO_STRING)
+            .featuresToEnable(READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE)
+            .featuresToEnable(WRITE_ENUMS_USING_TO_STRING)
+            .serializationInclusion(JsonInclude.Include.NON_ABSENT)
+            .createXmlMapper(false)
+            .build();
+        mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
+        mapper.findAndRegisterModules();
+
+        stringDeserializer = new SscsCaseCallbackDeserializer(mapper);
+        streamDeserializer = new SscsCaseCallbackStreamDeserializer(mapper);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "callback/createBundleCallback.json",
+        "callback/createBundleCallbackWithAudioVideoEvidence.json",
+        "callback/actionFurtherEvidenceCallback.json"
+    })
+    void shouldProduceTheSameCallbackAsTheStringDeserializer(String fixture) throws IOException {
+        String json = new String(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(fixture))
+            .readAllBytes(), UTF_8);
+
+        Callback<SscsCaseData> expected = stringDeserializer.deserialize(json);
+        Callback<SscsCaseData> actual = streamDeserializer.deserialize(new ByteArrayInputStream(json.getBytes(UTF_8)));
+
+        assertEquals(expected.getEvent(), actual.getEvent());
+        assertEquals(expected.getCaseDetails().getId(), actual.getCaseDetails().getId());
+        assertEquals(expected.getCaseDetails().getState(), actual.getCaseDetails().getState());
+        assertEquals(expected.getCaseDetails().getCaseData(), actual.getCaseDetails().getCaseData());
+        assertEquals(expected.getCaseDetailsBefore().map(details -> details.getCaseData()),
+            actual.getCaseDetailsBefore().map(details -> details.getCaseData()));
+    }
+
+    @Test
+    void shouldRejectABodyThatIsNotACallback() {
+        assertThrows(IllegalArgumentException.class,
+            () -> streamDeserializer.deserialize(new ByteArrayInputStream("not json".getBytes(UTF_8))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  \n"})
+    void shouldRejectAnEmptyBody(String body) {
+        assertThrows(EmptyCallbackBodyException.class,
+            () -> streamDeserializer.deserialize(new ByteArrayInputStream(body.getBytes(UTF_8))));
+    }
+}
@@ -12,17 +12,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_START;
 import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType.MID_EVENT;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ACTION_FURTHER_EVIDENCE;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.DWP_UPLOAD_RESPONSE;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.VALID_APPEAL_CREATED;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.State.READY_TO_LIST;
 import static uk.gov.hmcts.reform.sscs.ccd.util.CaseDataUtils.buildCaseData;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +56,8 @@ public class PreSubmitCallbackDispatcherTest {
     private PreSubmitCallbackResponse<CaseData> response1;
     private PreSubmitCallbackResponse<CaseData> response2;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher;
 
     @BeforeEach
@@ -65,7 +73,8 @@ public class PreSubmitCallbackDispatcherTest {
         response1.addErrors(List.of("error1"));
         response2 = new PreSubmitCallbackResponse<>(caseDataMutation2);
         response2.addErrors(List.of("error2", "error3"));
-        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(List.of(handler1, handler2));
+        meterRegistry = new SimpleMeterRegistry();
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(List.of(handler1, handler2), meterRegistry);
     }
 
     @Test
@@ -133,7 +142,7 @@ public class PreSubmitCallbackDispatcherTest {
     @Test
     public void should_not_error_if_no_handlers_are_provided() {
         PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher =
-                new PreSubmitCallbackDispatcher<>(Collections.emptyList());
+                new PreSubmitCallbackDispatcher<>(Collections.emptyList(), meterRegistry);
 
         assertDoesNotThrow(() -> {
             PreSubmitCallbackResponse<CaseData> callbackResponse =
@@ -152,4 +161,42 @@ public class PreSubmitCallbackDispatcherTest {
                 .hasMessage("callback must not be null")
                 .isExactlyInstanceOf(NullPointerException.class);
     }
+
+    @Test
+    public void should_only_check_handlers_that_declare_the_callback_type_and_event() {
+        when(handler1.getHandledEvents()).thenReturn(Map.of(ABOUT_TO_SUBMIT, Set.of(ACTION_FURTHER_EVIDENCE)));
+        when(handler2.getHandledEvents()).thenReturn(Map.of(ABOUT_TO_SUBMIT, Set.of(DWP_UPLOAD_RESPONSE)));
+        when(handler2.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler2.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class), eq(USER_AUTHORISATION))).thenReturn(response2);
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(List.of(handler1, handler2), meterRegistry);
+
+        PreSubmitCallbackResponse<CaseData> callbackResponse =
+                preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        assertEquals(caseDataMutation2, callbackResponse.getData());
+        verify(handler1, never()).canHandle(any(), any(Callback.class));
+        verify(handler2, times(1)).canHandle(eq(ABOUT_TO_SUBMIT), eq(callback));
+    }
+
+    @Test
+    public void should_check_handlers_without_declared_events_for_every_callback() {
+        when(handler1.getHandledEvents()).thenReturn(Map.of(ABOUT_TO_SUBMIT, Set.of(DWP_UPLOAD_RESPONSE)));
+        when(handler2.canHandle(eq(MID_EVENT), any(Callback.class))).thenReturn(false);
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(List.of(handler1, handler2), meterRegistry);
+
+        preSubmitCallbackDispatcher.handle(MID_EVENT, callback, USER_AUTHORISATION);
+
+        verify(handler1, never()).canHandle(any(), any(Callback.class));
+        verify(handler2).canHandle(eq(MID_EVENT), eq(callback));
+    }
+
+    @Test
+    public void should_record_dispatch_time_per_callback_type_and_event() {
+        preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        assertEquals(1, meterRegistry.get(PreSubmitCallbackDispatcher.DISPATCH_TIMER)
+            .tag("callbackType", ABOUT_TO_SUBMIT.toString())
+            .tag("event", DWP_UPLOAD_RESPONSE.toString())
+            .timer().count());
+    }
 }
@@ -50,6 +50,7 @@ import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import junitparams.converters.Nullable;
@@ -100,6 +101,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.WorkAllocationFields;
 import uk.gov.hmcts.reform.sscs.ccd.domain.YesNo;
 import uk.gov.hmcts.reform.sscs.model.PartyItemList;
 import uk.gov.hmcts.reform.sscs.service.BundleAdditionFilenameBuilder;
+import uk.gov.hmcts.reform.sscs.service.FooterRequest;
 import uk.gov.hmcts.reform.sscs.service.FooterService;
 import uk.gov.hmcts.reform.sscs.service.UserDetailsService;
 import uk.gov.hmcts.reform.sscs.util.AddedDocumentsUtil;
@@ -179,6 +181,30 @@ public class ActionFurtherEvidenceAboutToSubmitHandlerTest {
 
         when(callback.getCaseDetails()).thenReturn(caseDetails);
         when(caseDetails.getCaseData()).thenReturn(sscsCaseData);
+        when(footerService.addFooters(any())).thenAnswer(invocation -> invocation.<List<FooterRequest>>getArgument(0).stream()
+            .map(footerRequest -> footerService.addFooter(footerRequest.url(), footerRequest.leftText(), footerRequest.rightText()))
+            .toList());
+    }
+
+    @Test
+    public void givenSeveralDocumentsForTheBundle_thenStampTheirFootersTogetherKeepingTheLettering() {
+        when(caseDetails.getState()).thenReturn(State.DORMANT_APPEAL_STATE);
+        when(footerService.getNextBundleAddition(any())).thenReturn("A", "B");
+        DocumentLink stampedA = DocumentLink.builder().documentUrl("stamped-a.com").build();
+        DocumentLink stampedB = DocumentLink.builder().documentUrl("stamped-b.com").build();
+        when(footerService.addFooter(any(), any(), eq("A"))).thenReturn(stampedA);
+        when(footerService.addFooter(any(), any(), eq("B"))).thenReturn(stampedB);
+
+        PreSubmitCallbackResponse<SscsCaseData> response = actionFurtherEvidenceAboutToSubmitHandler.handle(
+            ABOUT_TO_SUBMIT, callback, USER_AUTHORISATION);
+
+        String footerText = APPELLANT.getDocumentFooter();
+        verify(footerService).addFooters(List.of(
+            new FooterRequest(DocumentLink.builder().documentUrl("www.test.com").build(), footerText, "A"),
+            new FooterRequest(DocumentLink.builder().documentUrl("www.test2.com").build(), footerText, "B")));
+        Map<String, DocumentLink> linksByAddition = response.getData().getSscsDocument().stream()
+            .collect(Collectors.toMap(doc -> doc.getValue().getBundleAddition(), doc -> doc.getValue().getDocumentLink()));
+        assertEquals(Map.of("A", stampedA, "B", stampedB), linksByAddition);
     }
 
     @Test
@@ -19,9 +19,13 @@ import static uk.gov.hmcts.reform.sscs.ccd.presubmit.furtherevidence.actionfurth
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -29,6 +33,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.DocumentType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
@@ -74,7 +79,7 @@ class ActionFurtherEvidenceMidEventHandlerTest {
         handler = new ActionFurtherEvidenceMidEventHandler(footerService, false, false, false);
 
         when(callback.getEvent()).thenReturn(EventType.ACTION_FURTHER_EVIDENCE);
-        when(footerService.isReadablePdf(any())).thenReturn(PdfState.OK);
+        when(footerService.isReadablePdfs(any())).thenAnswer(allPdfsAre(PdfState.OK));
 
         ScannedDocument scannedDocument = ScannedDocument.builder().value(
             ScannedDocumentDetails.builder()
@@ -435,7 +440,7 @@ class ActionFurtherEvidenceMidEventHandlerTest {
                 .build()).build();
 
         scannedDocumentList.add(scannedDocument);
-        when(footerService.isReadablePdf(any())).thenReturn(PdfState.UNREADABLE);
+        when(footerService.isReadablePdfs(any())).thenAnswer(allPdfsAre(PdfState.UNREADABLE));
 
         PreSubmitCallbackResponse<SscsCaseData> response = handler.handle(MID_EVENT, callback, USER_AUTHORISATION);
 
@@ -457,7 +462,7 @@ class ActionFurtherEvidenceMidEventHandlerTest {
                 .build()).build();
 
         scannedDocumentList.add(scannedDocument);
-        when(footerService.isReadablePdf(any())).thenReturn(PdfState.PASSWORD_ENCRYPTED);
+        when(footerService.isReadablePdfs(any())).thenAnswer(allPdfsAre(PdfState.PASSWORD_ENCRYPTED));
 
         PreSubmitCallbackResponse<SscsCaseData> response = handler.handle(MID_EVENT, callback, USER_AUTHORISATION);
 
@@ -659,4 +664,11 @@ class ActionFurtherEvidenceMidEventHandlerTest {
         assertEquals(1, response.getErrors().size());
         assertTrue(response.getErrors().contains(FURTHER_ACTION_INVALID_INTERNAL_ERROR));
     }
+
+    private static Answer<Map<String, PdfState>> allPdfsAre(PdfState pdfState) {
+        return invocation -> {
+            Collection<String> documentUrls = invocation.getArgument(0);
+            return documentUrls.stream().collect(Collectors.toMap(Function.identity(), documentUrl -> pdfState, (a, b) -> a));
+        };
+    }
 }
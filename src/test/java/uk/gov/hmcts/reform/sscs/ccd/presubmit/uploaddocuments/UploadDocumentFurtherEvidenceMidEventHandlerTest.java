@@ -24,8 +24,12 @@ import static uk.gov.hmcts.reform.sscs.ccd.presubmit.uploaddocuments.FileUploadS
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import junitparams.converters.Nullable;
@@ -33,6 +37,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
@@ -86,7 +91,7 @@ public class UploadDocumentFurtherEvidenceMidEventHandlerTest extends BaseHandle
         when(callback.getCaseDetails()).thenReturn(caseDetails);
         when(callback.getEvent()).thenReturn(EventType.UPLOAD_DOCUMENT_FURTHER_EVIDENCE);
         when(caseDetails.getCaseData()).thenReturn(sscsCaseData);
-        when(footerService.isReadablePdf(any())).thenReturn(PdfState.OK);
+        when(footerService.isReadablePdfs(any())).thenAnswer(allPdfsAre(PdfState.OK));
 
         super.setUp();
     }
@@ -292,7 +297,7 @@ public class UploadDocumentFurtherEvidenceMidEventHandlerTest extends BaseHandle
                         .build())
                 .build());
 
-        when(footerService.isReadablePdf(any())).thenReturn(PdfState.UNREADABLE);
+        when(footerService.isReadablePdfs(any())).thenAnswer(allPdfsAre(PdfState.UNREADABLE));
 
         callback.getCaseDetails().getCaseData().setDraftSscsFurtherEvidenceDocument(draftDocuments);
         PreSubmitCallbackResponse<SscsCaseData> actualResponse = handler.handle(CallbackType.MID_EVENT, callback, USER_AUTHORISATION);
@@ -324,7 +329,7 @@ public class UploadDocumentFurtherEvidenceMidEventHandlerTest extends BaseHandle
                         .build())
                 .build());
 
-        when(footerService.isReadablePdf(any())).thenReturn(PdfState.PASSWORD_ENCRYPTED);
+        when(footerService.isReadablePdfs(any())).thenAnswer(allPdfsAre(PdfState.PASSWORD_ENCRYPTED));
 
         callback.getCaseDetails().getCaseData().setDraftSscsFurtherEvidenceDocument(draftDocuments);
         PreSubmitCallbackResponse<SscsCaseData> actualResponse = handler.handle(CallbackType.MID_EVENT, callback, USER_AUTHORISATION);
@@ -345,4 +350,10 @@ public class UploadDocumentFurtherEvidenceMidEventHandlerTest extends BaseHandle
         handler.handle(MID_EVENT, callback, USER_AUTHORISATION);
     }
 
+    private static Answer<Map<String, PdfState>> allPdfsAre(PdfState pdfState) {
+        return invocation -> {
+            Collection<String> documentUrls = invocation.getArgument(0);
+            return documentUrls.stream().collect(Collectors.toMap(Function.identity(), documentUrl -> pdfState, (a, b) -> a));
+        };
+    }
 }
@@ -22,9 +22,6 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.ResponseEntity;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
@@ -132,8 +129,6 @@ public class UploadHearingRecordingMidEventHandlerTest {
             .build();
 
         sscsCaseData.getSscsHearingRecordingCaseData().setHearingRecording(recording);
-        ResponseEntity<Resource> resource = ResponseEntity.ok(new ByteArrayResource("test".getBytes()));
-        when(documentDownloadService.downloadFile(any())).thenReturn(resource);
         when(documentDownloadService.getFileSize(any())).thenReturn(Long.valueOf(500 * 1024 * 1024));
         assertNoErrors();
     }
@@ -153,8 +148,6 @@ public class UploadHearingRecordingMidEventHandlerTest {
             .build();
 
         sscsCaseData.getSscsHearingRecordingCaseData().setHearingRecording(recording);
-        ResponseEntity<Resource> resource = ResponseEntity.ok(new ByteArrayResource("test".getBytes()));
-        when(documentDownloadService.downloadFile(any())).thenReturn(resource);
         when(documentDownloadService.getFileSize(any())).thenReturn(Long.valueOf(501 * 1024 * 1024));
         when(callback.getPageId()).thenReturn("addRecording");
         final PreSubmitCallbackResponse<SscsCaseData>
@@ -177,8 +170,6 @@ public class UploadHearingRecordingMidEventHandlerTest {
             .recordings(details)
             .build();
 
-        ResponseEntity<Resource> resource = ResponseEntity.ok(new ByteArrayResource("test".getBytes()));
-        when(documentDownloadService.downloadFile(any())).thenReturn(resource);
         sscsCaseData.getSscsHearingRecordingCaseData().setHearingRecording(recording);
         when(callback.getPageId()).thenReturn("addRecording");
         final PreSubmitCallbackResponse<SscsCaseData>
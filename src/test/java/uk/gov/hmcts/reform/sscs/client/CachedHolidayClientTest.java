@@ -45,7 +45,17 @@ class CachedHolidayClientTest {
     }
 
     @Test
-    void shouldFetchHolidaysFromApi() throws IOException {
+    void shouldStartFromTheBundledSnapshotWithoutCallingTheApi() throws IOException {
+        Set<LocalDate> holidays = cachedHolidayClient.getHolidays();
+
+        assertTrue(holidays.contains(LocalDate.of(2025, 12, 25)));
+        assertTrue(holidays.contains(LocalDate.of(2026, 4, 3)));
+        verify(httpClient, never()).newCall(any(Request.class));
+    }
+
+    @Test
+    void shouldSwapInHolidaysFromApiOnRefresh() throws IOException {
+        cachedHolidayClient.refresh();
         Set<LocalDate> holidays = cachedHolidayClient.getHolidays();
 
         assertNotNull(holidays);
@@ -59,6 +69,7 @@ class CachedHolidayClientTest {
 
     @Test
     void shouldReturnCachedHolidaysOnSubsequentCalls() throws IOException {
+        cachedHolidayClient.refresh();
         Set<LocalDate> holidaysFirstCall = cachedHolidayClient.getHolidays();
         Set<LocalDate> holidaysSecondCall = cachedHolidayClient.getHolidays();
 
@@ -69,18 +80,32 @@ class CachedHolidayClientTest {
     }
 
     @Test
-    void shouldThrowIoExceptionForUnsuccessfulResponse() throws IOException {
+    void shouldKeepHolidaysWhenResponseIsUnsuccessful() throws IOException {
+        Set<LocalDate> snapshot = cachedHolidayClient.getHolidays();
         when(response.isSuccessful()).thenReturn(false);
 
-        IOException exception = assertThrows(IOException.class, () -> cachedHolidayClient.getHolidays());
-        assertEquals("Response unsuccessful: " + response, exception.getMessage());
+        cachedHolidayClient.refresh();
+
+        assertSame(snapshot, cachedHolidayClient.getHolidays());
     }
 
     @Test
-    void shouldThrowIoExceptionForFailedApiCall() throws IOException {
+    void shouldKeepHolidaysWhenApiCallFails() throws IOException {
+        Set<LocalDate> snapshot = cachedHolidayClient.getHolidays();
         when(mockCall.execute()).thenThrow(new IOException("Network error"));
 
-        IOException exception = assertThrows(IOException.class, () -> cachedHolidayClient.getHolidays());
-        assertEquals("Network error", exception.getMessage());
+        cachedHolidayClient.refresh();
+
+        assertSame(snapshot, cachedHolidayClient.getHolidays());
+    }
+
+    @Test
+    void shouldKeepHolidaysWhenApiReturnsNone() throws IOException {
+        Set<LocalDate> snapshot = cachedHolidayClient.getHolidays();
+        when(responseBody.string()).thenReturn("{}");
+
+        cachedHolidayClient.refresh();
+
+        assertSame(snapshot, cachedHolidayClient.getHolidays());
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.ACTION_FURTHER_EVIDE
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.INTERLOC_INFORMATION_RECEIVED;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -36,10 +37,10 @@ import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.CallbackType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DynamicList;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DynamicListItem;
@@ -49,6 +50,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.State;
 import uk.gov.hmcts.reform.sscs.ccd.presubmit.PreSubmitCallbackDispatcher;
 import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
+import uk.gov.hmcts.reform.sscs.exception.EmptyCallbackBodyException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.service.AuthorisationService;
@@ -75,7 +77,7 @@ public class CcdCallbackControllerTest {
     private AuthorisationService authorisationService;
 
     @MockitoBean
-    private SscsCaseCallbackDeserializer deserializer;
+    private SscsCaseCallbackStreamDeserializer deserializer;
 
     @MockitoBean
     private Callback<SscsCaseData> caseDataCallback;
@@ -108,7 +110,7 @@ public class CcdCallbackControllerTest {
         String content = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8.name());
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ACTION_FURTHER_EVIDENCE, false));
 
@@ -133,7 +135,7 @@ public class CcdCallbackControllerTest {
         String content = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8.name());
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), INTERLOC_INFORMATION_RECEIVED, false));
 
@@ -154,7 +156,7 @@ public class CcdCallbackControllerTest {
     @Test
     public void givenSubmittedCallbackForActionFurtherEvidenceEvent_shouldReturnOk() throws Exception {
         Callback<SscsCaseData> callback = buildCallbackForTestScenarioForGivenEvent();
-        given(deserializer.deserialize(anyString())).willReturn(callback);
+        given(deserializer.deserialize(any(InputStream.class))).willReturn(callback);
 
         when(idamService.getIdamTokens()).thenReturn(IdamTokens.builder().build());
 
@@ -172,6 +174,19 @@ public class CcdCallbackControllerTest {
             .andExpect(content().json("{\"data\": {\"interlocReviewState\": \"reviewByTcw\"}}"));
     }
 
+    @Test
+    public void givenAnEmptyBody_shouldReturnBadRequest() throws Exception {
+        when(deserializer.deserialize(any(InputStream.class))).thenThrow(new EmptyCallbackBodyException());
+
+        mockMvc.perform(post("/ccdAboutToSubmit")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("ServiceAuthorization", "")
+            .header("Authorization", ""))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(dispatcher);
+    }
+
     private Callback<SscsCaseData> buildCallbackForTestScenarioForGivenEvent() {
         CaseDetails<SscsCaseData> caseDetail = new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE,
             SscsCaseData.builder().build(), LocalDateTime.now(), "Benefit");
@@ -2,19 +2,22 @@ package uk.gov.hmcts.reform.sscs.controller;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
@@ -29,7 +32,7 @@ public class CcdCallbackOrchestratorControllerTest {
     private SendCallbackHandler callbackHandler;
 
     @Mock
-    private SscsCaseCallbackDeserializer deserializer;
+    private SscsCaseCallbackStreamDeserializer deserializer;
 
     @Before
     public void setUp() {
@@ -43,11 +46,25 @@ public class CcdCallbackOrchestratorControllerTest {
         var time = LocalDateTime.now();
         CaseDetails<SscsCaseData> details = new CaseDetails<>(1L, "jurisdiction", null, sscsCaseData, time, "Benefit");
         EventType eventType = EventType.APPEAL_RECEIVED;
-        when(deserializer.deserialize(anyString())).thenReturn(new Callback<>(details, Optional.empty(), eventType, false));
-        ResponseEntity<String> responseEntity = controller.send("");
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(details, Optional.empty(), eventType, false));
+        ResponseEntity<String> responseEntity = controller.send(new ByteArrayInputStream(new byte[0]));
         verify(callbackHandler).handle(any());
         assertEquals(200, responseEntity.getStatusCode().value());
         assertEquals("{}", responseEntity.getBody());
     }
 
+    @Test
+    public void shouldAnswerServiceUnavailableWhenTheCallbackIsRejected() {
+        SscsCaseData sscsCaseData = SscsCaseData.builder().build();
+        CaseDetails<SscsCaseData> details =
+            new CaseDetails<>(1L, "jurisdiction", null, sscsCaseData, LocalDateTime.now(), "Benefit");
+        when(deserializer.deserialize(any(InputStream.class)))
+            .thenReturn(new Callback<>(details, Optional.empty(), EventType.APPEAL_RECEIVED, false));
+        doThrow(new RejectedExecutionException("full")).when(callbackHandler).handle(any());
+
+        ResponseEntity<String> responseEntity = controller.send(new ByteArrayInputStream(new byte[0]));
+
+        assertEquals(503, responseEntity.getStatusCode().value());
+    }
+
 }
@@ -16,6 +16,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.INTERLOC_INFORMATION
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -45,10 +46,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.sscs.callback.SscsCaseCallbackStreamDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.DocumentType;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
 import uk.gov.hmcts.reform.sscs.ccd.domain.BenefitType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
@@ -87,7 +88,7 @@ public class CcdMideventCallbackControllerTest {
     private AuthorisationService authorisationService;
 
     @MockitoBean
-    private SscsCaseCallbackDeserializer deserializer;
+    private SscsCaseCallbackStreamDeserializer deserializer;
 
     @MockitoBean
     private PipWriteFinalDecisionPreviewDecisionService writeFinalDecisionPreviewDecisionService;
@@ -133,7 +134,7 @@ public class CcdMideventCallbackControllerTest {
         String content = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8.name());
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().appeal(Appeal.builder().benefitType(BenefitType.builder().code("PIP").build()).build()).build();
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
                 new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
                 Optional.empty(), INTERLOC_INFORMATION_RECEIVED, false));
 
@@ -157,7 +158,7 @@ public class CcdMideventCallbackControllerTest {
         String content = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8.name());
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
                 new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
                 Optional.empty(), INTERLOC_INFORMATION_RECEIVED, false));
 
@@ -185,7 +186,7 @@ public class CcdMideventCallbackControllerTest {
 
         Mockito.when(restoreCasesService2.restoreCases(any())).thenReturn(status);
 
-        Mockito.when(restoreCasesService2.getRestoreCaseFileName(anyString())).thenReturn("restore-cases1.csv");
+        Mockito.when(restoreCasesService2.getRestoreCaseFileName(any(byte[].class))).thenReturn("restore-cases1.csv");
 
         // We don't care what the content is for this test, as we are defining behaviour through the
         // restoreCasesService2 mock config above
@@ -194,7 +195,7 @@ public class CcdMideventCallbackControllerTest {
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
 
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ADMIN_RESTORE_CASES, false));
 
@@ -218,7 +219,7 @@ public class CcdMideventCallbackControllerTest {
 
         Mockito.when(restoreCasesService2.restoreCases(any())).thenReturn(status);
 
-        Mockito.when(restoreCasesService2.getRestoreCaseFileName(anyString())).thenReturn("restore-cases1.csv");
+        Mockito.when(restoreCasesService2.getRestoreCaseFileName(any(byte[].class))).thenReturn("restore-cases1.csv");
 
         // We don't care what the content is for this test, as we are defining behaviour through the
         // restoreCasesService2 mock config above
@@ -227,7 +228,7 @@ public class CcdMideventCallbackControllerTest {
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
 
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ADMIN_RESTORE_CASES, false));
 
@@ -251,7 +252,7 @@ public class CcdMideventCallbackControllerTest {
 
         Mockito.when(restoreCasesService2.restoreCases(any())).thenReturn(status);
 
-        Mockito.when(restoreCasesService2.getRestoreCaseFileName(anyString())).thenReturn("restore-cases1.csv");
+        Mockito.when(restoreCasesService2.getRestoreCaseFileName(any(byte[].class))).thenReturn("restore-cases1.csv");
 
         // We don't care what the content is for this test, as we are defining behaviour through the
         // restoreCasesService2 mock config above
@@ -260,7 +261,7 @@ public class CcdMideventCallbackControllerTest {
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
 
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ADMIN_RESTORE_CASES, false));
 
@@ -281,7 +282,7 @@ public class CcdMideventCallbackControllerTest {
 
         Mockito.when(restoreCasesService2.restoreCases(any())).thenThrow(new RuntimeException("anything"));
 
-        Mockito.when(restoreCasesService2.getRestoreCaseFileName(anyString())).thenReturn("restore-cases1.csv");
+        Mockito.when(restoreCasesService2.getRestoreCaseFileName(any(byte[].class))).thenReturn("restore-cases1.csv");
 
         // We don't care what the content is for this test, as we are defining behaviour through the
         // restoreCasesService2 mock config above
@@ -290,7 +291,7 @@ public class CcdMideventCallbackControllerTest {
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
 
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ADMIN_RESTORE_CASES, false));
 
@@ -309,7 +310,7 @@ public class CcdMideventCallbackControllerTest {
     @Test
     public void handleCcdMidEventAdminRestoreCasesWhenPathExtractionThrowsException() throws Exception {
 
-        Mockito.when(restoreCasesService2.getRestoreCaseFileName(anyString())).thenThrow(new RuntimeException("anything"));
+        Mockito.when(restoreCasesService2.getRestoreCaseFileName(any(byte[].class))).thenThrow(new RuntimeException("anything"));
 
         // We don't care what the content is for this test, as we are defining behaviour through the
         // restoreCasesService2 mock config above
@@ -318,7 +319,7 @@ public class CcdMideventCallbackControllerTest {
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
 
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ADMIN_RESTORE_CASES, false));
 
@@ -346,7 +347,7 @@ public class CcdMideventCallbackControllerTest {
 
         Mockito.when(restoreCasesService2.restoreCases(any())).thenReturn(status);
 
-        Mockito.when(restoreCasesService2.getRestoreCaseFileName(anyString())).thenReturn("restore-cases1.csv");
+        Mockito.when(restoreCasesService2.getRestoreCaseFileName(any(byte[].class))).thenReturn("restore-cases1.csv");
 
 
         // We don't care what the content is for this test, as we are defining behaviour through the
@@ -356,7 +357,7 @@ public class CcdMideventCallbackControllerTest {
 
         SscsCaseData sscsCaseData = SscsCaseData.builder().build();
 
-        when(deserializer.deserialize(content)).thenReturn(new Callback<>(
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Callback<>(
             new CaseDetails<>(ID, JURISDICTION, State.INTERLOCUTORY_REVIEW_STATE, sscsCaseData, LocalDateTime.now(), "Benefit"),
             Optional.empty(), ADMIN_RESTORE_CASES, false));
 
@@ -374,7 +375,7 @@ public class CcdMideventCallbackControllerTest {
 
     @Test
     public void handleCcdMidEventAdjournCaseDirectionDueDate_EmptyDueDateReturnsError() throws Exception {
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         when(adjournCaseMidEventValidationService.checkDirectionsDueDateInvalid(any()))
                 .thenReturn(Set.of("At least one of directions due date or directions due date offset must be specified"));
         String expectedErrorsString = Arrays.asList("At least one of directions due date or directions due date offset must be specified").toString();
@@ -391,7 +392,7 @@ public class CcdMideventCallbackControllerTest {
 
     @Test
     public void handleCcdMidEventAdjournCaseDirectionDueDate_PastDueDateReturnsError() throws Exception {
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         when(adjournCaseMidEventValidationService.checkDirectionsDueDateInvalid(any()))
                 .thenReturn(Set.of("Directions due date must be in the future"));
         String expectedErrorsString = Arrays.asList("Directions due date must be in the future").toString();
@@ -408,7 +409,7 @@ public class CcdMideventCallbackControllerTest {
 
     @Test
     public void handleCcdMidEventAdjournCaseDirectionDueDate_FutureDueDateReturnsNoError() throws Exception {
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         mockMvc.perform(post("/ccdMidEventAdjournCaseDirectionDueDate")
                         .contentType(MediaType.APPLICATION_JSON)
                         .header("ServiceAuthorization", "")
@@ -419,7 +420,7 @@ public class CcdMideventCallbackControllerTest {
 
     @Test
     public void handleCcdMidEventAdjournCaseNextHearing_PastHearingDateReturnsError() throws Exception {
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         when(adjournCaseMidEventValidationService.checkNextHearingDateInvalid(any()))
                 .thenReturn(Set.of("'First available date after' date cannot be in the past"));
 
@@ -437,7 +438,7 @@ public class CcdMideventCallbackControllerTest {
     public void handleCcdMidEventAdjournCaseNextHearing_NoHearingDateReturnsError() throws Exception {
         String error = "'First available date after' date must be provided";
 
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         when(adjournCaseMidEventValidationService.checkNextHearingDateInvalid(any()))
                 .thenReturn(Set.of("'First available date after' date must be provided"));
 
@@ -452,7 +453,7 @@ public class CcdMideventCallbackControllerTest {
     @Test
     public void handleCcdMidEventAdjournCaseNextHearing_FutureHearingDateReturnsNoError() throws Exception {
         String error = "'First available date after' date must be provided";
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
 
         mockMvc.perform(post("/ccdMidEventAdjournCaseNextHearing")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -464,7 +465,7 @@ public class CcdMideventCallbackControllerTest {
 
     @Test
     public void handleCcdMidEventadjournCaseNextHearingListingDuration_ValidDurationReturnsNoError() throws Exception {
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         when(adjournCaseMidEventValidationService.validateNextHearingListingDuration(any()))
                 .thenReturn(Set.of());
 
@@ -478,7 +479,7 @@ public class CcdMideventCallbackControllerTest {
 
     @Test
     public void handleCcdMidEventadjournCaseNextHearingListingDuration_InvalidDurationReturnsError() throws Exception {
-        when(deserializer.deserialize(returnAllDetailsContent())).thenReturn(returnCallback());
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(returnCallback());
         when(adjournCaseMidEventValidationService.validateNextHearingListingDuration(any()))
                 .thenReturn(Set.of("Duration length needs to be a multiple of 5"));
 
@@ -2,26 +2,24 @@ package uk.gov.hmcts.reform.sscs.controller;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.sscs.ccd.exception.CcdException;
 import uk.gov.hmcts.reform.sscs.exception.AppealNotFoundException;
 import uk.gov.hmcts.reform.sscs.exception.DocumentNotFoundException;
-import uk.gov.hmcts.reform.sscs.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.sscs.service.DocumentStreamingService;
 import uk.gov.hmcts.reform.sscs.service.TribunalsService;
 
 
@@ -35,13 +33,13 @@ public class TyaControllerTest {
     @Mock
     private TribunalsService tribunalsService;
     @Mock
-    private DocumentDownloadService documentDownloadService;
+    private DocumentStreamingService documentStreamingService;
 
     private TyaController controller;
 
     @BeforeEach
     public void setUp() {
-        controller = new TyaController(tribunalsService, documentDownloadService);
+        controller = new TyaController(tribunalsService, documentStreamingService);
     }
 
     @Test
@@ -74,19 +72,23 @@ public class TyaControllerTest {
     }
 
     @Test
-    public void testToReturnResourceForDocumentUrl() throws CcdException {
-        ResponseEntity<Resource> responseEntity = ResponseEntity.of(Optional.of(new ByteArrayResource(new byte[0])));
-        when(documentDownloadService.downloadFile(URL)).thenReturn(responseEntity);
+    public void testToReturnStreamForDocumentUrl() throws CcdException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-99");
+        StreamingResponseBody body = out -> out.write(new byte[100]);
+        when(documentStreamingService.streamFile(URL, headers))
+            .thenReturn(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).body(body));
 
-        ResponseEntity<Resource> receivedDocument = controller.getAppealDocument(URL);
+        ResponseEntity<StreamingResponseBody> receivedDocument = controller.getAppealDocument(URL, headers);
 
-        assertThat(receivedDocument.getStatusCode(), equalTo(HttpStatus.OK));
-        assertThat(receivedDocument.getBody(), instanceOf(ByteArrayResource.class));
+        assertThat(receivedDocument.getStatusCode(), equalTo(HttpStatus.PARTIAL_CONTENT));
+        assertThat(receivedDocument.getBody(), equalTo(body));
     }
 
     @Test
     public void testToThrowDocumentNotFoundExceptionIfError() throws CcdException {
-        when(documentDownloadService.downloadFile(URL)).thenThrow(new DocumentNotFoundException());
-        assertThrows(DocumentNotFoundException.class, () -> controller.getAppealDocument(URL));
+        HttpHeaders headers = new HttpHeaders();
+        when(documentStreamingService.streamFile(URL, headers)).thenThrow(new DocumentNotFoundException());
+        assertThrows(DocumentNotFoundException.class, () -> controller.getAppealDocument(URL, headers));
     }
 }
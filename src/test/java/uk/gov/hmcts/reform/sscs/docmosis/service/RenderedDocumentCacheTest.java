@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.sscs.docmosis.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RenderedDocumentCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path diskDirectory;
+
+    @Test
+    void shouldGiveTheSameKeyWhateverThePlaceholderOrder() {
+        RenderedDocumentCache cache = new RenderedDocumentCache(Duration.ofMinutes(1), 1024, null, 0, meterRegistry);
+        Map<String, Object> placeholders = new LinkedHashMap<>();
+        placeholders.put("appellant_name", "Joe Bloggs");
+        placeholders.put("hearing_date", LocalDate.of(2026, 3, 1));
+        placeholders.put("panel", Map.of("judge", "Judge Smith", "member", "Dr Jones"));
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("panel", Map.of("member", "Dr Jones", "judge", "Judge Smith"));
+        reordered.put("hearing_date", LocalDate.of(2026, 3, 1));
+        reordered.put("appellant_name", "Joe Bloggs");
+
+        assertThat(cache.key("TB-SCS-GNO-ENG-00091.docx", placeholders, false))
+            .isPresent()
+            .isEqualTo(cache.key("TB-SCS-GNO-ENG-00091.docx", reordered, false));
+        assertThat(cache.key("TB-SCS-GNO-ENG-00091.docx", placeholders, false))
+            .isNotEqualTo(cache.key("TB-SCS-GNO-ENG-00091.docx", placeholders, true))
+            .isNotEqualTo(cache.key("TB-SCS-GNO-ENG-00092.docx", placeholders, false));
+    }
+
+    @Test
+    void shouldReturnACopyOfTheCachedDocument() {
+        RenderedDocumentCache cache = new RenderedDocumentCache(Duration.ofMinutes(1), 1024, null, 0, meterRegistry);
+        byte[] pdf = "pdf".getBytes(UTF_8);
+        cache.put("key", pdf);
+        pdf[0] = 'x';
+
+        byte[] cached = cache.get("key").orElseThrow();
+        cached[1] = 'x';
+
+        assertThat(cache.get("key")).hasValueSatisfying(bytes -> assertThat(bytes).isEqualTo("pdf".getBytes(UTF_8)));
+        assertThat(cache.get("missing")).isEmpty();
+    }
+
+    @Test
+    void shouldReadDocumentsBackFromDiskOnceEvictedFromMemory() {
+        RenderedDocumentCache cache = new RenderedDocumentCache(Duration.ofMinutes(1), 1024, diskDirectory, 1024,
+            meterRegistry);
+        cache.put("key", "pdf".getBytes(UTF_8));
+
+        RenderedDocumentCache restarted = new RenderedDocumentCache(Duration.ofMinutes(1), 1024, diskDirectory, 1024,
+            new SimpleMeterRegistry());
+
+        assertThat(restarted.get("key")).hasValueSatisfying(bytes -> assertThat(bytes).isEqualTo("pdf".getBytes(UTF_8)));
+    }
+
+    @Test
+    void shouldKeepTheDiskTierWithinItsSizeLimit() throws IOException {
+        RenderedDocumentCache cache = new RenderedDocumentCache(Duration.ofMinutes(1), 1024, diskDirectory, 10,
+            meterRegistry);
+        cache.put("first", "123456".getBytes(UTF_8));
+        Files.setLastModifiedTime(diskDirectory.resolve("first.pdf"),
+            FileTime.fromMillis(System.currentTimeMillis() - 1000));
+        cache.put("second", "123456".getBytes(UTF_8));
+
+        await().untilAsserted(() -> assertThat(diskDirectory.toFile().list()).hasSize(1));
+        assertThat(diskDirectory.resolve("second.pdf")).exists();
+        assertThat(cache.getDiskBytes()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldCountWhatIsAlreadyOnDiskWithoutPruningOnEveryWrite() throws IOException {
+        Files.write(diskDirectory.resolve("earlier.pdf"), "1234".getBytes(UTF_8));
+        RenderedDocumentCache cache = new RenderedDocumentCache(Duration.ofMinutes(1), 1024, diskDirectory, 1024,
+            meterRegistry);
+
+        cache.put("key", "123456".getBytes(UTF_8));
+
+        assertThat(cache.getDiskBytes()).isEqualTo(10);
+        assertThat(diskDirectory.toFile().list()).hasSize(2);
+    }
+
+    @Test
+    void shouldDropExpiredDocumentsFromDiskOnASchedule() {
+        RenderedDocumentCache cache = new RenderedDocumentCache(Duration.ofMillis(200), 1024, diskDirectory, 1024,
+            meterRegistry);
+        cache.put("key", "pdf".getBytes(UTF_8));
+
+        await().untilAsserted(() -> assertThat(diskDirectory.toFile().list()).isEmpty());
+        assertThat(cache.getDiskBytes()).isZero();
+        cache.shutdown();
+    }
+}
@@ -17,6 +17,7 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.YesNo.NO;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.YesNo.YES;
 import static uk.gov.hmcts.reform.sscs.evidenceshare.domain.FurtherEvidenceLetterType.APPELLANT_LETTER;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -65,6 +66,7 @@ import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.BulkPrintException;
 import uk.gov.hmcts.reform.sscs.evidenceshare.exception.NonPdfBulkPrintException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.pdf.PdfMerger;
 
 @ExtendWith(MockitoExtension.class)
 class BulkPrintServiceTest {
@@ -96,6 +98,7 @@ class BulkPrintServiceTest {
     private BulkPrintServiceHelper bulkPrintServiceHelper;
     @Mock
     private CcdNotificationService ccdNotificationService;
+    private final PdfMerger pdfMerger = new PdfMerger(33554432L, 524288000L, 10000, new SimpleMeterRegistry());
 
     static Stream<Arguments> benefitParameters() {
         return Stream.of(Arguments.of(INFECTED_BLOOD_COMPENSATION, "true"), Arguments.of(PIP, "false"));
@@ -104,7 +107,7 @@ class BulkPrintServiceTest {
     @BeforeEach
     void setUp() {
         this.bulkPrintService = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, true, 1,
-            ccdNotificationService);
+            ccdNotificationService, pdfMerger);
         lenient().when(idamService.generateServiceAuthorization()).thenReturn(AUTH_TOKEN);
     }
 
@@ -212,7 +215,7 @@ class BulkPrintServiceTest {
     @Test
     void sendLetterNotEnabledWillNotSendToBulkPrint() {
         BulkPrintService notEnabledBulkPrint = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, false, 1,
-            ccdNotificationService);
+            ccdNotificationService, pdfMerger);
         notEnabledBulkPrint.sendToBulkPrint(PDF_LIST, SSCS_CASE_DATA, null);
         verifyNoInteractions(idamService);
         verifyNoInteractions(sendLetterApi);
@@ -221,7 +224,7 @@ class BulkPrintServiceTest {
     @Test
     void willSendToBulkPrintWithReasonableAdjustment() {
         this.bulkPrintService = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, true, 1,
-            ccdNotificationService);
+            ccdNotificationService, pdfMerger);
 
         SSCS_CASE_DATA.setReasonableAdjustments(ReasonableAdjustments
             .builder()
@@ -363,7 +366,7 @@ class BulkPrintServiceTest {
     @Test
     void sendLetterToBulkPrintAndSaveAllDocumentsIntoCcdNotification_whenSendLetterDisabled_returnsEmpty() {
         BulkPrintService notEnabledBulkPrint = new BulkPrintService(sendLetterApi, idamService, bulkPrintServiceHelper, false, 1,
-                ccdNotificationService);
+                ccdNotificationService, pdfMerger);
         Optional<UUID> id = notEnabledBulkPrint.sendLetterToBulkPrintAndSaveAllDocumentsIntoCcdNotification(234, SSCS_CASE_DATA, PDF_LIST, EventType.ISSUE_GENERIC_LETTER, "appellant");
         assertThat(id).isEqualTo(Optional.empty());
         verifyNoInteractions(ccdNotificationService);
@@ -4,6 +4,7 @@ import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static uk.gov.hmcts.reform.sscs.evidenceshare.domain.FurtherEvidenceLetterType.APPELLANT_LETTER;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.Before;
@@ -18,6 +19,7 @@ import uk.gov.hmcts.reform.sscs.ccd.service.CcdService;
 import uk.gov.hmcts.reform.sscs.ccd.service.UpdateCcdCaseService;
 import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.pdf.PdfMerger;
 import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
 import uk.gov.hmcts.reform.sscs.service.PdfStoreService;
 
@@ -48,7 +50,8 @@ public class MockBulkPrintServiceTest {
 
     @Before
     public void setUp() {
-        ccdNotificationsPdfService = new CcdNotificationsPdfService(pdfStoreService, pdfServiceClient, ccdService, updateCcdCaseService, idamService);
+        ccdNotificationsPdfService = new CcdNotificationsPdfService(pdfStoreService, pdfServiceClient, ccdService, updateCcdCaseService, idamService,
+            new PdfMerger(33554432L, 524288000L, 10000, new SimpleMeterRegistry()));
         bulkPrintServiceHelper = new BulkPrintServiceHelper(ccdNotificationsPdfService);
         this.mockBulkPrintService = new MockBulkPrintService(ccdNotificationsPdfService, bulkPrintServiceHelper);
 
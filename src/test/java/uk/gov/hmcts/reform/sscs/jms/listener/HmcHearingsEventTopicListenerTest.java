@@ -1,18 +1,27 @@
 package uk.gov.hmcts.reform.sscs.jms.listener;
 
+import static org.apache.qpid.jms.message.JmsMessageSupport.ACCEPTED;
+import static org.apache.qpid.jms.message.JmsMessageSupport.MODIFIED_FAILED;
+import static org.apache.qpid.jms.message.JmsMessageSupport.RELEASED;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.sscs.model.hmc.reference.HmcStatus.ADJOURNED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.JMSException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.qpid.jms.message.JmsAcknowledgeCallback;
 import org.apache.qpid.jms.message.JmsBytesMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -102,6 +111,91 @@ class HmcHearingsEventTopicListenerTest {
             .withCauseInstanceOf(MessageProcessingException.class);
     }
 
+    @Test
+    @DisplayName("With keyed consumption the message should be accepted once a worker has processed it.")
+    void testOnMessage_keyedConsumptionAcceptsProcessedMessage() throws Exception {
+        JmsAcknowledgeCallback acknowledgeCallback = givenKeyedConsumption();
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+
+        hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> verify(bytesMessage).acknowledge());
+        verify(acknowledgeCallback).setAckType(ACCEPTED);
+        verifyProcessEventMessageCall(processHmcMessageServiceV2);
+    }
+
+    @Test
+    @DisplayName("With keyed consumption a failed message should be settled as failed so it is redelivered.")
+    void testOnMessage_keyedConsumptionFailsUnprocessedMessage() throws Exception {
+        JmsAcknowledgeCallback acknowledgeCallback = givenKeyedConsumption();
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+        throwMessageProcessingException(processHmcMessageServiceV2, hmcMessage);
+
+        hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> verify(bytesMessage).acknowledge());
+        verify(acknowledgeCallback).setAckType(MODIFIED_FAILED);
+    }
+
+    @Test
+    @DisplayName("With keyed consumption a message whose lock expired in the queue should be released unprocessed.")
+    void testOnMessage_keyedConsumptionReleasesMessageWithExpiredLock() throws Exception {
+        JmsAcknowledgeCallback acknowledgeCallback = givenKeyedConsumption(Duration.ZERO);
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+
+        hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> verify(bytesMessage).acknowledge());
+        verify(acknowledgeCallback).setAckType(RELEASED);
+        verifyNoProcessEventMessageCall();
+    }
+
+    @Test
+    @DisplayName("With keyed consumption time spent in the coalescing window should count against the lock.")
+    void testOnMessage_keyedConsumptionCountsCoalescingAgainstTheLock() throws Exception {
+        HmcMessageCoalescer coalescer = new HmcMessageCoalescer(200, 10, new SimpleMeterRegistry());
+        JmsAcknowledgeCallback acknowledgeCallback = givenKeyedConsumption(Duration.ofMillis(100), Optional.of(coalescer));
+        HmcMessage hmcMessage = createHmcMessage(SERVICE_CODE);
+        given(mockObjectMapper.readValue(any(String.class), eq(HmcMessage.class))).willReturn(hmcMessage);
+
+        try {
+            hmcHearingsEventTopicListener.onMessage(bytesMessage);
+
+            await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> verify(bytesMessage).acknowledge());
+        } finally {
+            coalescer.shutdown();
+        }
+        verify(acknowledgeCallback).setAckType(RELEASED);
+        verifyNoProcessEventMessageCall();
+    }
+
+    private JmsAcknowledgeCallback givenKeyedConsumption() {
+        return givenKeyedConsumption(Duration.ofMinutes(1));
+    }
+
+    private JmsAcknowledgeCallback givenKeyedConsumption(Duration lockDuration) {
+        return givenKeyedConsumption(lockDuration, Optional.empty());
+    }
+
+    private JmsAcknowledgeCallback givenKeyedConsumption(Duration lockDuration,
+                                                         Optional<HmcMessageCoalescer> coalescer) {
+        HmcMessageExecutor executor = new HmcMessageExecutor(2, 10, 1000, lockDuration, new SimpleMeterRegistry());
+        hmcHearingsEventTopicListener = new HmcHearingsEventTopicListener(processHmcMessageServiceV2,
+            Optional.of(executor), coalescer);
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "objectMapper", mockObjectMapper);
+        ReflectionTestUtils.setField(hmcHearingsEventTopicListener, "hmctsDeploymentId", "test");
+        JmsAcknowledgeCallback acknowledgeCallback = mock(JmsAcknowledgeCallback.class);
+        given(bytesMessage.getAcknowledgeCallback()).willReturn(acknowledgeCallback);
+        return acknowledgeCallback;
+    }
+
     private void verifyNoProcessEventMessageCall() throws CaseException, MessageProcessingException {
         verify(processHmcMessageServiceV2, never()).processEventMessage((any(HmcMessage.class)));
     }
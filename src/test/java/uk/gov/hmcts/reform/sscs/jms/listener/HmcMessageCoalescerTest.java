@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.sscs.jms.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HmcMessageCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> processed = new CopyOnWriteArrayList<>();
+    private final List<String> superseded = new CopyOnWriteArrayList<>();
+    private HmcMessageCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void shouldOnlyProcessTheLatestMessageForAHearingWithinTheWindow() {
+        coalescer = new HmcMessageCoalescer(200, 10, meterRegistry);
+
+        submit("hearing-1", "LISTED");
+        submit("hearing-1", "UPDATE_SUBMITTED");
+        submit("hearing-2", "LISTED");
+        submit("hearing-1", "AWAITING_LISTING");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> processed.size() == 2);
+        assertThat(processed).containsExactlyInAnyOrder("hearing-1:AWAITING_LISTING", "hearing-2:LISTED");
+        assertThat(superseded).containsExactly("hearing-1:LISTED", "hearing-1:UPDATE_SUBMITTED");
+        assertThat(meterRegistry.get(HmcMessageCoalescer.COALESCED_COUNTER).counter().count()).isEqualTo(2);
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> meterRegistry.get(HmcMessageCoalescer.PENDING_GAUGE).gauge().value() == 0);
+    }
+
+    @Test
+    void shouldKeepClosingWindowsWhileAHandOffIsBlocked() {
+        coalescer = new HmcMessageCoalescer(50, 10, meterRegistry);
+        CountDownLatch lanesFull = new CountDownLatch(1);
+        coalescer.submit("hearing-1", () -> {
+            try {
+                lanesFull.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            processed.add("hearing-1:LISTED");
+        }, () -> superseded.add("hearing-1:LISTED"));
+        submit("hearing-2", "LISTED");
+
+        // hearing 2's window closes while hearing 1 is still blocked, so its next message opens a new window
+        await().pollDelay(Duration.ofMillis(300)).until(() -> true);
+        submit("hearing-2", "AWAITING_LISTING");
+        lanesFull.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> processed.size() == 3);
+        assertThat(processed).containsExactly("hearing-1:LISTED", "hearing-2:LISTED", "hearing-2:AWAITING_LISTING");
+        assertThat(superseded).isEmpty();
+    }
+
+    @Test
+    void shouldProcessStraightAwayWhenTheWindowIsZero() {
+        coalescer = new HmcMessageCoalescer(0, 10, meterRegistry);
+
+        submit("hearing-1", "LISTED");
+        submit("hearing-1", "AWAITING_LISTING");
+
+        assertThat(processed).containsExactly("hearing-1:LISTED", "hearing-1:AWAITING_LISTING");
+        assertThat(superseded).isEmpty();
+    }
+
+    @Test
+    void shouldProcessStraightAwayWhenTooManyHearingsArePending() {
+        coalescer = new HmcMessageCoalescer(60_000, 1, meterRegistry);
+
+        submit("hearing-1", "LISTED");
+        submit("hearing-2", "LISTED");
+
+        assertThat(processed).containsExactly("hearing-2:LISTED");
+        assertThat(meterRegistry.get(HmcMessageCoalescer.PENDING_GAUGE).gauge().value()).isEqualTo(1);
+    }
+
+    private void submit(String hearingId, String status) {
+        String message = hearingId + ":" + status;
+        coalescer.submit(hearingId, () -> processed.add(message), () -> superseded.add(message));
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.quartz.JobBuilder.newJob;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.quartz.Job;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Trigger;
+
+public class QuartzJobMetricsListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QuartzJobMetricsListener listener = new QuartzJobMetricsListener(meterRegistry);
+
+    @Test
+    public void records_how_late_a_job_started() {
+        JobExecutionContext context = createContext();
+        given(context.getScheduledFireTime()).willReturn(new Date(10_000));
+        given(context.getFireTime()).willReturn(new Date(12_500));
+
+        listener.jobToBeExecuted(context);
+
+        assertThat(meterRegistry.timer(QuartzJobMetricsListener.TRIGGER_LAG_TIMER, "job", "hearingReminder")
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2500);
+    }
+
+    @Test
+    public void records_job_duration_by_outcome() {
+        JobExecutionContext context = createContext();
+        given(context.getJobRunTime()).willReturn(300L);
+
+        listener.jobWasExecuted(context, null);
+        listener.jobWasExecuted(context, new JobExecutionException("failed"));
+
+        assertThat(meterRegistry.timer(QuartzJobMetricsListener.JOB_DURATION_TIMER,
+            "job", "hearingReminder", "outcome", "success").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+        assertThat(meterRegistry.timer(QuartzJobMetricsListener.JOB_DURATION_TIMER,
+            "job", "hearingReminder", "outcome", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void counts_misfires() {
+        listener.triggerMisfired(mock(Trigger.class));
+        listener.triggerMisfired(mock(Trigger.class));
+
+        assertThat(meterRegistry.counter(QuartzJobMetricsListener.MISFIRE_COUNTER).count()).isEqualTo(2);
+    }
+
+    @Test
+    public void never_vetoes_a_job() {
+        assertThat(listener.vetoJobExecution(mock(Trigger.class), createContext())).isFalse();
+    }
+
+    private JobExecutionContext createContext() {
+        JobDetail jobDetail = newJob(Job.class)
+            .withIdentity("job-id", "12345_hearingReminder")
+            .withDescription("hearingReminder")
+            .build();
+        JobExecutionContext context = mock(JobExecutionContext.class);
+        given(context.getJobDetail()).willReturn(jobDetail);
+        return context;
+    }
+}
@@ -209,4 +209,88 @@ public class QuartzJobRemoverTest {
             .isExactlyInstanceOf(JobException.class);
     }
 
+    @Test
+    public void jobs_are_removed_from_scheduler_by_groups_together() {
+
+        assertThatCode(
+            () -> {
+
+                JobKey hearingJobKey = new JobKey("job-id-1", "hearing-group");
+                JobKey evidenceJobKey = new JobKey("job-id-2", "evidence-group");
+
+                when(scheduler.getJobKeys(GroupMatcher.groupEquals("hearing-group")))
+                    .thenReturn(ImmutableSet.of(hearingJobKey));
+                when(scheduler.getJobKeys(GroupMatcher.groupEquals("evidence-group")))
+                    .thenReturn(ImmutableSet.of(evidenceJobKey));
+                when(scheduler.deleteJobs(List.of(hearingJobKey, evidenceJobKey)))
+                    .thenReturn(true);
+
+                quartzJobRemover.removeGroups(List.of("hearing-group", "evidence-group"));
+
+                verify(scheduler, times(1)).deleteJobs(
+                    eq(List.of(hearingJobKey, evidenceJobKey))
+                );
+            }
+        ).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void jobs_in_empty_groups_are_skipped_when_removing_by_groups() {
+
+        assertThatCode(
+            () -> {
+
+                JobKey evidenceJobKey = new JobKey("job-id-2", "evidence-group");
+
+                when(scheduler.getJobKeys(GroupMatcher.groupEquals("hearing-group")))
+                    .thenReturn(Collections.emptySet());
+                when(scheduler.getJobKeys(GroupMatcher.groupEquals("evidence-group")))
+                    .thenReturn(ImmutableSet.of(evidenceJobKey));
+                when(scheduler.deleteJobs(List.of(evidenceJobKey)))
+                    .thenReturn(true);
+
+                quartzJobRemover.removeGroups(List.of("hearing-group", "evidence-group"));
+            }
+        ).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void remove_jobs_by_groups_throws_when_no_group_has_jobs() throws SchedulerException {
+
+        assertThatThrownBy(
+            () -> {
+
+                when(scheduler.getJobKeys(any()))
+                    .thenReturn(Collections.emptySet());
+
+                quartzJobRemover.removeGroups(List.of("hearing-group", "evidence-group"));
+            }
+
+        ).hasMessage("Groups: hearing-group, evidence-group")
+            .isExactlyInstanceOf(JobNotFoundException.class);
+
+        verify(scheduler, never()).deleteJobs(any());
+    }
+
+    @Test
+    public void remove_jobs_by_groups_throws_when_quartz_fails() {
+
+        assertThatThrownBy(
+            () -> {
+
+                JobKey jobKey = new JobKey("job-id-1", "failing-job-group");
+
+                when(scheduler.getJobKeys(GroupMatcher.groupEquals("failing-job-group")))
+                    .thenReturn(ImmutableSet.of(jobKey));
+
+                doThrow(SchedulerException.class)
+                    .when(scheduler)
+                    .deleteJobs(List.of(jobKey));
+
+                quartzJobRemover.removeGroups(List.of("failing-job-group"));
+            }
+        ).hasMessage("Error while removing Jobs by Group. Groups: failing-job-group")
+            .isExactlyInstanceOf(JobException.class);
+    }
+
 }
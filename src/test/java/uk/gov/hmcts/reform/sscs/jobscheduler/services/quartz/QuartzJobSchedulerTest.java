@@ -5,19 +5,26 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.quartz.JobDetail;
 import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.Job;
 import uk.gov.hmcts.reform.sscs.jobscheduler.model.JobDataKeys;
@@ -131,4 +138,60 @@ public class QuartzJobSchedulerTest {
         ).hasMessage("Error while scheduling job")
             .isExactlyInstanceOf(JobException.class);
     }
+
+    @Test
+    public void jobs_are_scheduled_together() {
+
+        assertThatCode(
+            () -> {
+
+                ZonedDateTime firstTriggerAt = ZonedDateTime.now().plusDays(1);
+                ZonedDateTime secondTriggerAt = ZonedDateTime.now().plusDays(2);
+
+                when(jobClassMapper.getJobMapping(String.class)).thenReturn(jobClassMapping);
+                when(jobClassMapping.serialize("payload")).thenReturn("serialized-payload");
+
+                List<String> actualJobIds = quartzJobScheduler.scheduleAll(List.of(
+                    new Job<>("test-job-group", "first-job", "payload", firstTriggerAt),
+                    new Job<>("test-job-group", "second-job", "payload", secondTriggerAt)
+                ));
+
+                ArgumentCaptor<Map<JobDetail, Set<? extends Trigger>>> jobsCaptor = ArgumentCaptor.forClass(Map.class);
+
+                verify(scheduler, times(1)).scheduleJobs(jobsCaptor.capture(), eq(false));
+                verify(scheduler, never()).scheduleJob(any(), any());
+
+                List<JobDetail> actualJobDetails = new ArrayList<>(jobsCaptor.getValue().keySet());
+                assertEquals(2, actualJobIds.size());
+                assertEquals(actualJobIds.get(0), actualJobDetails.get(0).getKey().getName());
+                assertEquals("first-job", actualJobDetails.get(0).getDescription());
+                assertEquals(actualJobIds.get(1), actualJobDetails.get(1).getKey().getName());
+                assertEquals("second-job", actualJobDetails.get(1).getDescription());
+
+                Trigger secondTrigger = jobsCaptor.getValue().get(actualJobDetails.get(1)).iterator().next();
+                assertEquals(secondTriggerAt.toInstant().toEpochMilli(), secondTrigger.getStartTime().toInstant().toEpochMilli());
+            }
+        ).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void schedule_all_throws_when_quartz_fails() {
+
+        assertThatThrownBy(
+            () -> {
+
+                when(jobClassMapper.getJobMapping(String.class)).thenReturn(jobClassMapping);
+                when(jobClassMapping.serialize("payload")).thenReturn("serialized-payload");
+
+                doThrow(SchedulerException.class)
+                    .when(scheduler)
+                    .scheduleJobs(any(), eq(false));
+
+                quartzJobScheduler.scheduleAll(List.of(
+                    new Job<>("test-job-group", "test-job", "payload", ZonedDateTime.now())
+                ));
+            }
+        ).hasMessage("Error while scheduling jobs")
+            .isExactlyInstanceOf(JobException.class);
+    }
 }
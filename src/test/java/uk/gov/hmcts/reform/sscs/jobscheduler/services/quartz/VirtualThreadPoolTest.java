@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.sscs.jobscheduler.services.quartz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.quartz.SchedulerConfigException;
+
+public class VirtualThreadPoolTest {
+
+    private final VirtualThreadPool threadPool = new VirtualThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws SchedulerConfigException {
+        threadPool.setThreadCount(2);
+        threadPool.setInstanceName("test-scheduler");
+        threadPool.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        threadPool.shutdown(true);
+    }
+
+    @Test
+    public void runs_jobs_on_virtual_threads() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicBoolean virtual = new AtomicBoolean();
+
+        assertThat(threadPool.runInThread(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            ran.countDown();
+        })).isTrue();
+
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    public void only_reports_free_threads_up_to_the_cap() throws InterruptedException {
+        assertThat(threadPool.getPoolSize()).isEqualTo(2);
+        assertThat(threadPool.blockForAvailableThreads()).isEqualTo(2);
+
+        threadPool.runInThread(this::waitForRelease);
+
+        assertThat(threadPool.blockForAvailableThreads()).isEqualTo(1);
+        assertThat(threadPool.getRunningCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void waits_for_a_free_thread_when_the_cap_is_reached() throws InterruptedException {
+        threadPool.runInThread(this::waitForRelease);
+        threadPool.runInThread(this::waitForRelease);
+
+        AtomicBoolean thirdStarted = new AtomicBoolean();
+        Thread submitter = new Thread(() -> threadPool.runInThread(() -> thirdStarted.set(true)));
+        submitter.start();
+        submitter.join(200);
+
+        assertThat(submitter.isAlive()).isTrue();
+        assertThat(thirdStarted).isFalse();
+
+        release.countDown();
+        submitter.join(2000);
+
+        assertThat(submitter.isAlive()).isFalse();
+    }
+
+    @Test
+    public void does_not_run_jobs_after_shutdown() {
+        threadPool.shutdown(false);
+
+        assertThat(threadPool.runInThread(() -> { })).isFalse();
+    }
+
+    @Test
+    public void needs_a_positive_thread_count() {
+        VirtualThreadPool unconfigured = new VirtualThreadPool();
+
+        assertThatThrownBy(unconfigured::initialize)
+            .isExactlyInstanceOf(SchedulerConfigException.class);
+    }
+
+    private void waitForRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
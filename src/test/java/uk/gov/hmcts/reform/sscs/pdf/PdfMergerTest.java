@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.sscs.pdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.exception.PdfMergeException;
+
+public class PdfMergerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void mergesDocumentsInOrderSkippingNulls() throws IOException {
+        PdfMerger merger = new PdfMerger(1024, 1_000_000, 100, meterRegistry);
+
+        byte[] merged = merger.merge("letter", Arrays.asList(createPdf(1), null, createPdf(2)), false);
+
+        try (PDDocument document = Loader.loadPDF(merged)) {
+            assertThat(document.getNumberOfPages()).isEqualTo(3);
+        }
+        assertThat(meterRegistry.get(PdfMerger.MERGE_TIMER).tag("merge", "letter").tag("outcome", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PdfMerger.MERGE_PAGES).tag("merge", "letter").summary().totalAmount())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get(PdfMerger.MERGE_ALLOCATED).tag("merge", "letter").summary().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void padsEachDocumentToStartOnAnOddPage() throws IOException {
+        PdfMerger merger = new PdfMerger(1024, 1_000_000, 100, meterRegistry);
+
+        byte[] merged = merger.merge("letter", List.of(createPdf(1), createPdf(3), createPdf(1)), true);
+
+        try (PDDocument document = Loader.loadPDF(merged)) {
+            assertThat(document.getNumberOfPages()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    public void refusesDocumentsOverTheInputLimitWithoutLoadingThem() throws IOException {
+        byte[] first = createPdf(1);
+        PdfMerger merger = new PdfMerger(1024, first.length, 100, meterRegistry);
+
+        assertThatThrownBy(() -> merger.merge("letter", List.of(first, createPdf(1)), false))
+            .isInstanceOf(PdfMergeException.class);
+
+        assertThat(meterRegistry.get(PdfMerger.MERGE_TIMER).tag("outcome", "refused").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(PdfMerger.MERGE_PAGES).summary()).isNull();
+    }
+
+    @Test
+    public void refusesMergesOverThePageLimit() throws IOException {
+        PdfMerger merger = new PdfMerger(1024, 1_000_000, 3, meterRegistry);
+
+        assertThatThrownBy(() -> merger.merge("letter", List.of(createPdf(2), createPdf(2)), false))
+            .isInstanceOf(PdfMergeException.class);
+
+        assertThat(meterRegistry.get(PdfMerger.MERGE_TIMER).tag("outcome", "refused").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void wrapsUnreadableDocuments() throws IOException {
+        PdfMerger merger = new PdfMerger(1024, 1_000_000, 100, meterRegistry);
+
+        assertThatThrownBy(() -> merger.merge("letter", List.of(createPdf(1), "not a pdf".getBytes()), false))
+            .isInstanceOf(PdfMergeException.class);
+
+        assertThat(meterRegistry.get(PdfMerger.MERGE_TIMER).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    private static byte[] createPdf(int numberOfPages) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            for (int i = 0; i < numberOfPages; i++) {
+                document.addPage(new PDPage(PDRectangle.A4));
+            }
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+}
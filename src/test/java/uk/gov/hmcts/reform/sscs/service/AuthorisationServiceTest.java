@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.sscs.service;
 import static feign.Request.HttpMethod.GET;
 import static java.nio.charset.Charset.defaultCharset;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -11,12 +12,21 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import feign.FeignException;
 import feign.Request;
 import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
@@ -63,7 +73,8 @@ public class AuthorisationServiceTest {
         authorisationService =
                 new AuthorisationService(serviceAuthorisationApi, serviceResolver,
                         List.of("ccd_data"), List.of("sscs"), List.of("ccd_data"),
-                        List.of("bulk_scan_processor", "bulk_scan_orchestrator"));
+                        List.of("bulk_scan_processor", "bulk_scan_orchestrator"),
+                        Duration.ofMinutes(5), 1000, new SimpleMeterRegistry());
         ReflectionTestUtils.setField(authorisationService, "sscsOnlyEndpoints", List.of("/document"));
     }
 
@@ -221,6 +232,105 @@ public class AuthorisationServiceTest {
                 () -> authorisationService.authorise(request));
     }
 
+    @Test
+    @DisplayName("Should only ask s2s once for a token until it is close to expiring")
+    public void shouldRememberAVerifiedTokenUntilCloseToItsExpiry() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-17T10:00:00Z"));
+        authorisationService = cachingAuthorisationService(meterRegistry, clock);
+        String token = "Bearer " + jwt(clock.instant().plus(Duration.ofMinutes(3)));
+        when(serviceAuthorisationApi.getServiceName(token)).thenReturn(CCD_DATA);
+
+        assertTrue(authorisationService.authorise(token));
+        assertDoesNotThrow(() -> authorisationService.assertIsAllowedToHandleCallback(token));
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(authorisationService.authorise(token));
+        verify(serviceAuthorisationApi).getServiceName(token);
+
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(authorisationService.authorise(token));
+        verify(serviceAuthorisationApi, times(2)).getServiceName(token);
+        assertEquals(2, meterRegistry.get(AuthorisationService.VERIFICATION_TIMER).timer().count());
+        assertEquals(3.0, meterRegistry.get("cache.gets").tag("cache", AuthorisationService.VERIFIED_TOKEN_CACHE)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should ask s2s again once the maximum time to remember a token has passed")
+    public void shouldNotRememberATokenForLongerThanTheMaximum() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-17T10:00:00Z"));
+        authorisationService = cachingAuthorisationService(new SimpleMeterRegistry(), clock);
+        String token = jwt(clock.instant().plus(Duration.ofHours(4)));
+        when(serviceAuthorisationApi.getServiceName(token)).thenReturn(CCD_DATA);
+
+        authorisationService.authorise(token);
+        clock.advance(Duration.ofMinutes(6));
+        authorisationService.authorise(token);
+
+        verify(serviceAuthorisationApi, times(2)).getServiceName(token);
+    }
+
+    @Test
+    @DisplayName("Should always ask s2s about tokens that have expired or were rejected")
+    public void shouldNotRememberExpiredOrRejectedTokens() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-17T10:00:00Z"));
+        authorisationService = cachingAuthorisationService(new SimpleMeterRegistry(), clock);
+        String expired = jwt(clock.instant().minus(Duration.ofMinutes(1)));
+        String rejected = jwt(clock.instant().plus(Duration.ofHours(1)));
+        when(serviceAuthorisationApi.getServiceName(expired)).thenReturn(CCD_DATA);
+        when(serviceAuthorisationApi.getServiceName(rejected)).thenThrow(createFeignException(401, "Unauthorized"));
+
+        authorisationService.authorise(expired);
+        authorisationService.authorise(expired);
+        assertThrows(ClientAuthorisationException.class, () -> authorisationService.authorise(rejected));
+        assertThrows(ClientAuthorisationException.class, () -> authorisationService.authorise(rejected));
+
+        verify(serviceAuthorisationApi, times(2)).getServiceName(expired);
+        verify(serviceAuthorisationApi, times(2)).getServiceName(rejected);
+    }
+
+    private AuthorisationService cachingAuthorisationService(SimpleMeterRegistry meterRegistry, Clock clock) {
+        return new AuthorisationService(serviceAuthorisationApi, serviceResolver,
+                List.of("ccd_data"), List.of("sscs"), List.of("ccd_data"),
+                List.of("bulk_scan_processor", "bulk_scan_orchestrator"),
+                Duration.ofMinutes(5), 100, meterRegistry, clock);
+    }
+
+    private static String jwt(Instant expiry) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS512\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"sub\":\"ccd_data\",\"exp\":" + expiry.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
     private FeignException createFeignException(int status, String message) {
         var feignRequest =
                 Request.create(GET, "URL", Map.of(), "body".getBytes(), defaultCharset(), new RequestTemplate());
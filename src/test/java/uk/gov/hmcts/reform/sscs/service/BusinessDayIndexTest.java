@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.Set;
+import net.objectlab.kit.datecalc.common.DefaultHolidayCalendar;
+import net.objectlab.kit.datecalc.jdk8.LocalDateKitCalculatorsFactory;
+import org.junit.jupiter.api.Test;
+
+class BusinessDayIndexTest {
+
+    private static final Set<LocalDate> HOLIDAYS = Set.of(
+        LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26), LocalDate.of(2025, 1, 1),
+        LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 21), LocalDate.of(2025, 5, 5));
+
+    private final BusinessDayIndex index = BusinessDayIndex.of(HOLIDAYS, LocalDate.of(2025, 1, 1));
+
+    @Test
+    void shouldMatchTheDateCalculatorForEveryStartDate() {
+        DefaultHolidayCalendar<LocalDate> calendar = new DefaultHolidayCalendar<>();
+        calendar.setHolidays(HOLIDAYS);
+        LocalDateKitCalculatorsFactory.getDefaultInstance().registerHolidays("BusinessDayIndexTest", calendar);
+
+        for (LocalDate date = LocalDate.of(2024, 12, 1); date.isBefore(LocalDate.of(2025, 6, 1));
+             date = date.plusDays(1)) {
+            for (int days = 0; days <= 30; days++) {
+                LocalDate expected = LocalDateKitCalculatorsFactory.forwardCalculator("BusinessDayIndexTest")
+                    .setStartDate(date)
+                    .moveByBusinessDays(days)
+                    .getCurrentBusinessDate();
+
+                assertEquals(expected, index.getBusinessDay(date, days), date + " plus " + days);
+            }
+        }
+    }
+
+    @Test
+    void shouldSkipWeekendsAndHolidays() {
+        assertEquals(LocalDate.of(2024, 12, 27), index.getBusinessDay(LocalDate.of(2024, 12, 24), 1));
+        assertEquals(LocalDate.of(2024, 12, 30), index.getBusinessDay(LocalDate.of(2024, 12, 22), 3));
+        assertEquals(LocalDate.of(2025, 4, 22), index.getBusinessDay(LocalDate.of(2025, 4, 17), 1));
+    }
+
+    @Test
+    void shouldReturnNullOutsideTheIndex() {
+        assertNull(index.getBusinessDay(LocalDate.of(2019, 12, 31), 1));
+        assertNull(index.getBusinessDay(LocalDate.of(2028, 12, 29), 5));
+        assertNull(index.getBusinessDay(LocalDate.of(2025, 1, 6), -1));
+    }
+
+    @Test
+    void shouldOnlyBeReusedForTheSameHolidays() {
+        assertEquals(true, index.isFor(HOLIDAYS));
+        assertEquals(false, index.isFor(Set.copyOf(HOLIDAYS.stream().toList())));
+    }
+}
@@ -59,6 +59,19 @@ class BusinessDaysCalculatorServiceTest {
             businessDaysCalculatorService.getBusinessDay(startDate, 5));
     }
 
+    @Test
+    void shouldFallBackToTheDateCalculatorOutsideTheIndexedDates() throws IOException {
+        assertEquals(LocalDate.of(2010, 1, 5),
+            businessDaysCalculatorService.getBusinessDay(LocalDate.of(2010, 1, 4), 1));
+    }
+
+    @Test
+    void shouldOnlyLookUpHolidaysOncePerCall() throws IOException {
+        businessDaysCalculatorService.getBusinessDay(LocalDate.of(2024, 12, 23), 3);
+
+        verify(cachedHolidayClient, times(1)).getHolidays();
+    }
+
     @Test
     void shouldInitializeHolidaysCorrectly() {
         Set<LocalDate> holidays = new HashSet<>();
@@ -5,12 +5,14 @@ import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static uk.gov.hmcts.reform.sscs.ccd.util.CaseDataUtils.buildCaseData;
 
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +26,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceDetails;
@@ -43,6 +46,7 @@ import uk.gov.hmcts.reform.sscs.docmosis.domain.Pdf;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.model.LetterType;
+import uk.gov.hmcts.reform.sscs.pdf.PdfMerger;
 
 @RunWith(JUnitParamsRunner.class)
 public class CcdNotificationsPdfServiceTest {
@@ -65,6 +69,9 @@ public class CcdNotificationsPdfServiceTest {
     @Mock
     IdamService idamService;
 
+    @Spy
+    PdfMerger pdfMerger = new PdfMerger(33554432L, 524288000L, 10000, new SimpleMeterRegistry());
+
     private SscsCaseData caseData = buildCaseData().toBuilder().ccdCaseId("123").build();
 
     private List<SscsDocument> sscsDocuments;
@@ -253,6 +260,24 @@ public class CcdNotificationsPdfServiceTest {
         verifyCaseDataUpdatedWithCorrespondence();
     }
 
+    @Test
+    public void shouldMergeStoredCorrespondenceIntoCcdV2InOneUpdate() {
+        Long caseId = Long.valueOf(caseData.getCcdCaseId());
+        Correspondence older = Correspondence.builder().value(CorrespondenceDetails.builder()
+                .sentOn("22 Jan 2021 11:00").eventType("event").correspondenceType(CorrespondenceType.Email).build()).build();
+        Correspondence newer = Correspondence.builder().value(CorrespondenceDetails.builder()
+                .sentOn("22 Jan 2021 11:05").eventType("event").correspondenceType(CorrespondenceType.Letter).build()).build();
+
+        service.mergeStoredCorrespondenceIntoCcdV2(caseId, List.of(older, newer), "Notification sent via Gov Notify and Bulk Print");
+
+        verify(updateCcdCaseService).updateCaseV2(eq(caseId), eq(EventType.NOTIFICATION_SENT.getCcdType()), eq("Notification sent"),
+                eq("Notification sent via Gov Notify and Bulk Print"), any(), consumerArgumentCaptor.capture());
+        caseData.setCorrespondence(null);
+        consumerArgumentCaptor.getValue().accept(SscsCaseDetails.builder().data(caseData).build());
+        assertEquals(2, caseData.getCorrespondence().size());
+        verify(pdfStoreService, never()).store(any(), any(), any());
+    }
+
     @Test
     @Parameters({"APPELLANT", "REPRESENTATIVE", "APPOINTEE", "JOINT_PARTY", "OTHER_PARTY"})
     public void givenAReasonableAdjustmentPdfForALetterType_thenCreateReasonableAdjustmentsCorrespondenceIntoCcdForRelevantParty(LetterType letterType) {
@@ -8,8 +8,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Before;
@@ -23,6 +27,7 @@ import uk.gov.hmcts.reform.sscs.docmosis.config.PdfDocumentConfig;
 import uk.gov.hmcts.reform.sscs.docmosis.domain.DocumentHolder;
 import uk.gov.hmcts.reform.sscs.docmosis.domain.Template;
 import uk.gov.hmcts.reform.sscs.docmosis.service.DocmosisPdfGenerationService;
+import uk.gov.hmcts.reform.sscs.docmosis.service.RenderedDocumentCache;
 
 public class DocmosisPdfGenerationServiceTest {
 
@@ -70,6 +75,20 @@ public class DocmosisPdfGenerationServiceTest {
         assertThat(result, is(equalTo(FILE_CONTENT.getBytes())));
     }
 
+    @Test
+    public void givenTheSameRenderTwice_thenOnlyCallDocmosisOnce() {
+        pdfGenerationService = new DocmosisPdfGenerationService("bla", "bla2", restTemplate,
+            new RenderedDocumentCache(Duration.ofMinutes(1), 1024 * 1024, null, 0, new SimpleMeterRegistry()));
+        doReturn(createResponseEntity()).when(restTemplate).postForEntity(anyString(), any(), eq(byte[].class));
+        DocumentHolder documentHolder = DocumentHolder.builder().template(new Template("bla", "bla2")).placeholders(PLACEHOLDERS).build();
+
+        pdfGenerationService.generatePdf(documentHolder);
+        byte[] result = pdfGenerationService.generatePdf(documentHolder);
+
+        assertThat(result, is(equalTo(FILE_CONTENT.getBytes())));
+        verify(restTemplate, times(1)).postForEntity(anyString(), any(), eq(byte[].class));
+    }
+
     private ResponseEntity<byte[]> createResponseEntity() {
         return new ResponseEntity<>(FILE_CONTENT.getBytes(), HttpStatus.OK);
     }
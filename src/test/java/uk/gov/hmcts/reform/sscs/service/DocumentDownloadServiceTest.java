@@ -1,15 +1,20 @@
 package uk.gov.hmcts.reform.sscs.service;
 
-import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Before;
@@ -25,9 +30,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.document.am.feign.CaseDocumentClient;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
-import uk.gov.hmcts.reform.sscs.exception.DocumentNotFoundException;
+import uk.gov.hmcts.reform.document.domain.Document;
+import uk.gov.hmcts.reform.sscs.document.EvidenceMetadataDownloadClientApi;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.service.pdf.data.UploadedEvidence;
 
 @RunWith(JUnitParamsRunner.class)
@@ -41,6 +49,10 @@ public class DocumentDownloadServiceTest {
     EvidenceManagementSecureDocStoreService evidenceManagementSecureDocStoreService;
     @Mock
     IdamService idamService;
+    @Mock
+    EvidenceMetadataDownloadClientApi evidenceMetadataDownloadClientApi;
+    @Mock
+    CaseDocumentClient caseDocumentClient;
     private DocumentDownloadService documentDownloadService;
 
     @Rule
@@ -50,9 +62,7 @@ public class DocumentDownloadServiceTest {
 
     @Before
     public void setUp() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-            authTokenGenerator, "http://dm-store:4506", false,
-                evidenceManagementSecureDocStoreService, idamService);
+        documentDownloadService = createDocumentDownloadService(false);
         urlString = "http://dm-store:4506/documents/someDocId/binary";
     }
 
@@ -68,9 +78,7 @@ public class DocumentDownloadServiceTest {
 
     @Test
     public void givenDocumentId_shouldReturnFileSizeSecure() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-                authTokenGenerator, "http://dm-store:4506", true,
-                evidenceManagementSecureDocStoreService, idamService);
+        documentDownloadService = createDocumentDownloadService(true);
 
         ResponseEntity<Resource> response = ResponseEntity.ok(new ByteArrayResource("test".getBytes()));
         given(evidenceManagementSecureDocStoreService.downloadResource(any(), any()))
@@ -92,9 +100,7 @@ public class DocumentDownloadServiceTest {
 
     @Test
     public void givenFullDocumentUrl_shouldReturnFileSizeSecure() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-                authTokenGenerator, "http://dm-store:4506", true,
-                evidenceManagementSecureDocStoreService, idamService);
+        documentDownloadService = createDocumentDownloadService(true);
 
         ResponseEntity<Resource> response = ResponseEntity.ok(new ByteArrayResource("test".getBytes()));
         given(evidenceManagementSecureDocStoreService.downloadResource(any(), any()))
@@ -128,9 +134,7 @@ public class DocumentDownloadServiceTest {
 
     @Test
     public void givenErrorWhenDownloadingBinaryFile_shouldReturnZeroSizeByDefaultSecure() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-                authTokenGenerator, "http://dm-store:4506", true,
-                evidenceManagementSecureDocStoreService, idamService);
+        documentDownloadService = createDocumentDownloadService(true);
 
         given(evidenceManagementSecureDocStoreService.downloadResource(any(), any()))
                 .willThrow(RuntimeException.class);
@@ -151,53 +155,73 @@ public class DocumentDownloadServiceTest {
     }
 
     @Test
-    public void canGetUploadedEvidence() {
-        Resource expectedResource = mock(Resource.class);
-
-        HttpHeaders headers = new HttpHeaders();
-        String filename = "filename";
-        headers.add("originalfilename", filename);
-        String contentType = "application/pdf";
-        headers.add(HttpHeaders.CONTENT_TYPE, contentType);
-        ResponseEntity<Resource> expectedResponse = new ResponseEntity<>(expectedResource, headers, HttpStatus.OK);
-
-        given(documentDownloadClientApi.downloadBinary(any(), any(), any(), any(), any()))
-                .willReturn(expectedResponse);
-
-        String urlString = "http://somedomain/documents/someDocId/binary";
-        UploadedEvidence downloadFile = documentDownloadService.getUploadedEvidence(urlString);
-
-        assertThat(downloadFile, is(new UploadedEvidence(expectedResource, filename, contentType)));
+    public void givenMetadata_shouldReturnFileSizeWithoutDownloadingTheBinary() {
+        documentDownloadService = createDocumentDownloadService(false);
+        Document document = new Document();
+        document.size = 4096L;
+        given(evidenceMetadataDownloadClientApi.getDocumentMetadata(any(), any(), any(), any(), any()))
+                .willReturn(document);
+
+        long size = documentDownloadService.getFileSize("http://dm-store:4506/documents/someDocId/binary");
+        long cachedSize = documentDownloadService.getFileSize("http://dm-store:4506/documents/someDocId/binary");
+
+        assertEquals(4096L, size);
+        assertEquals(4096L, cachedSize);
+        then(evidenceMetadataDownloadClientApi).should(times(1)).getDocumentMetadata(
+            "oauth2Token", null, "sscs", "caseworker", "/documents/someDocId");
+        then(documentDownloadClientApi).shouldHaveNoInteractions();
     }
 
     @Test
-    public void canDownloadFile() {
-        Resource expectedResource = mock(Resource.class);
-
-        HttpHeaders headers = new HttpHeaders();
-        String filename = "filename";
-        headers.add("originalfilename", filename);
-        String contentType = "application/pdf";
-        headers.add(HttpHeaders.CONTENT_TYPE, contentType);
-        ResponseEntity<Resource> expectedResponse = new ResponseEntity<>(expectedResource, headers, HttpStatus.OK);
+    public void givenMetadataSecure_shouldReturnFileSizeWithoutDownloadingTheBinary() {
+        documentDownloadService = createDocumentDownloadService(true);
+        given(idamService.getIdamTokens()).willReturn(IdamTokens.builder().build());
+        uk.gov.hmcts.reform.ccd.document.am.model.Document document =
+            new uk.gov.hmcts.reform.ccd.document.am.model.Document();
+        document.size = 2048L;
+        given(caseDocumentClient.getMetadataForDocument(any(), any(), anyString())).willReturn(document);
+
+        long size = documentDownloadService.getFileSize("http://dm-store:4506/documents/someDocId/binary");
+
+        assertEquals(2048L, size);
+        then(evidenceManagementSecureDocStoreService).shouldHaveNoInteractions();
+    }
 
+    @Test
+    public void givenMetadataLookupFails_shouldFallBackToDownloadingTheBinary() {
+        documentDownloadService = createDocumentDownloadService(false);
+        given(evidenceMetadataDownloadClientApi.getDocumentMetadata(any(), any(), any(), any(), any()))
+                .willThrow(RuntimeException.class);
         given(documentDownloadClientApi.downloadBinary(any(), any(), any(), any(), any()))
-                .willReturn(expectedResponse);
+                .willReturn(ResponseEntity.ok(new ByteArrayResource("test".getBytes())));
 
-        String urlString = "http://somedomain/documents/someDocId/binary";
-        ResponseEntity<Resource> downloadFile = documentDownloadService.downloadFile(urlString);
+        long size = documentDownloadService.getFileSize("19cd94a8-4280-406b-92c7-090b735159ca");
 
-        assertThat(downloadFile.getStatusCode(), is(HttpStatus.OK));
-        assertThat(downloadFile.getBody(), equalTo(expectedResource));
-        assertTrue(downloadFile.getHeaders().get(HttpHeaders.CONTENT_TYPE).contains(contentType));
+        assertEquals(4L, size);
     }
 
     @Test
-    public void canDownloadFileSecure() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-                authTokenGenerator, "http://dm-store:4506", true,
-                evidenceManagementSecureDocStoreService, idamService);
+    public void givenSeveralDocuments_shouldReturnEachFileSize() {
+        documentDownloadService = createDocumentDownloadService(false);
+        Document small = new Document();
+        small.size = 10L;
+        Document large = new Document();
+        large.size = 20L;
+        given(evidenceMetadataDownloadClientApi.getDocumentMetadata(any(), any(), any(), any(), eq("/documents/small")))
+                .willReturn(small);
+        given(evidenceMetadataDownloadClientApi.getDocumentMetadata(any(), any(), any(), any(), eq("/documents/large")))
+                .willReturn(large);
+
+        Map<String, Long> sizes = documentDownloadService.getFileSizes(Arrays.asList(
+            "http://dm-store:4506/documents/small/binary", "http://dm-store:4506/documents/large/binary", null));
+
+        assertEquals(Long.valueOf(10L), sizes.get("http://dm-store:4506/documents/small/binary"));
+        assertEquals(Long.valueOf(20L), sizes.get("http://dm-store:4506/documents/large/binary"));
+        assertEquals(Long.valueOf(0L), sizes.get(null));
+    }
 
+    @Test
+    public void canGetUploadedEvidence() {
         Resource expectedResource = mock(Resource.class);
 
         HttpHeaders headers = new HttpHeaders();
@@ -207,60 +231,13 @@ public class DocumentDownloadServiceTest {
         headers.add(HttpHeaders.CONTENT_TYPE, contentType);
         ResponseEntity<Resource> expectedResponse = new ResponseEntity<>(expectedResource, headers, HttpStatus.OK);
 
-        given(evidenceManagementSecureDocStoreService.downloadResource(any(), any()))
-                .willReturn(expectedResponse);
-
-        String urlString = "http://somedomain/documents/someDocId/binary";
-        ResponseEntity<Resource> downloadFile = documentDownloadService.downloadFile(urlString);
-
-        assertThat(downloadFile.getStatusCode(), is(HttpStatus.OK));
-        assertThat(downloadFile.getBody(), equalTo(expectedResource));
-        assertTrue(downloadFile.getHeaders().get(HttpHeaders.CONTENT_TYPE).contains(contentType));
-    }
-
-    @Test(expected = DocumentNotFoundException.class)
-    public void expectedExceptionForNullDownloadFile() {
-        given(documentDownloadClientApi.downloadBinary(any(), any(), any(), any(), any()))
-                .willReturn(null);
-
-        String urlString = "http://somedomain/documents/someDocId/binary";
-        documentDownloadService.downloadFile(urlString);
-    }
-
-    @Test(expected = DocumentNotFoundException.class)
-    public void expectedExceptionForNullDownloadFileSecure() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-            authTokenGenerator, "http://dm-store:4506", true,
-            evidenceManagementSecureDocStoreService, idamService);
-
-        given(evidenceManagementSecureDocStoreService.downloadResource(any(), any()))
-                .willReturn(null);
-
-        String urlString = "http://somedomain/documents/someDocId/binary";
-        documentDownloadService.downloadFile(urlString);
-    }
-
-
-    @Test(expected = DocumentNotFoundException.class)
-    public void expectedExceptionForError() {
         given(documentDownloadClientApi.downloadBinary(any(), any(), any(), any(), any()))
-                .willThrow();
+                .willReturn(expectedResponse);
 
         String urlString = "http://somedomain/documents/someDocId/binary";
-        documentDownloadService.downloadFile(urlString);
-    }
-
-    @Test(expected = DocumentNotFoundException.class)
-    public void expectedExceptionForErrorSecure() {
-        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi,
-                authTokenGenerator, "http://dm-store:4506", true,
-                evidenceManagementSecureDocStoreService, idamService);
-
-        given(evidenceManagementSecureDocStoreService.downloadResource(any(), any()))
-                .willThrow();
+        UploadedEvidence downloadFile = documentDownloadService.getUploadedEvidence(urlString);
 
-        String urlString = "http://somedomain/documents/someDocId/binary";
-        documentDownloadService.downloadFile(urlString);
+        assertThat(downloadFile, is(new UploadedEvidence(expectedResource, filename, contentType)));
     }
 
     @Test
@@ -275,6 +252,13 @@ public class DocumentDownloadServiceTest {
         assertEquals("/documents/" + id + "/binary", documentDownloadService.getDownloadUrl(urlString));
     }
 
+    private DocumentDownloadService createDocumentDownloadService(boolean secureDocStoreEnabled) {
+        return new DocumentDownloadService(documentDownloadClientApi, authTokenGenerator, "http://dm-store:4506",
+            secureDocStoreEnabled, evidenceManagementSecureDocStoreService, idamService,
+            evidenceMetadataDownloadClientApi, caseDocumentClient, Duration.ofMinutes(1), 10, 2, 10,
+            new SimpleMeterRegistry());
+    }
+
     @SuppressWarnings("unused")
     private Object[][] getDifferentResponseScenarios() {
         ResponseEntity<Resource> response = ResponseEntity.notFound().build();
@@ -0,0 +1,230 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.document.am.feign.CaseDocumentClient;
+import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
+import uk.gov.hmcts.reform.sscs.document.EvidenceMetadataDownloadClientApi;
+import uk.gov.hmcts.reform.sscs.exception.DocumentNotFoundException;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentStreamingServiceTest {
+
+    private static final String DOC_ID = "6819915a-52fa-4ee2-abb1-7880985806e7";
+    private static final String DM_URL = "http://dm-store:4506";
+
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private AuthTokenGenerator authTokenGenerator;
+    @Mock
+    private IdamService idamService;
+    @Mock
+    private DocumentDownloadClientApi documentDownloadClientApi;
+    @Mock
+    private EvidenceManagementSecureDocStoreService evidenceManagementSecureDocStoreService;
+    @Mock
+    private EvidenceMetadataDownloadClientApi evidenceMetadataDownloadClientApi;
+    @Mock
+    private CaseDocumentClient caseDocumentClient;
+    @Captor
+    private ArgumentCaptor<ClassicHttpRequest> requestCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DocumentDownloadService documentDownloadService;
+
+    @BeforeEach
+    void setUp() {
+        documentDownloadService = new DocumentDownloadService(documentDownloadClientApi, authTokenGenerator, DM_URL,
+            false, evidenceManagementSecureDocStoreService, idamService, evidenceMetadataDownloadClientApi,
+            caseDocumentClient, Duration.ofMinutes(1), 10, 1, 10, meterRegistry);
+    }
+
+    @Test
+    void shouldStreamTheDocumentFromDmStore() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        byte[] pdf = "%PDF document".getBytes();
+        BasicClassicHttpResponse upstream = new BasicClassicHttpResponse(200);
+        upstream.setHeader(HttpHeaders.ETAG, "\"v1\"");
+        upstream.setEntity(new ByteArrayEntity(pdf, ContentType.create("application/pdf")));
+        when(httpClient.executeOpen(isNull(), requestCaptor.capture(), isNull())).thenReturn(upstream);
+
+        ResponseEntity<StreamingResponseBody> response = service(false).streamFile(DOC_ID, new HttpHeaders());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v1\"");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(pdf.length);
+        assertThat(write(response)).isEqualTo(pdf);
+
+        ClassicHttpRequest request = requestCaptor.getValue();
+        assertThat(request.getUri().toString()).isEqualTo(DM_URL + "/documents/" + DOC_ID + "/binary");
+        assertThat(request.getFirstHeader("ServiceAuthorization").getValue()).isEqualTo("s2s");
+        assertThat(request.getFirstHeader("user-roles").getValue()).isEqualTo("caseworker,citizen");
+        assertThat(meterRegistry.summary(DocumentStreamingService.BYTES_SUMMARY, "status", "200").totalAmount())
+            .isEqualTo(pdf.length);
+        assertThat(meterRegistry.timer(DocumentStreamingService.TIME_TO_FIRST_BYTE_TIMER, "status", "200").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldPassThroughRangeRequestsForMedia() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        BasicClassicHttpResponse upstream = new BasicClassicHttpResponse(206);
+        upstream.setHeader(HttpHeaders.CONTENT_RANGE, "bytes 0-3/1000");
+        upstream.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        upstream.setEntity(new ByteArrayEntity("0123".getBytes(), ContentType.create("video/mp4")));
+        when(httpClient.executeOpen(isNull(), requestCaptor.capture(), isNull())).thenReturn(upstream);
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.RANGE, "bytes=0-3");
+        requestHeaders.set(HttpHeaders.COOKIE, "not-forwarded");
+
+        ResponseEntity<StreamingResponseBody> response = service(false).streamFile(DOC_ID, requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-3/1000");
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("video/mp4");
+        assertThat(write(response)).isEqualTo("0123".getBytes());
+        assertThat(requestCaptor.getValue().getFirstHeader(HttpHeaders.RANGE).getValue()).isEqualTo("bytes=0-3");
+        assertThat(requestCaptor.getValue().getFirstHeader(HttpHeaders.COOKIE)).isNull();
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutABody() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        BasicClassicHttpResponse upstream = new BasicClassicHttpResponse(304);
+        upstream.setHeader(HttpHeaders.ETAG, "\"v1\"");
+        when(httpClient.executeOpen(isNull(), requestCaptor.capture(), isNull())).thenReturn(upstream);
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"v1\"");
+
+        ResponseEntity<StreamingResponseBody> response = service(false).streamFile(DOC_ID, requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(requestCaptor.getValue().getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue()).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    void shouldStreamFromCdamWhenSecureDocStoreIsEnabled() throws Exception {
+        when(idamService.getIdamTokens()).thenReturn(IdamTokens.builder()
+            .idamOauth2Token("Bearer user").serviceAuthorization("s2s").build());
+        BasicClassicHttpResponse upstream = new BasicClassicHttpResponse(200);
+        upstream.setEntity(new ByteArrayEntity("pdf".getBytes(), ContentType.create("application/pdf")));
+        when(httpClient.executeOpen(isNull(), requestCaptor.capture(), isNull())).thenReturn(upstream);
+
+        service(true).streamFile(DM_URL + "/documents/" + DOC_ID + "/binary", new HttpHeaders());
+
+        ClassicHttpRequest request = requestCaptor.getValue();
+        assertThat(request.getUri().toString()).isEqualTo("http://cdam:4455/cases/documents/" + DOC_ID + "/binary");
+        assertThat(request.getFirstHeader(HttpHeaders.AUTHORIZATION).getValue()).isEqualTo("Bearer user");
+    }
+
+    @Test
+    void shouldThrowDocumentNotFoundWhenTheDocumentIsMissing() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        ClassicHttpResponse upstream = spy(new BasicClassicHttpResponse(404));
+        when(httpClient.executeOpen(isNull(), any(), isNull())).thenReturn(upstream);
+
+        assertThatThrownBy(() -> service(false).streamFile(DOC_ID, new HttpHeaders()))
+            .isInstanceOf(DocumentNotFoundException.class);
+        verify(upstream).close();
+    }
+
+    @Test
+    void shouldCloseTheDocumentWhenTheClientGoesAway() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        ClassicHttpResponse upstream = spy(new BasicClassicHttpResponse(200));
+        upstream.setEntity(new ByteArrayEntity("0123".getBytes(), ContentType.create("video/mp4")));
+        when(httpClient.executeOpen(isNull(), any(), isNull())).thenReturn(upstream);
+        OutputStream aborted = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        ResponseEntity<StreamingResponseBody> response = service(false).streamFile(DOC_ID, new HttpHeaders());
+
+        assertThatThrownBy(() -> response.getBody().writeTo(aborted)).isInstanceOf(IOException.class);
+        verify(upstream).close();
+        assertThat(meterRegistry.summary(DocumentStreamingService.BYTES_SUMMARY, "status", "200").totalAmount())
+            .isZero();
+    }
+
+    @Test
+    void shouldCloseTheDocumentWhenTheRequestEndsBeforeTheBodyIsWritten() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        ClassicHttpResponse upstream = spy(new BasicClassicHttpResponse(200));
+        upstream.setEntity(new ByteArrayEntity("0123".getBytes(), ContentType.create("video/mp4")));
+        when(httpClient.executeOpen(isNull(), any(), isNull())).thenReturn(upstream);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            service(false).streamFile(DOC_ID, new HttpHeaders());
+            verify(upstream, never()).close();
+
+            new DocumentStreamCloser().afterCompletion(new ServletWebRequest(request), null);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        verify(upstream).close();
+    }
+
+    @Test
+    void shouldThrowDocumentNotFoundWhenTheDocumentCannotBeOpened() throws Exception {
+        when(authTokenGenerator.generate()).thenReturn("s2s");
+        when(httpClient.executeOpen(isNull(), any(), isNull())).thenThrow(new IOException("refused"));
+
+        assertThatThrownBy(() -> service(false).streamFile(DOC_ID, new HttpHeaders()))
+            .isInstanceOf(DocumentNotFoundException.class);
+        verify(httpClient).executeOpen(isNull(), any(), isNull());
+    }
+
+    private DocumentStreamingService service(boolean secureDocStoreEnabled) {
+        return new DocumentStreamingService(httpClient, documentDownloadService, authTokenGenerator, idamService,
+            DM_URL, "http://cdam:4455", secureDocStoreEnabled, 2, meterRegistry);
+    }
+
+    private static byte[] write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+}
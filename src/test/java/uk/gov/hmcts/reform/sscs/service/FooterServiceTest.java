@@ -3,17 +3,20 @@ package uk.gov.hmcts.reform.sscs.service;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.ccd.callback.DocumentType.DIRECTION_NOTICE;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.YesNo.YES;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.apache.commons.io.IOUtils;
@@ -78,7 +81,7 @@ public class FooterServiceTest {
 
     @Before
     public void setup() {
-        footerService = new FooterService(pdfStoreService, pdfWatermarker);
+        footerService = new FooterService(pdfStoreService, pdfWatermarker, 4, 1000, 4, new SimpleMeterRegistry());
 
         sscsDocument = SscsDocument.builder().value(SscsDocumentDetails.builder().documentFileName(fileName)
                 .documentLink(DocumentLink.builder().documentUrl(expectedDocumentUrl)
@@ -338,4 +341,71 @@ public class FooterServiceTest {
         PdfState result = footerService.isReadablePdf("url.pdf");
         assertEquals(PdfState.PASSWORD_ENCRYPTED, result);
     }
+
+    @Test
+    public void isReadablePdfRemembersTheVerdictForTheDocument() throws Exception {
+        byte[] pdfBytes = IOUtils.toByteArray(getClass().getClassLoader().getResourceAsStream("pdf/sample.pdf"));
+        when(pdfStoreService.download(any())).thenReturn(pdfBytes);
+
+        assertEquals(PdfState.OK, footerService.isReadablePdf("url.pdf"));
+        assertEquals(PdfState.OK, footerService.isReadablePdf("url.pdf"));
+
+        verify(pdfStoreService, times(1)).download("url.pdf");
+    }
+
+    @Test
+    public void isReadablePdfDoesNotRememberAFailedDownload() throws Exception {
+        byte[] pdfBytes = IOUtils.toByteArray(getClass().getClassLoader().getResourceAsStream("pdf/sample.pdf"));
+        when(pdfStoreService.download(any())).thenThrow(new RuntimeException("dm store down")).thenReturn(pdfBytes);
+
+        assertEquals(PdfState.UNREADABLE, footerService.isReadablePdf("url.pdf"));
+        assertEquals(PdfState.OK, footerService.isReadablePdf("url.pdf"));
+    }
+
+    @Test
+    public void isReadablePdfsChecksEachDocumentOnceAndKeepsTheOrder() throws Exception {
+        byte[] pdfBytes = IOUtils.toByteArray(getClass().getClassLoader().getResourceAsStream("pdf/sample.pdf"));
+        byte[] protectedBytes = IOUtils.toByteArray(getClass().getClassLoader().getResourceAsStream("pdf/test-protected.pdf"));
+        when(pdfStoreService.download("readable.pdf")).thenReturn(pdfBytes);
+        when(pdfStoreService.download("protected.pdf")).thenReturn(protectedBytes);
+        when(pdfStoreService.download("garbled.pdf")).thenReturn("not a pdf".getBytes());
+
+        Map<String, PdfState> result = footerService.isReadablePdfs(
+            List.of("protected.pdf", "readable.pdf", "garbled.pdf", "readable.pdf"));
+
+        assertEquals(List.of("protected.pdf", "readable.pdf", "garbled.pdf"), new ArrayList<>(result.keySet()));
+        assertEquals(PdfState.PASSWORD_ENCRYPTED, result.get("protected.pdf"));
+        assertEquals(PdfState.OK, result.get("readable.pdf"));
+        assertEquals(PdfState.UNREADABLE, result.get("garbled.pdf"));
+
+        footerService.isReadablePdfs(List.of("readable.pdf", "garbled.pdf"));
+        verify(pdfStoreService, times(1)).download("readable.pdf");
+        verify(pdfStoreService, times(1)).download("garbled.pdf");
+    }
+
+    @Test
+    public void addFootersStampsEachDocumentWithItsOwnAdditionAndKeepsTheOrder() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        footerService = new FooterService(pdfStoreService, pdfWatermarker, 4, 1000, 2, meterRegistry);
+        when(pdfStoreService.download(any())).thenAnswer(invocation -> invocation.<String>getArgument(0).getBytes());
+        when(pdfWatermarker.shrinkAndWatermarkPdf(any(), anyString(), anyString()))
+            .thenAnswer(invocation -> (new String(invocation.<byte[]>getArgument(0)) + " " + invocation.getArgument(2)).getBytes());
+        when(pdfStoreService.storeDocument(any(), anyString())).thenAnswer(invocation -> {
+            String location = "stored " + new String(invocation.<byte[]>getArgument(0));
+            return SscsDocument.builder().value(SscsDocumentDetails.builder()
+                .documentLink(DocumentLink.builder().documentUrl(location).build()).build()).build();
+        });
+
+        List<DocumentLink> result = footerService.addFooters(List.of(
+            new FooterRequest(DocumentLink.builder().documentUrl("one").documentFilename("one.pdf").build(), "Appellant evidence", "A"),
+            new FooterRequest(DocumentLink.builder().documentUrl("two").documentFilename("two.pdf").build(), "Appellant evidence", "B"),
+            new FooterRequest(DocumentLink.builder().documentUrl("three").documentFilename("three.pdf").build(), "DWP evidence", "C")));
+
+        assertEquals(List.of("stored one Addition A", "stored two Addition B", "stored three Addition C"),
+            result.stream().map(DocumentLink::getDocumentUrl).toList());
+        assertEquals("stored two Addition B/binary", result.get(1).getDocumentBinaryUrl());
+        assertEquals("two.pdf", result.get(1).getDocumentFilename());
+        assertEquals(3, meterRegistry.get(AbstractFooterService.FOOTER_TIMER).tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(AbstractFooterService.FOOTER_BATCH_TIMER).tag("outcome", "success").timer().count());
+    }
 }
@@ -3,18 +3,26 @@ package uk.gov.hmcts.reform.sscs.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.sscs.exception.GetHearingException;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.model.multi.hearing.CaseHearing;
+import uk.gov.hmcts.reform.sscs.model.multi.hearing.HearingsGetResponse;
 import uk.gov.hmcts.reform.sscs.model.single.hearing.CaseDetails;
 import uk.gov.hmcts.reform.sscs.model.single.hearing.HearingCancelRequestPayload;
 import uk.gov.hmcts.reform.sscs.model.single.hearing.HearingDetails;
@@ -42,6 +50,10 @@ class HmcHearingApiServiceTest {
     @Mock
     private IdamService idamService;
 
+    @Spy
+    private HmcHearingResponseCache responseCache =
+        new HmcHearingResponseCache(true, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
     @InjectMocks
     private HmcHearingApiService hmcHearingsService;
 
@@ -150,4 +162,54 @@ class HmcHearingApiServiceTest {
                 .isNotNull()
                 .isEqualTo(response);
     }
+
+    @DisplayName("A hearing read twice should only be fetched from HMC once")
+    @Test
+    void testGetHearingRequestIsCached() throws GetHearingException {
+        HearingGetResponse response = HearingGetResponse.builder().build();
+        given(hmcHearingApi.getHearingRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, HEARING_ID, null))
+                .willReturn(response);
+
+        hmcHearingsService.getHearingRequest(HEARING_ID);
+        HearingGetResponse result = hmcHearingsService.getHearingRequest(HEARING_ID);
+
+        assertThat(result).isSameAs(response);
+        verify(hmcHearingApi, times(1)).getHearingRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, HEARING_ID, null);
+    }
+
+    @DisplayName("Cancelling a hearing should drop the cached hearing and the case hearings containing it")
+    @Test
+    void testSendCancelHearingRequestInvalidatesCache() throws GetHearingException {
+        HearingsGetResponse hearings = HearingsGetResponse.builder()
+                .caseHearings(List.of(CaseHearing.builder().hearingId(HEARING_REQUEST_ID).build()))
+                .build();
+        HearingCancelRequestPayload payload = HearingCancelRequestPayload.builder().build();
+        given(hmcHearingApi.getHearingRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, HEARING_ID, null))
+                .willReturn(HearingGetResponse.builder().build());
+        given(hmcHearingApi.getHearingsRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, String.valueOf(CASE_ID), null))
+                .willReturn(hearings);
+
+        hmcHearingsService.getHearingRequest(HEARING_ID);
+        hmcHearingsService.getHearingsRequest(String.valueOf(CASE_ID), null);
+        hmcHearingsService.sendCancelHearingRequest(payload, HEARING_ID);
+        hmcHearingsService.getHearingRequest(HEARING_ID);
+        hmcHearingsService.getHearingsRequest(String.valueOf(CASE_ID), null);
+
+        verify(hmcHearingApi, times(2)).getHearingRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, HEARING_ID, null);
+        verify(hmcHearingApi, times(2)).getHearingsRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, String.valueOf(CASE_ID), null);
+    }
+
+    @DisplayName("With the cache switched off every read should go to HMC")
+    @Test
+    void testGetHearingsRequestWithCacheDisabled() {
+        HmcHearingApiService service = new HmcHearingApiService(hmcHearingApi, idamService,
+            new HmcHearingResponseCache(false, Duration.ofMinutes(1), 100, new SimpleMeterRegistry()));
+        given(hmcHearingApi.getHearingsRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, String.valueOf(CASE_ID), null))
+                .willReturn(HearingsGetResponse.builder().build());
+
+        service.getHearingsRequest(String.valueOf(CASE_ID), null);
+        service.getHearingsRequest(String.valueOf(CASE_ID), null);
+
+        verify(hmcHearingApi, times(2)).getHearingsRequest(IDAM_OAUTH2_TOKEN, SERVICE_AUTHORIZATION, null, null, null, String.valueOf(CASE_ID), null);
+    }
 }
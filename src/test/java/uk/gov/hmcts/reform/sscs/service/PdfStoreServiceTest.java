@@ -12,7 +12,10 @@ import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_PDF;
 
 import feign.FeignException;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Test;
@@ -24,6 +27,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocument;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocumentDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocumentTranslationStatus;
 import uk.gov.hmcts.reform.sscs.domain.pdf.ByteArrayMultipartFile;
+import uk.gov.hmcts.reform.sscs.domain.pdf.FileMultipartFile;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 
@@ -64,6 +68,27 @@ public class PdfStoreServiceTest {
         assertThat(value.getDocumentLink().getDocumentUrl(), is(expectedHref));
     }
 
+    @Test
+    public void uploadsPdfFromDiskAndExtractsLink() throws IOException {
+        Path pdf = Files.write(Files.createTempFile("pdf-store-test", ".pdf"), content);
+        try {
+            List<MultipartFile> fileOnDisk = singletonList(
+                FileMultipartFile.builder().path(pdf).name(filename).contentType(APPLICATION_PDF).build());
+            UploadResponse uploadResponse = createUploadResponse();
+            when(evidenceManagementService.upload(fileOnDisk, SSCS_USER)).thenReturn(uploadResponse);
+
+            List<SscsDocument> documents = pdfStoreService.storeFile(pdf, filename, "appellantEvidence");
+
+            assertThat(documents.size(), is(1));
+            SscsDocumentDetails value = documents.get(0).getValue();
+            assertThat(value.getDocumentFileName(), is(filename));
+            assertThat(value.getDocumentType(), is("appellantEvidence"));
+            assertThat(value.getDocumentLink().getDocumentUrl(), is(expectedHref));
+        } finally {
+            Files.delete(pdf);
+        }
+    }
+
     @Test
     public void cannotConnectToDocumentStore() {
         when(evidenceManagementService.upload(files, SSCS_USER)).thenThrow(new RestClientException("Cannot connect"));
@@ -7,13 +7,13 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.DwpState.UNREGISTERED;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import feign.FeignException.UnprocessableEntity;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Consumer;
 import org.junit.Assert;
@@ -277,9 +277,9 @@ public class RestoreCasesService2Test {
     }
 
     @Test
-    public void testGetRestoreCaseFileNameWhenValidJsonWithRestoreCasesDate() throws JsonProcessingException {
+    public void testGetRestoreCaseFileNameWhenValidJsonWithRestoreCasesDate() throws IOException {
         String json = "{\"case_details\" : {\"case_data\" : {\"restoreCaseFileName\" : \"restore-case-.csv\"}}}";
-        String fileName = restoreCasesService2.getRestoreCaseFileName(json);
+        String fileName = restoreCasesService2.getRestoreCaseFileName(json.getBytes(StandardCharsets.UTF_8));
         Assert.assertEquals("restore-case-.csv", fileName);
     }
 
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.YesNo.YES;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -72,7 +73,7 @@ public class WelshFooterServiceTest {
 
     @Before
     public void setup() {
-        footerService = new WelshFooterService(pdfStoreService, pdfWatermarker);
+        footerService = new WelshFooterService(pdfStoreService, pdfWatermarker, 4, 1000, 4, new SimpleMeterRegistry());
 
         sscsDocument = SscsDocument.builder().value(SscsDocumentDetails.builder().documentFileName(fileName)
                 .documentLink(DocumentLink.builder().documentUrl(expectedDocumentUrl).documentBinaryUrl(expectedBinaryUrl).build()).build()).build();
@@ -2,12 +2,16 @@ package uk.gov.hmcts.reform.sscs.service.bundle;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.sscs.service.bundle.BundleAudioVideoPdfService.DATEFORMATTER;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +27,7 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.AudioVideoEvidenceBundleDocument;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DocumentLink;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DwpDocument;
@@ -60,7 +65,8 @@ public class BundleAudioVideoPdfServiceTest {
     @Before
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new BundleAudioVideoPdfService(docmosisPdfService, pdfStoreService, "gateway-link", "dm-store-url");
+        service = new BundleAudioVideoPdfService(docmosisPdfService, pdfStoreService, "gateway-link", "dm-store-url",
+            1000, new SimpleMeterRegistry());
         SscsCaseData sscsCaseData = SscsCaseData.builder().appeal(Appeal.builder().build()).build();
         when(caseDetails.getCaseData()).thenReturn(sscsCaseData);
 
@@ -230,6 +236,54 @@ public class BundleAudioVideoPdfServiceTest {
 
     }
 
+    @Test
+    public void givenAudioVideoEvidenceUnchangedSinceTheLastBundle_thenKeepTheExistingAudioVideoPdf() {
+        caseDetails.getCaseData().setSscsDocument(new ArrayList<>(List.of(createAudioDocument("Myfilename.mp3", "123"))));
+        service.createAudioVideoPdf(caseDetails.getCaseData());
+        AudioVideoEvidenceBundleDocument firstBundleDocument = caseDetails.getCaseData().getAudioVideoEvidenceBundleDocument();
+
+        service.createAudioVideoPdf(caseDetails.getCaseData());
+
+        assertSame(firstBundleDocument, caseDetails.getCaseData().getAudioVideoEvidenceBundleDocument());
+        verify(docmosisPdfService, times(1)).createPdf(any(), any());
+        verify(pdfStoreService, times(1)).storeDocument(any(), anyString(), any());
+    }
+
+    @Test
+    public void givenAudioVideoEvidenceAddedSinceTheLastBundle_thenCreateANewAudioVideoPdf() {
+        caseDetails.getCaseData().setSscsDocument(new ArrayList<>(List.of(createAudioDocument("Myfilename.mp3", "123"))));
+        service.createAudioVideoPdf(caseDetails.getCaseData());
+
+        caseDetails.getCaseData().getSscsDocument().add(createAudioDocument("Another.mp3", "456"));
+        service.createAudioVideoPdf(caseDetails.getCaseData());
+
+        assertEquals(2, capture.getValue().getContent().size());
+        verify(docmosisPdfService, times(2)).createPdf(any(), any());
+        verify(pdfStoreService, times(2)).storeDocument(any(), anyString(), any());
+    }
+
+    @Test
+    public void givenAnAudioVideoPdfNotCreatedByThisService_thenCreateANewAudioVideoPdf() {
+        caseDetails.getCaseData().setSscsDocument(new ArrayList<>(List.of(createAudioDocument("Myfilename.mp3", "123"))));
+        caseDetails.getCaseData().setAudioVideoEvidenceBundleDocument(AudioVideoEvidenceBundleDocument.builder()
+            .documentLink(DocumentLink.builder().documentUrl("older location").build()).build());
+
+        service.createAudioVideoPdf(caseDetails.getCaseData());
+
+        assertEquals("some location", caseDetails.getCaseData().getAudioVideoEvidenceBundleDocument().getDocumentLink().getDocumentUrl());
+        verify(docmosisPdfService, times(1)).createPdf(any(), any());
+    }
+
+    private SscsDocument createAudioDocument(String filename, String documentId) {
+        return SscsDocument.builder().value(SscsDocumentDetails.builder()
+                .documentType("audioDocument")
+                .documentDateAdded(now.toString())
+                .dateApproved(now.toString())
+                .partyUploaded(UploadParty.APPELLANT)
+                .avDocumentLink(DocumentLink.builder().documentFilename(filename).documentUrl("dm-store-url/" + documentId).documentBinaryUrl("dm-store-url/" + documentId + "/binary").build()).build())
+                .build();
+    }
+
     private SscsDocument createSscsDocument() {
         DocumentLink documentLink = DocumentLink.builder().documentUrl("some location").build();
         return SscsDocument.builder().value(SscsDocumentDetails.builder().documentLink(documentLink).build()).build();
@@ -3,16 +3,21 @@ package uk.gov.hmcts.reform.sscs.service.conversion;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.apache.tika.Tika;
@@ -20,6 +25,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.springframework.web.multipart.MultipartFile;
+import uk.gov.hmcts.reform.sscs.exception.FileToPdfConversionException;
 
 public class FileToPdfConversionServiceTest {
 
@@ -35,7 +41,7 @@ public class FileToPdfConversionServiceTest {
         openMocks(this);
 
         conversionService = new FileToPdfConversionService(
-                Lists.newArrayList(pdfConverter)
+                Lists.newArrayList(pdfConverter), 2, 10, new SimpleMeterRegistry()
         );
     }
 
@@ -92,4 +98,53 @@ public class FileToPdfConversionServiceTest {
         tempFile.deleteOnExit();
         convert.getFirst().transferTo(tempFile);
     }
+
+    @Test
+    public void deletesTheTempFilesOnceConvertedAndRecordsTheConversion() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        conversionService = new FileToPdfConversionService(Lists.newArrayList(pdfConverter), 2, 10, meterRegistry);
+        File inputFile = new File(ClassLoader.getSystemResource("flying-pig.jpg").getPath());
+        File output = imageConverter.convert(inputFile);
+        List<File> converterInputs = new ArrayList<>();
+        when(pdfConverter.accepts()).thenReturn(Lists.newArrayList(tika.detect(inputFile)));
+        doAnswer(invocation -> {
+            converterInputs.add(invocation.getArgument(0));
+            return output;
+        }).when(pdfConverter).convert(any());
+        MultipartFile mpf = mock(MultipartFile.class);
+        when(mpf.getInputStream()).thenReturn(new FileInputStream(inputFile));
+        when(mpf.getOriginalFilename()).thenReturn("flying-pig.jpg");
+
+        final List<MultipartFile> convert = conversionService.convert(Lists.newArrayList(mpf));
+
+        assertEquals(33486, convert.getFirst().getBytes().length);
+        assertEquals(1, converterInputs.size());
+        assertFalse(Files.exists(converterInputs.getFirst().toPath()));
+        assertFalse(Files.exists(output.toPath()));
+        assertEquals(1, meterRegistry.get(FileToPdfConversionService.CONVERSION_TIMER)
+                .tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    public void failedConversionIsRecordedAndThrown() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        conversionService = new FileToPdfConversionService(Lists.newArrayList(pdfConverter), 2, 10, meterRegistry);
+        File inputFile = new File(ClassLoader.getSystemResource("flying-pig.jpg").getPath());
+        List<File> converterInputs = new ArrayList<>();
+        when(pdfConverter.accepts()).thenReturn(Lists.newArrayList(tika.detect(inputFile)));
+        doAnswer(invocation -> {
+            converterInputs.add(invocation.getArgument(0));
+            throw new IOException("Docmosis error (500) converting: flying-pig.jpg");
+        }).when(pdfConverter).convert(any());
+        MultipartFile mpf = mock(MultipartFile.class);
+        when(mpf.getInputStream()).thenReturn(new FileInputStream(inputFile));
+        when(mpf.getOriginalFilename()).thenReturn("flying-pig.jpg");
+        List<MultipartFile> input = Lists.newArrayList(mpf);
+
+        assertThrows(FileToPdfConversionException.class, () -> conversionService.convert(input));
+
+        assertFalse(Files.exists(converterInputs.getFirst().toPath()));
+        assertEquals(1, meterRegistry.get(FileToPdfConversionService.CONVERSION_TIMER)
+                .tag("outcome", "failure").timer().count());
+    }
 }
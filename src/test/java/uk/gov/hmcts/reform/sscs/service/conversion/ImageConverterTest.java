@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.apache.pdfbox.Loader;
@@ -38,6 +39,8 @@ public class ImageConverterTest {
             assertEquals(1, document.getPages().getCount());
             assertEquals(PDRectangle.A4.getWidth(), document.getPage(0).getMediaBox().getWidth(), 0);
             assertEquals(PDRectangle.A4.getHeight(), document.getPage(0).getMediaBox().getHeight(), 0);
+        } finally {
+            Files.deleteIfExists(output.toPath());
         }
     }
 
@@ -51,6 +54,8 @@ public class ImageConverterTest {
             assertEquals(1, document.getPages().getCount());
             assertEquals(PDRectangle.A4.getHeight(), document.getPage(0).getMediaBox().getWidth(), 0);
             assertEquals(PDRectangle.A4.getWidth(), document.getPage(0).getMediaBox().getHeight(), 0);
+        } finally {
+            Files.deleteIfExists(output.toPath());
         }
     }
 }
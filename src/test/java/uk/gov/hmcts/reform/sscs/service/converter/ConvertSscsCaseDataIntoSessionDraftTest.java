@@ -5,13 +5,14 @@ import static junit.framework.TestCase.assertNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.ClassRule;
@@ -95,7 +96,7 @@ public class ConvertSscsCaseDataIntoSessionDraftTest {
             .sscsDocument(sscsDocumentList)
             .build();
 
-        given(documentDownloadService.getFileSize(anyString())).willReturn(1L);
+        given(documentDownloadService.getFileSizes(anyList())).willReturn(Map.of("https://documentLink", 1L));
 
         actual = convertSscsCaseDataIntoSessionDraft.convert(caseData);
 
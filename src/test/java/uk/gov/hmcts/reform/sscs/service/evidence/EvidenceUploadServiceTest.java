@@ -7,7 +7,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -39,6 +39,8 @@ import java.util.function.Consumer;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import junitparams.converters.Nullable;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
 import org.junit.Rule;
@@ -88,7 +90,6 @@ import uk.gov.hmcts.reform.sscs.service.EvidenceManagementService;
 import uk.gov.hmcts.reform.sscs.service.OnlineHearingService;
 import uk.gov.hmcts.reform.sscs.service.PdfStoreService;
 import uk.gov.hmcts.reform.sscs.service.conversion.FileToPdfConversionService;
-import uk.gov.hmcts.reform.sscs.service.exceptions.EvidenceUploadException;
 import uk.gov.hmcts.reform.sscs.service.pdf.MyaEventActionContext;
 import uk.gov.hmcts.reform.sscs.service.pdf.StoreEvidenceDescriptionService;
 import uk.gov.hmcts.reform.sscs.service.pdf.data.EvidenceDescriptionPdfData;
@@ -181,7 +182,9 @@ public class EvidenceUploadServiceTest {
                 evidenceManagementService,
                 pdfStoreService,
                 updateCcdCaseService,
-                addedDocumentsUtil);
+                addedDocumentsUtil,
+                4,
+                33554432L);
     }
 
     @Test
@@ -285,7 +288,7 @@ public class EvidenceUploadServiceTest {
 
         String otherEvidenceDocType = "Other evidence";
         SscsDocument combinedEvidenceDoc = getCombinedEvidenceDoc(expectedEvidenceUploadFilename, otherEvidenceDocType);
-        when(pdfStoreService.store(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
+        when(pdfStoreService.storeFile(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
                 .thenReturn(Collections.singletonList(combinedEvidenceDoc));
 
         boolean submittedEvidence = evidenceUploadService.submitHearingEvidence(someOnlineHearingId, someDescription);
@@ -310,6 +313,53 @@ public class EvidenceUploadServiceTest {
         );
     }
 
+    @Test
+    public void givenSeveralDraftDocuments_thenAppendsThemAllToTheStatementInOrderAndDeletesTheWorkFiles() throws IOException {
+        SscsCaseDetails sscsCaseDetails = (SscsCaseDetails) ((Object[]) evidenceUploadByAppellantScenario()[0])[0];
+        List<SscsDocument> drafts = new ArrayList<>(sscsCaseDetails.getData().getDraftSscsDocument());
+        drafts.add(buildSscsDocumentGivenFilename("second upload"));
+        drafts.add(buildSscsDocumentGivenFilename("third upload"));
+        sscsCaseDetails.getData().setDraftSscsDocument(drafts);
+        when(onlineHearingService.getCcdCaseByIdentifier(someOnlineHearingId)).thenReturn(Optional.of(sscsCaseDetails));
+
+        UploadedEvidence evidenceDescriptionPdf = mock(UploadedEvidence.class);
+        when(storeEvidenceDescriptionService.storePdf(eq(someCcdCaseId), eq(someOnlineHearingId), any()))
+                .thenReturn(new MyaEventActionContext(evidenceDescriptionPdf, sscsCaseDetails));
+
+        byte[] dummyFileContentInBytes = getDummyFileContentInBytes();
+        int dummyPages;
+        try (PDDocument dummy = Loader.loadPDF(dummyFileContentInBytes)) {
+            dummyPages = dummy.getNumberOfPages();
+        }
+        when(evidenceManagementService.download(any(), eq("sscs"))).thenReturn(dummyFileContentInBytes);
+        when(evidenceDescriptionPdf.getContent()).thenReturn(new ByteArrayResource(dummyFileContentInBytes));
+
+        List<Path> storedFiles = new ArrayList<>();
+        List<Integer> storedPages = new ArrayList<>();
+        SscsDocument combinedEvidenceDoc = getCombinedEvidenceDoc("Appellant upload 1 - 123.pdf", "Other evidence");
+        when(pdfStoreService.storeFile(any(), eq("Appellant upload 1 - 123.pdf"), eq("Other evidence")))
+                .thenAnswer(invocation -> {
+                    Path combined = invocation.getArgument(0);
+                    storedFiles.add(combined);
+                    try (PDDocument document = Loader.loadPDF(combined.toFile())) {
+                        storedPages.add(document.getNumberOfPages());
+                    }
+                    return singletonList(combinedEvidenceDoc);
+                });
+
+        boolean submittedEvidence = evidenceUploadService.submitHearingEvidence(someOnlineHearingId, someDescription);
+
+        assertThat(submittedEvidence, is(true));
+        verify(updateCcdCaseService).updateCaseV2(eq(someCcdCaseId), eq(UPLOAD_DOCUMENT.getCcdType()), any(), any(),
+                eq(idamTokens), captor.capture());
+        captor.getValue().accept(sscsCaseDetails);
+
+        verify(evidenceManagementService, times(3)).download(any(), eq("sscs"));
+        assertThat(storedPages, is(List.of(dummyPages * 4)));
+        assertFalse(Files.exists(storedFiles.getFirst()));
+        assertFalse(Files.exists(storedFiles.getFirst().getParent()));
+    }
+
     @Test
     @Parameters(method =
             "evidenceUploadByAppellantScenario, evidenceUploadByRepScenario, "
@@ -339,7 +389,7 @@ public class EvidenceUploadServiceTest {
 
         String otherEvidenceDocType = "Other evidence";
         SscsDocument combinedEvidenceDoc = getCombinedEvidenceDoc(expectedEvidenceUploadFilename, otherEvidenceDocType);
-        when(pdfStoreService.store(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
+        when(pdfStoreService.storeFile(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
                 .thenReturn(Collections.singletonList(combinedEvidenceDoc));
 
         boolean submittedEvidence = evidenceUploadService.submitSingleHearingEvidence(someOnlineHearingId, someDescription, file);
@@ -405,7 +455,7 @@ public class EvidenceUploadServiceTest {
         String expectedEvidenceUploadFilename =  "Appellant upload 1 - 123.pdf";
 
         SscsDocument combinedEvidenceDoc = getCombinedEvidenceDoc(expectedEvidenceUploadFilename, otherEvidenceDocType);
-        when(pdfStoreService.store(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
+        when(pdfStoreService.storeFile(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
                 .thenReturn(Collections.singletonList(combinedEvidenceDoc));
 
         boolean submittedEvidence = evidenceUploadService.submitSingleHearingEvidence(someOnlineHearingId, someDescription, file);
@@ -451,7 +501,9 @@ public class EvidenceUploadServiceTest {
                 evidenceManagementService,
                 pdfStoreService,
                 updateCcdCaseService,
-                new AddedDocumentsUtil(false)
+                new AddedDocumentsUtil(false),
+                4,
+                33554432L
         );
 
         StartEventResponse startEventResponse = StartEventResponse.builder().build();
@@ -492,7 +544,9 @@ public class EvidenceUploadServiceTest {
                 evidenceManagementService,
                 pdfStoreService,
                 updateCcdCaseService,
-                new AddedDocumentsUtil(false)
+                new AddedDocumentsUtil(false),
+                4,
+                33554432L
         );
 
         StartEventResponse startEventResponse = StartEventResponse.builder().build();
@@ -521,20 +575,6 @@ public class EvidenceUploadServiceTest {
         assertThat(hearingFound, is(false));
     }
 
-    @Test
-    public void throwsOnNonLoadablePdf() {
-
-        byte[] badBytes = "notaPdf".getBytes();
-        String docType = "statement";
-        String caseId = "1234";
-
-        Exception exception = assertThrows(EvidenceUploadException.class, () ->
-                EvidenceUploadService.getLoadSafe(badBytes, docType, caseId));
-
-        assertTrue(exception.getMessage().contains("Error when getting PDDocument " + docType
-                + " for caseId " + caseId + " with bytes length " + badBytes.length));
-    }
-
     @Test
     public void testRemoveAudioFromList() {
         List<SscsDocument> draftDocuments = new ArrayList<>();
@@ -654,7 +694,7 @@ public class EvidenceUploadServiceTest {
         String expectedEvidenceUploadFilename = "Appellant upload 1 - 123.pdf";
 
         SscsDocument combinedEvidenceDoc = getCombinedEvidenceDoc(expectedEvidenceUploadFilename, otherEvidenceDocType);
-        when(pdfStoreService.store(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
+        when(pdfStoreService.storeFile(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
                 .thenReturn(Collections.singletonList(combinedEvidenceDoc));
 
         evidenceUploadService.submitSingleHearingEvidence(someOnlineHearingId, someDescription, file);
@@ -715,7 +755,7 @@ public class EvidenceUploadServiceTest {
         String expectedEvidenceUploadFilename = "Appellant upload 1 - 123.pdf";
 
         SscsDocument combinedEvidenceDoc = getCombinedEvidenceDoc(expectedEvidenceUploadFilename, otherEvidenceDocType);
-        when(pdfStoreService.store(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
+        when(pdfStoreService.storeFile(any(), eq(expectedEvidenceUploadFilename), eq(otherEvidenceDocType)))
                 .thenReturn(Collections.singletonList(combinedEvidenceDoc));
 
         evidenceUploadService.submitSingleHearingEvidence(someOnlineHearingId, someDescription, file);
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.sscs.service.servicebus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+
+class SendCallbackExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SendCallbackExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldHandleCallbacksForTheSameCaseInOrder() {
+        executor = new SendCallbackExecutor(4, 100, meterRegistry);
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            int order = i;
+            executor.execute(1234L, EventType.EVIDENCE_RECEIVED, () -> handled.add(order));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> handled.size() == 50);
+        assertThat(handled).isSorted();
+        assertThat(meterRegistry.get(SendCallbackExecutor.HANDLING_TIMER)
+            .tag("event", EventType.EVIDENCE_RECEIVED.toString()).timer().count()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRejectStraightAwayWhenTheLaneIsFull() throws InterruptedException {
+        executor = new SendCallbackExecutor(1, 1, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(1L, EventType.APPEAL_RECEIVED, () -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await(5, TimeUnit.SECONDS);
+        executor.execute(2L, EventType.APPEAL_RECEIVED, () -> { });
+
+        assertThat(meterRegistry.get(SendCallbackExecutor.QUEUE_DEPTH_GAUGE).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(SendCallbackExecutor.ACTIVE_WORKERS_GAUGE).gauge().value()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.execute(3L, EventType.APPEAL_RECEIVED, () -> { }))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get(SendCallbackExecutor.REJECTED_COUNTER).counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectOnceShutDown() {
+        executor = new SendCallbackExecutor(1, 1, meterRegistry);
+        executor.shutdown();
+
+        assertThatThrownBy(() -> executor.execute(1L, EventType.APPEAL_RECEIVED, () -> { }))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
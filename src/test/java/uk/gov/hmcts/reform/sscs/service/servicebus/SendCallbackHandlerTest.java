@@ -1,9 +1,13 @@
 package uk.gov.hmcts.reform.sscs.service.servicebus;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -40,13 +44,20 @@ public class SendCallbackHandlerTest {
     @Mock
     private NotificationsMessageProcessor notificationsMessageProcessor;
 
+    @Mock
+    private SendCallbackExecutor executor;
+
     private SendCallbackHandler sendCallbackHandler;
     private Exception exception;
     private Callback<SscsCaseData> callback;
 
     @Before
     public void setup() {
-        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor);
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(executor).execute(anyLong(), any(), any());
+        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor, executor);
         CaseDetails<SscsCaseData> caseDetails = new CaseDetails<>(
             123L,
             "jurisdiction",
@@ -137,8 +148,14 @@ public class SendCallbackHandlerTest {
 
     @Test
     public void shouldProcessMessageForNotifications() {
-        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor);
+        sendCallbackHandler = new SendCallbackHandler(RETRY_THREE_TIMES, dispatcher, notificationsMessageProcessor, executor);
         sendCallbackHandler.handle(callback);
         verify(notificationsMessageProcessor).processMessage(callback);
     }
+
+    @Test
+    public void shouldHandleCallbackOnTheLaneForItsCaseId() {
+        sendCallbackHandler.handle(callback);
+        verify(executor).execute(eq(123L), eq(EventType.EVIDENCE_RECEIVED), any());
+    }
 }
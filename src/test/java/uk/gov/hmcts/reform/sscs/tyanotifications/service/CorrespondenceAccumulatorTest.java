@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceDetails;
+import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
+
+class CorrespondenceAccumulatorTest {
+
+    private static final Long CASE_ID = 1234L;
+    private static final Long OTHER_CASE_ID = 5678L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CcdNotificationsPdfService ccdNotificationsPdfService = mock(CcdNotificationsPdfService.class);
+    private CorrespondenceAccumulator accumulator;
+
+    @AfterEach
+    void tearDown() {
+        if (accumulator != null) {
+            accumulator.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSaveStraightAwayWhenThereIsNoFlushDelay() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 0, 20, 3, 100, meterRegistry);
+        List<Correspondence> email = List.of(correspondence("appellant"));
+
+        accumulator.add(CASE_ID, email, "Gov Notify");
+
+        verify(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(CASE_ID, email, "Notification sent via Gov Notify");
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldSaveAllCorrespondenceForACaseInOneUpdate() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 200, 20, 3, 100, meterRegistry);
+        Correspondence appellant = correspondence("appellant");
+        Correspondence representative = correspondence("representative");
+        Correspondence other = correspondence("other case");
+
+        accumulator.add(CASE_ID, List.of(appellant), "Gov Notify");
+        accumulator.add(CASE_ID, List.of(representative), "Bulk Print");
+        accumulator.add(OTHER_CASE_ID, List.of(other), "Gov Notify");
+        assertThat(accumulator.getPendingCount()).isEqualTo(3);
+
+        verify(ccdNotificationsPdfService, timeout(2000)).mergeStoredCorrespondenceIntoCcdV2(CASE_ID,
+            List.of(appellant, representative), "Notification sent via Gov Notify and Bulk Print");
+        verify(ccdNotificationsPdfService, timeout(2000)).mergeStoredCorrespondenceIntoCcdV2(OTHER_CASE_ID,
+            List.of(other), "Notification sent via Gov Notify");
+        await().atMost(Duration.ofSeconds(2)).until(() -> accumulator.getPendingCount() == 0);
+        assertThat(meterRegistry.summary(CorrespondenceAccumulator.BATCH_SIZE_SUMMARY).count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSaveStraightAwayWhenTheBatchIsFull() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 60000, 2, 3, 100, meterRegistry);
+        Correspondence first = correspondence("appellant");
+        Correspondence second = correspondence("representative");
+
+        accumulator.add(CASE_ID, List.of(first), "Gov Notify");
+        verify(ccdNotificationsPdfService, never()).mergeStoredCorrespondenceIntoCcdV2(any(), anyList(), anyString());
+
+        accumulator.add(CASE_ID, List.of(second), "Gov Notify");
+
+        verify(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(CASE_ID, List.of(first, second), "Notification sent via Gov Notify");
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldSavePendingCorrespondenceOnShutdown() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 60000, 20, 3, 100, meterRegistry);
+        List<Correspondence> email = List.of(correspondence("appellant"));
+        accumulator.add(CASE_ID, email, "Gov Notify");
+
+        accumulator.shutdown();
+
+        verify(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(CASE_ID, email, "Notification sent via Gov Notify");
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldThrowWhenSavingStraightAwayFails() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 0, 20, 3, 100, meterRegistry);
+        doThrow(new IllegalStateException("boom")).when(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(eq(CASE_ID), anyList(), anyString());
+
+        assertThatThrownBy(() -> accumulator.add(CASE_ID, List.of(correspondence("appellant")), "Gov Notify"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldCarryOnWhenSavingABatchFails() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 60000, 1, 3, 100, meterRegistry);
+        doThrow(new IllegalStateException("boom")).when(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(eq(CASE_ID), anyList(), anyString());
+
+        accumulator.add(CASE_ID, List.of(correspondence("appellant")), "Gov Notify");
+        accumulator.add(OTHER_CASE_ID, List.of(correspondence("appellant")), "Gov Notify");
+
+        verify(ccdNotificationsPdfService, times(1))
+            .mergeStoredCorrespondenceIntoCcdV2(eq(OTHER_CASE_ID), anyList(), anyString());
+    }
+
+    @Test
+    void shouldTryAFailedBatchAgain() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 60000, 1, 3, 100, meterRegistry);
+        List<Correspondence> email = List.of(correspondence("appellant"));
+        doThrow(new IllegalStateException("boom")).doNothing().when(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(eq(CASE_ID), anyList(), anyString());
+
+        accumulator.add(CASE_ID, email, "Gov Notify");
+        assertThat(accumulator.getPendingCount()).isEqualTo(1);
+
+        verify(ccdNotificationsPdfService, timeout(2000).times(2))
+            .mergeStoredCorrespondenceIntoCcdV2(CASE_ID, email, "Notification sent via Gov Notify");
+        await().atMost(Duration.ofSeconds(2)).until(() -> accumulator.getPendingCount() == 0);
+        assertThat(meterRegistry.counter(CorrespondenceAccumulator.FAILED_COUNTER).count()).isZero();
+    }
+
+    @Test
+    void shouldGiveUpOnABatchOnceEveryAttemptHasFailed() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 60000, 1, 3, 100, meterRegistry);
+        doThrow(new IllegalStateException("boom")).when(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(eq(CASE_ID), anyList(), anyString());
+
+        accumulator.add(CASE_ID, List.of(correspondence("appellant")), "Gov Notify");
+
+        await().atMost(Duration.ofSeconds(2))
+            .until(() -> meterRegistry.counter(CorrespondenceAccumulator.FAILED_COUNTER).count() == 1);
+        verify(ccdNotificationsPdfService, times(3))
+            .mergeStoredCorrespondenceIntoCcdV2(eq(CASE_ID), anyList(), anyString());
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldTryRetryingBatchesOnceMoreOnShutdown() {
+        accumulator = new CorrespondenceAccumulator(ccdNotificationsPdfService, 60000, 1, 3, 60000, meterRegistry);
+        List<Correspondence> email = List.of(correspondence("appellant"));
+        doThrow(new IllegalStateException("boom")).doNothing().when(ccdNotificationsPdfService)
+            .mergeStoredCorrespondenceIntoCcdV2(eq(CASE_ID), anyList(), anyString());
+        accumulator.add(CASE_ID, email, "Gov Notify");
+
+        accumulator.shutdown();
+
+        verify(ccdNotificationsPdfService, times(2))
+            .mergeStoredCorrespondenceIntoCcdV2(CASE_ID, email, "Notification sent via Gov Notify");
+        assertThat(accumulator.getPendingCount()).isZero();
+    }
+
+    private static Correspondence correspondence(String to) {
+        return Correspondence.builder().value(CorrespondenceDetails.builder().to(to).build()).build();
+    }
+}
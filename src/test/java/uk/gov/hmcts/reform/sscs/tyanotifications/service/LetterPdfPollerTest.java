@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+class LetterPdfPollerTest {
+
+    private static final String NOTIFICATION_ID = "123";
+    private static final String CCD_ID = "82828";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationClient client = mock(NotificationClient.class);
+    private final List<byte[]> saved = new CopyOnWriteArrayList<>();
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, "letter-save"));
+    private LetterPdfPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        LetterAsyncConfigProperties properties = new LetterAsyncConfigProperties();
+        properties.setInitialDelay(10);
+        properties.setDelay(10);
+        properties.setMultiplier(2);
+        properties.setMaxDelay(40);
+        properties.setMaxAttempts(3);
+        properties.setPollerThreads(1);
+        poller = new LetterPdfPoller(properties, saveExecutor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.shutdown();
+        saveExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldSaveThePdfOnceNotifyHasRenderedIt() throws Exception {
+        byte[] pdf = "%PDF".getBytes();
+        when(client.getPdfForLetter(NOTIFICATION_ID))
+            .thenThrow(new NotificationClientException("400 PDFNotReadyError"))
+            .thenReturn(pdf);
+
+        poller.submit(client, NOTIFICATION_ID, CCD_ID, saved::add);
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> saved.size() == 1);
+        assertThat(saved.get(0)).isEqualTo(pdf);
+        assertThat(poller.getPendingCount()).isZero();
+        verify(client, times(2)).getPdfForLetter(NOTIFICATION_ID);
+        assertThat(meterRegistry.timer(LetterPdfPoller.WAIT_TIMER, "outcome", "saved").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveUpAfterTheMaximumNumberOfAttempts() throws Exception {
+        when(client.getPdfForLetter(NOTIFICATION_ID)).thenThrow(new NotificationClientException("400 PDFNotReadyError"));
+
+        poller.submit(client, NOTIFICATION_ID, CCD_ID, saved::add);
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> poller.getPendingCount() == 0);
+        verify(client, times(3)).getPdfForLetter(NOTIFICATION_ID);
+        assertThat(saved).isEmpty();
+        assertThat(meterRegistry.timer(LetterPdfPoller.WAIT_TIMER, "outcome", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTryAgainWhenSavingFails() throws Exception {
+        byte[] pdf = "%PDF".getBytes();
+        when(client.getPdfForLetter(NOTIFICATION_ID)).thenReturn(pdf);
+        List<byte[]> attempts = new CopyOnWriteArrayList<>();
+
+        poller.submit(client, NOTIFICATION_ID, CCD_ID, bytes -> {
+            attempts.add(bytes);
+            if (attempts.size() == 1) {
+                throw new IllegalStateException("doc store unavailable");
+            }
+            saved.add(bytes);
+        });
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> saved.size() == 1);
+        assertThat(attempts).hasSize(2);
+        verify(client, times(1)).getPdfForLetter(NOTIFICATION_ID);
+    }
+
+    @Test
+    void shouldSaveOnTheSaveExecutor() throws Exception {
+        when(client.getPdfForLetter(NOTIFICATION_ID)).thenReturn("%PDF".getBytes());
+        List<String> savedOn = new CopyOnWriteArrayList<>();
+
+        poller.submit(client, NOTIFICATION_ID, CCD_ID, bytes -> savedOn.add(Thread.currentThread().getName()));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> savedOn.size() == 1);
+        assertThat(savedOn).containsExactly("letter-save");
+    }
+
+    @Test
+    void shouldTryWaitingLettersOnceMoreOnShutdown() throws Exception {
+        LetterAsyncConfigProperties slow = new LetterAsyncConfigProperties();
+        slow.setInitialDelay(60000);
+        slow.setMaxAttempts(3);
+        slow.setPollerThreads(1);
+        poller.shutdown();
+        poller = new LetterPdfPoller(slow, saveExecutor, new SimpleMeterRegistry());
+        byte[] pdf = "%PDF".getBytes();
+        when(client.getPdfForLetter(NOTIFICATION_ID)).thenReturn(pdf);
+
+        poller.submit(client, NOTIFICATION_ID, CCD_ID, saved::add);
+        poller.shutdown();
+
+        assertThat(saved).containsExactly(pdf);
+        assertThat(poller.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldReportPendingLettersAndTheirAge() throws Exception {
+        LetterAsyncConfigProperties slow = new LetterAsyncConfigProperties();
+        slow.setInitialDelay(60000);
+        slow.setMaxAttempts(1);
+        slow.setPollerThreads(1);
+        poller.shutdown();
+        poller = new LetterPdfPoller(slow, saveExecutor, new SimpleMeterRegistry());
+
+        poller.submit(client, NOTIFICATION_ID, CCD_ID, saved::add);
+        Thread.sleep(20);
+
+        assertThat(poller.getPendingCount()).isEqualTo(1);
+        assertThat(poller.getOldestPendingSeconds()).isPositive();
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.sscs.tyanotifications.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(4, 10, 1000, 1000, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldSendToEveryRecipientInParallel() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Runnable send = () -> {
+            threads.add(Thread.currentThread().getName());
+            allStarted.countDown();
+            awaitQuietly(allStarted);
+        };
+
+        dispatcher.dispatchAll(List.of(send, send, send));
+
+        assertThat(allStarted.getCount()).isZero();
+        assertThat(threads).hasSize(3);
+    }
+
+    @Test
+    void shouldFinishTheOtherSendsBeforeRethrowingAFailure() {
+        AtomicInteger sent = new AtomicInteger();
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second");
+
+        assertThatThrownBy(() -> dispatcher.dispatchAll(List.of(
+            () -> {
+                throw first;
+            },
+            sent::incrementAndGet,
+            () -> {
+                throw second;
+            },
+            sent::incrementAndGet)))
+            .isSameAs(first)
+            .hasSuppressedException(second);
+        assertThat(sent).hasValue(2);
+    }
+
+    @Test
+    void shouldRunASingleSendOnTheCallingThread() {
+        String caller = Thread.currentThread().getName();
+        String[] sender = new String[1];
+
+        dispatcher.dispatchAll(List.of(() -> sender[0] = Thread.currentThread().getName()));
+
+        assertThat(sender[0]).isEqualTo(caller);
+    }
+
+    @Test
+    void shouldThrottleSendsOverTheChannelRate() {
+        dispatcher.acquire(NotificationDispatcher.LETTER);
+        dispatcher.acquire(NotificationDispatcher.LETTER);
+        dispatcher.acquire("Unknown");
+
+        assertThat(meterRegistry.get(NotificationDispatcher.THROTTLED_COUNTER)
+            .tag("channel", NotificationDispatcher.LETTER).counter().count()).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -43,6 +43,8 @@ public class NotificationHandlerTest {
     @Mock
     private JobGroupGenerator jobGroupGenerator;
     @Mock
+    private NotificationDispatcher notificationDispatcher;
+    @Mock
     private NotificationWrapper notificationWrapper;
     @Mock
     private NotificationHandler.SendNotification sendNotification;
@@ -56,7 +58,7 @@ public class NotificationHandlerTest {
 
     @Before
     public void setUp() {
-        underTest = new NotificationHandler(outOfHoursCalculator, jobScheduler, jobGroupGenerator);
+        underTest = new NotificationHandler(outOfHoursCalculator, jobScheduler, jobGroupGenerator, notificationDispatcher);
 
         Logger logger = (Logger) LoggerFactory.getLogger(NotificationHandler.class.getName());
         logger.addAppender(mockAppender);
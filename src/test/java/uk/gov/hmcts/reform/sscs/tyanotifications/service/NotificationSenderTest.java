@@ -206,7 +206,7 @@ public class NotificationSenderTest {
         verifyNoInteractions(testNotificationClient);
         verify(notificationClient).sendPrecompiledLetterWithInputStream(any(), any());
         verify(saveCorrespondenceAsyncService)
-                .saveLetter(eq(notificationClient), anyString(), any(Correspondence.class), eq(CASE_D));
+                .saveLetterWhenReady(eq(notificationClient), anyString(), any(Correspondence.class), eq(CASE_D));
     }
 
     @Test
@@ -250,7 +250,7 @@ public class NotificationSenderTest {
 
         verifyNoInteractions(testNotificationClient);
         verify(notificationClient).sendLetter(any(), any(), any());
-        verify(saveCorrespondenceAsyncService).saveLetter(eq(notificationClient), anyString(), any(Correspondence.class), eq(CASE_D));
+        verify(saveCorrespondenceAsyncService).saveLetterWhenReady(eq(notificationClient), anyString(), any(Correspondence.class), eq(CASE_D));
     }
 
     @Test
@@ -8,6 +8,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.any;
@@ -16,6 +17,7 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -63,6 +65,8 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -189,6 +193,8 @@ public class NotificationServiceTest {
     private NotificationValidService notificationValidService;
     @Mock
     private NotificationHandler notificationHandler;
+    private final NotificationDispatcher notificationDispatcher = spy(new NotificationDispatcher(
+        MoreExecutors.newDirectExecutorService(), 1000, 1000, 1000, new SimpleMeterRegistry()));
     @Mock
     private OutOfHoursCalculator outOfHoursCalculator;
     @Mock
@@ -632,6 +638,24 @@ public class NotificationServiceTest {
         verifyNoErrorsLogged(mockAppender, captorLoggingEvent);
     }
 
+    @Test
+    public void dispatchTheEmailAndSmsForASubscriptionAsSeparateSends() {
+        Notification notification = new Notification(
+            Template.builder().emailTemplateId("abc").smsTemplateId(List.of("123")).build(),
+            Destination.builder().email("test@testing.com").sms("07823456746").build(), new HashMap<>(), new Reference(), null);
+        when(notificationValidService.isNotificationStillValidToSend(any(), any())).thenReturn(true);
+        when(notificationValidService.isHearingTypeValidToSendNotification(any(), any())).thenReturn(true);
+
+        when(factory.create(ccdNotificationWrapper, getSubscriptionWithType(ccdNotificationWrapper))).thenReturn(notification);
+        notificationService.manageNotificationAndSubscription(ccdNotificationWrapper, false);
+
+        verify(notificationDispatcher).dispatchAll(argThat(sends -> sends.size() == 2));
+        verify(notificationHandler, times(1)).sendNotification(eq(ccdNotificationWrapper), eq("abc"), eq(EMAIL),
+            any(NotificationHandler.SendNotification.class));
+        verify(notificationHandler, times(1)).sendNotification(eq(ccdNotificationWrapper), eq("123"), eq(SMS),
+            any(NotificationHandler.SendNotification.class));
+    }
+
     @Test
     public void doNotSendEmailToGovNotifyWhenNotificationIsNotAnEmail() throws Exception {
         Notification notification = new Notification(
@@ -1071,7 +1095,7 @@ public class NotificationServiceTest {
 
         notificationService = new NotificationService(factory, reminderService,
             notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService,
-            false, false
+            false, false, notificationDispatcher
         );
 
         notificationService.manageNotificationAndSubscription(ccdNotificationWrapper, false);
@@ -1245,7 +1269,7 @@ public class NotificationServiceTest {
 
         notificationService = new NotificationService(factory, reminderService,
             notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService,
-            true, false
+            true, false, notificationDispatcher
         );
 
         notificationService.manageNotificationAndSubscription(ccdNotificationWrapper, false);
@@ -2683,7 +2707,7 @@ public class NotificationServiceTest {
             notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService cmConfidentialityService = new NotificationService(
             factory, reminderService, notificationValidService, notificationHandler,
-            outOfHoursCalculator, notificationConfig, sendNotificationService, false, true);
+            outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher);
 
         final SscsCaseData.SscsCaseDataBuilder baseBuilder = getSscsCaseDataBuilder(
             APPELLANT_WITH_ADDRESS, null,
@@ -2715,7 +2739,7 @@ public class NotificationServiceTest {
     public void givenCmConfidentialityEnabledAndOtherPartiesUnchangedById_thenDoNotTriggerOtherPartyAddedToAppeal() throws IOException {
         final SendNotificationService sendNotificationService = new SendNotificationService(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService cmConfidentialityService = new NotificationService(factory, reminderService,
-            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true);
+            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher);
 
         ccdNotificationWrapper = buildBaseWrapperOtherParty(UPDATE_OTHER_PARTY_DATA, APPELLANT_WITH_ADDRESS, SscsDocument.builder().value(SscsDocumentDetails.builder().build()).build());
 
@@ -2734,7 +2758,7 @@ public class NotificationServiceTest {
     public void givenCmConfidentialityEnabledAndUpdateOtherPartyDataWithSingleOtherParty_thenDoNotTriggerOtherPartyAddedToAppeal() throws IOException {
         final SendNotificationService sendNotificationService = new SendNotificationService(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService cmConfidentialityService = new NotificationService(factory, reminderService,
-            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true);
+            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher);
 
         final OtherParty singleOtherParty = OtherParty.builder()
                                                       .id("1")
@@ -2780,7 +2804,7 @@ public class NotificationServiceTest {
     public void givenCmConfidentialityEnabledAndUpdateOtherPartyDataWithNoOtherParties_thenDoNotTriggerOtherPartyAddedToAppeal() {
         final SendNotificationService sendNotificationService = new SendNotificationService(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService cmConfidentialityService = new NotificationService(factory, reminderService,
-            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true);
+            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher);
 
         final SscsCaseData sscsCaseDataNoOtherParties = getSscsCaseDataBuilder(APPELLANT_WITH_ADDRESS, null, SscsDocument.builder().value(SscsDocumentDetails.builder().build()).build())
             .otherParties(null)
@@ -3039,7 +3063,7 @@ public class NotificationServiceTest {
 
         final SendNotificationService sendNotificationService = new SendNotificationService(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService serviceWithCmEnabled = new NotificationService(factory, reminderService,
-            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true
+            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher
         );
 
         serviceWithCmEnabled.manageNotificationAndSubscription(wrapper, false);
@@ -3091,7 +3115,7 @@ public class NotificationServiceTest {
 
         final NotificationService service = new NotificationService(
             factory, reminderService, notificationValidService, notificationHandler,
-            outOfHoursCalculator, notificationConfig, sendNotificationService, false, cmFeatureEnabled
+            outOfHoursCalculator, notificationConfig, sendNotificationService, false, cmFeatureEnabled, notificationDispatcher
         );
 
         service.manageNotificationAndSubscription(wrapper, false);
@@ -3122,7 +3146,7 @@ public class NotificationServiceTest {
 
         final SendNotificationService sendNotificationService = new SendNotificationService(notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService serviceWithCmEnabled = new NotificationService(factory, reminderService,
-            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true
+            notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher
         );
 
         serviceWithCmEnabled.manageNotificationAndSubscription(wrapper, false);
@@ -3174,7 +3198,7 @@ public class NotificationServiceTest {
 
         final NotificationService service = new NotificationService(
             factory, reminderService, notificationValidService, notificationHandler,
-            outOfHoursCalculator, notificationConfig, sendNotificationService, false, cmFeatureEnabled
+            outOfHoursCalculator, notificationConfig, sendNotificationService, false, cmFeatureEnabled, notificationDispatcher
         );
 
         service.manageNotificationAndSubscription(wrapper, false);
@@ -3200,7 +3224,7 @@ public class NotificationServiceTest {
             notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService service = new NotificationService(
             factory, reminderService, notificationValidService, notificationHandler,
-            outOfHoursCalculator, notificationConfig, sendNotificationService, false, cmEnabled
+            outOfHoursCalculator, notificationConfig, sendNotificationService, false, cmEnabled, notificationDispatcher
         );
 
         service.manageNotificationAndSubscription(wrapper, false);
@@ -3239,7 +3263,7 @@ public class NotificationServiceTest {
             notificationSender, notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         final NotificationService service = new NotificationService(
             factory, reminderService, notificationValidService, notificationHandler,
-            outOfHoursCalculator, notificationConfig, sendNotificationService, false, true
+            outOfHoursCalculator, notificationConfig, sendNotificationService, false, true, notificationDispatcher
         );
 
         service.manageNotificationAndSubscription(wrapper, false);
@@ -3282,7 +3306,7 @@ public class NotificationServiceTest {
             notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         return new NotificationService(factory, reminderService,
             notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService,
-            false, true
+            false, true, notificationDispatcher
         );
     }
 
@@ -3328,7 +3352,7 @@ public class NotificationServiceTest {
             notificationHandler, notificationValidService, pdfLetterService, pdfStoreService);
         return new NotificationService(factory, reminderService,
             notificationValidService, notificationHandler, outOfHoursCalculator, notificationConfig, sendNotificationService,
-            false, false
+            false, false, notificationDispatcher
         );
     }
 
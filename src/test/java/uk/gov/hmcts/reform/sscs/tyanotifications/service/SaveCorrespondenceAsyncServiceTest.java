@@ -1,17 +1,30 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.sscs.ccd.domain.Correspondence;
@@ -20,6 +33,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.CorrespondenceType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.model.LetterType;
 import uk.gov.hmcts.reform.sscs.service.CcdNotificationsPdfService;
+import uk.gov.hmcts.reform.sscs.tyanotifications.config.LetterAsyncConfigProperties;
 import uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
@@ -30,6 +44,7 @@ public class SaveCorrespondenceAsyncServiceTest {
     private static final String CCD_ID = "82828";
 
     private SaveCorrespondenceAsyncService service;
+    private LetterPdfPoller poller;
     private Correspondence correspondence;
 
     @Mock
@@ -38,42 +53,71 @@ public class SaveCorrespondenceAsyncServiceTest {
     @Mock
     private NotificationClient notificationClient;
 
+    @Mock
+    private LetterPdfPoller letterPdfPoller;
+
+    @Captor
+    private ArgumentCaptor<Consumer<byte[]>> onReadyCaptor;
+
     @BeforeEach
     public void setup() {
-        service = new SaveCorrespondenceAsyncService(ccdNotificationsPdfService);
+        LetterAsyncConfigProperties properties = new LetterAsyncConfigProperties();
+        properties.setInitialDelay(10);
+        properties.setDelay(10);
+        properties.setMultiplier(2);
+        properties.setMaxDelay(40);
+        properties.setMaxAttempts(3);
+        properties.setPollerThreads(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        poller = new LetterPdfPoller(properties, Runnable::run, meterRegistry);
+        service = new SaveCorrespondenceAsyncService(ccdNotificationsPdfService,
+                new CorrespondenceAccumulator(ccdNotificationsPdfService, 0, 20, 3, 0, meterRegistry), poller);
         correspondence =
                 Correspondence.builder().value(CorrespondenceDetails.builder().to("Mr Blobby").build()).build();
     }
 
+    @AfterEach
+    public void tearDown() {
+        poller.shutdown();
+    }
+
     @Test
     public void willGetLetterFromNotifyAndUploadIntoCcd() throws NotificationClientException {
         byte[] bytes = "%PDF bytes".getBytes();
+        List<Correspondence> stored = List.of(correspondence);
         when(notificationClient.getPdfForLetter(eq(NOTIFICATION_ID))).thenReturn(bytes);
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(bytes, correspondence)).thenReturn(stored);
 
-        service.saveLetter(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
+        service.saveLetterWhenReady(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
 
-        verify(notificationClient).getPdfForLetter(eq(NOTIFICATION_ID));
-        verify(ccdNotificationsPdfService)
-                .mergeLetterCorrespondenceIntoCcdV2(any(), eq(Long.valueOf(CCD_ID)), eq(correspondence));
+        verify(ccdNotificationsPdfService, timeout(2000))
+                .mergeStoredCorrespondenceIntoCcdV2(Long.valueOf(CCD_ID), stored, "Notification sent via Gov Notify");
     }
 
     @Test
     public void willSaveSentLetterToCaseUploadsPdf() {
         byte[] bytes = "%PDF bytes".getBytes();
+        List<Correspondence> stored = List.of(correspondence);
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(bytes, correspondence)).thenReturn(stored);
 
         service.saveLetter(bytes, correspondence, CCD_ID);
 
         verify(ccdNotificationsPdfService)
-                .mergeLetterCorrespondenceIntoCcdV2(eq(bytes), eq(Long.valueOf(CCD_ID)), eq(correspondence), eq("Bulk Print"));
+                .mergeStoredCorrespondenceIntoCcdV2(Long.valueOf(CCD_ID), stored, "Notification sent via Bulk Print");
+        verify(ccdNotificationsPdfService, never()).mergeLetterCorrespondenceIntoCcdV2(any(), any(), any(), any());
     }
 
     @ParameterizedTest
     @ValueSource(strings = {"400 PDFNotReadyError", "400 BadRequestError"})
-    public void notificationClientExceptionIsReThrown(String message) throws NotificationClientException {
+    public void willGiveUpOnALetterNotifyCannotRender(String message) throws NotificationClientException {
         when(notificationClient.getPdfForLetter(eq(NOTIFICATION_ID)))
                 .thenThrow(new NotificationClientException(message));
-        assertThrows(NotificationClientException.class,
-            () -> service.saveLetter(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID));
+
+        service.saveLetterWhenReady(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
+
+        verify(notificationClient, timeout(2000).times(3)).getPdfForLetter(eq(NOTIFICATION_ID));
+        await().atMost(Duration.ofSeconds(2)).until(() -> poller.getPendingCount() == 0);
+        verifyNoInteractions(ccdNotificationsPdfService);
     }
 
     @Test
@@ -99,8 +143,61 @@ public class SaveCorrespondenceAsyncServiceTest {
                 .correspondenceType(CorrespondenceType.Email).to("Mr Blobby").build())
                 .build();
 
+        List<Correspondence> stored = List.of(correspondence);
+        when(ccdNotificationsPdfService.storeCorrespondence(correspondence)).thenReturn(stored);
+
         service.saveEmailOrSms(correspondence, sscsCaseData);
 
-        verify(ccdNotificationsPdfService).mergeCorrespondenceIntoCcdV2(any(Long.class), eq(correspondence));
+        verify(ccdNotificationsPdfService)
+                .mergeStoredCorrespondenceIntoCcdV2(Long.valueOf(CCD_ID), stored, "Notification sent via Gov Notify");
+        verify(ccdNotificationsPdfService, never()).mergeCorrespondenceIntoCcdV2(any(), any());
+    }
+
+    @Test
+    public void willThrowSaveFailuresBackForRetry() {
+        SscsCaseData sscsCaseData = SscsCaseData.builder().ccdCaseId(CCD_ID).build();
+        List<Correspondence> stored = List.of(correspondence);
+        when(ccdNotificationsPdfService.storeCorrespondence(correspondence)).thenReturn(stored);
+        doThrow(new IllegalStateException("boom")).when(ccdNotificationsPdfService)
+                .mergeStoredCorrespondenceIntoCcdV2(any(), any(), any());
+
+        assertThrows(IllegalStateException.class, () -> service.saveEmailOrSms(correspondence, sscsCaseData));
+    }
+
+    @Test
+    public void willHandLetterToThePollerWithoutFetchingItsPdf() throws NotificationClientException {
+        service = new SaveCorrespondenceAsyncService(ccdNotificationsPdfService,
+                new CorrespondenceAccumulator(ccdNotificationsPdfService, 0, 20, 3, 0, new SimpleMeterRegistry()),
+                letterPdfPoller);
+        byte[] bytes = "%PDF bytes".getBytes();
+        List<Correspondence> stored = List.of(correspondence);
+
+        service.saveLetterWhenReady(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
+
+        verify(letterPdfPoller).submit(eq(notificationClient), eq(NOTIFICATION_ID), eq(CCD_ID), onReadyCaptor.capture());
+        verifyNoInteractions(notificationClient, ccdNotificationsPdfService);
+
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(bytes, correspondence)).thenReturn(stored);
+        onReadyCaptor.getValue().accept(bytes);
+
+        verify(ccdNotificationsPdfService)
+                .mergeStoredCorrespondenceIntoCcdV2(Long.valueOf(CCD_ID), stored, "Notification sent via Gov Notify");
+    }
+
+    @Test
+    public void willStoreALetterOnceWhenAddingItToTheCaseIsTriedAgain() throws NotificationClientException {
+        byte[] bytes = "%PDF bytes".getBytes();
+        List<Correspondence> stored = List.of(correspondence);
+        when(notificationClient.getPdfForLetter(eq(NOTIFICATION_ID))).thenReturn(bytes);
+        when(ccdNotificationsPdfService.storeLetterCorrespondence(bytes, correspondence)).thenReturn(stored);
+        doThrow(new IllegalStateException("ccd unavailable")).doNothing().when(ccdNotificationsPdfService)
+                .mergeStoredCorrespondenceIntoCcdV2(Long.valueOf(CCD_ID), stored, "Notification sent via Gov Notify");
+
+        service.saveLetterWhenReady(notificationClient, NOTIFICATION_ID, correspondence, CCD_ID);
+
+        verify(ccdNotificationsPdfService, timeout(2000).times(2))
+                .mergeStoredCorrespondenceIntoCcdV2(Long.valueOf(CCD_ID), stored, "Notification sent via Gov Notify");
+        verify(ccdNotificationsPdfService, times(1)).storeLetterCorrespondence(bytes, correspondence);
+        verify(notificationClient, times(1)).getPdfForLetter(NOTIFICATION_ID);
     }
 }
@@ -1,11 +1,14 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -16,12 +19,14 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.State.READY_TO_LIST;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.State.VALID_APPEAL;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.AppConstants.REP_SALUTATION;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.NotificationEventTypeLists.EVENT_TYPES_FOR_BUNDLED_LETTER;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.config.PersonalisationMappingConstants.ADDRESS_LINE_1;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType.APPELLANT;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType.APPOINTEE;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType.JOINT_PARTY;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.config.SubscriptionType.REPRESENTATIVE;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.APPEAL_RECEIVED;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.CASE_UPDATED;
+import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.DWP_RESPONSE_RECEIVED;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.ISSUE_FINAL_DECISION;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.STRUCK_OUT;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.service.LetterUtils.getAddressToUseForLetter;
@@ -34,11 +39,18 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Before;
@@ -82,6 +94,7 @@ import uk.gov.hmcts.reform.sscs.tyanotifications.domain.SubscriptionWithType;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Destination;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notification;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType;
+import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Reference;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Template;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.CcdNotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
@@ -310,6 +323,60 @@ public class SendNotificationServiceTest {
         verifyNoErrorsLogged(mockAppender, captorLoggingEvent);
     }
 
+    @Test
+    public void channelSendsOnSeparateThreadsKeepTheLetterAddressOutOfTheEmailAndSms() throws Exception {
+        CcdNotificationWrapper wrapper = buildBaseWrapper(APPELLANT_WITH_ADDRESS, DWP_RESPONSE_RECEIVED, READY_TO_LIST.getId());
+        Subscription subscription = Subscription.builder().email("test@some.com").subscribeEmail(YES)
+            .mobile("07831292000").subscribeSms(YES).wantSmsNotifications(YES).build();
+        SubscriptionWithType subscriptionWithType = new SubscriptionWithType(subscription, APPELLANT,
+            wrapper.getNewSscsCaseData().getAppeal().getAppellant(), wrapper.getNewSscsCaseData().getAppeal().getAppellant());
+        Notification notification = Notification.builder()
+            .destination(Destination.builder().email("test@some.com").sms("07831292000").build())
+            .template(Template.builder().emailTemplateId("someEmailTemplateId").smsTemplateId(List.of("someSmsTemplateId"))
+                .letterTemplateId("someLetterTemplateId").build())
+            .placeholders(new HashMap<>(Map.of("appeal_ref", CASE_REFERENCE)))
+            .reference(new Reference())
+            .build();
+        when(notificationValidService.isNotificationStillValidToSend(any(), any())).thenReturn(true);
+        when(notificationValidService.isHearingTypeValidToSendNotification(any(), any())).thenReturn(true);
+        when(notificationHandler.sendNotification(any(), any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<NotificationHandler.SendNotification>getArgument(3).send();
+            return true;
+        });
+
+        // every channel waits for the others before reading its placeholders, so all three are sending at once
+        CountDownLatch allSending = new CountDownLatch(3);
+        Map<String, Map<String, Object>> sentPlaceholders = new ConcurrentHashMap<>();
+        doAnswer(invocation -> recordPlaceholders(allSending, sentPlaceholders, "email", invocation.getArgument(2)))
+            .when(notificationSender).sendEmail(any(), any(), any(), any(), any(), any());
+        doAnswer(invocation -> recordPlaceholders(allSending, sentPlaceholders, "sms", invocation.getArgument(2)))
+            .when(notificationSender).sendSms(any(), any(), any(), any(), any(), any(), any());
+        doAnswer(invocation -> recordPlaceholders(allSending, sentPlaceholders, "letter", invocation.getArgument(2)))
+            .when(notificationSender).sendLetter(any(), any(), any(), any(), any(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            NotificationDispatcher dispatcher = new NotificationDispatcher(executor, 1000, 1000, 1000, new SimpleMeterRegistry());
+            dispatcher.dispatchAll(classUnderTest.channelSends(wrapper, notification, subscriptionWithType, DWP_RESPONSE_RECEIVED)
+                .stream().<Runnable>map(send -> send::getAsBoolean).toList());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("Ap pellant", sentPlaceholders.get("letter").get(ADDRESS_LINE_1));
+        assertFalse(sentPlaceholders.get("email").containsKey(ADDRESS_LINE_1));
+        assertFalse(sentPlaceholders.get("sms").containsKey(ADDRESS_LINE_1));
+        assertEquals(Map.of("appeal_ref", CASE_REFERENCE), notification.getPlaceholders());
+    }
+
+    private static Object recordPlaceholders(CountDownLatch allSending, Map<String, Map<String, Object>> sentPlaceholders,
+                                             String channel, Map<String, Object> placeholders) throws InterruptedException {
+        allSending.countDown();
+        assertTrue(allSending.await(5, TimeUnit.SECONDS));
+        sentPlaceholders.put(channel, new HashMap<>(placeholders));
+        return null;
+    }
+
     @Test
     public void doNotSendLetterNotificationIfAddressEmpty() throws NotificationClientException {
         SubscriptionWithType appellantEmptySubscription = new SubscriptionWithType(EMPTY_SUBSCRIPTION,
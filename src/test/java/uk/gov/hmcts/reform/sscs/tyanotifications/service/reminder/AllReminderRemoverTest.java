@@ -97,8 +97,7 @@ public class AllReminderRemoverTest {
 
         allReminderRemover.handle(wrapper);
 
-        verify(jobRemover, times(1)).removeGroup(expectedHearingJobGroup);
-        verify(jobRemover, times(1)).removeGroup(expectedEvidenceJobGroup);
+        verify(jobRemover, times(1)).removeGroups(List.of(expectedHearingJobGroup, expectedEvidenceJobGroup));
     }
 
     @Test
@@ -122,8 +121,7 @@ public class AllReminderRemoverTest {
 
         allReminderRemover.handle(wrapper);
 
-        verify(jobRemover, times(1)).removeGroup(expectedHearingJobGroup);
-        verify(jobRemover, times(1)).removeGroup(expectedEvidenceJobGroup);
+        verify(jobRemover, times(1)).removeGroups(List.of(expectedHearingJobGroup, expectedEvidenceJobGroup));
     }
 
     @Test
@@ -145,12 +143,12 @@ public class AllReminderRemoverTest {
 
         doThrow(JobNotFoundException.class)
             .when(jobRemover)
-            .removeGroup(expectedJobGroup);
+            .removeGroups(List.of(expectedJobGroup, expectedJobGroup));
 
         allReminderRemover.handle(wrapper);
 
-        verify(jobRemover, times(2)).removeGroup(
-            expectedJobGroup
+        verify(jobRemover, times(1)).removeGroups(
+            List.of(expectedJobGroup, expectedJobGroup)
         );
     }
 
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,6 +13,7 @@ import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.Notificati
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.HEARING_REMINDER;
 
 import com.google.common.collect.Lists;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -102,19 +105,22 @@ public class HearingReminderTest {
 
         hearingReminder.handle(wrapper);
 
-        ArgumentCaptor<Job> jobCaptor = ArgumentCaptor.forClass(Job.class);
+        ArgumentCaptor<List<Job<String>>> jobsCaptor = ArgumentCaptor.forClass(List.class);
 
-        verify(jobScheduler, times(2)).schedule(
-            jobCaptor.capture()
+        verify(jobScheduler, times(1)).scheduleAll(
+            jobsCaptor.capture()
         );
 
-        Job<String> firstJob = jobCaptor.getAllValues().get(0);
+        List<Job<String>> jobs = jobsCaptor.getValue();
+        assertEquals(2, jobs.size());
+
+        Job<String> firstJob = jobs.get(0);
         assertEquals(expectedJobGroup, firstJob.group);
         assertEquals(HEARING_REMINDER.getId(), firstJob.name);
         assertEquals(SscsCaseDataUtils.CASE_ID, firstJob.payload);
         assertEquals(expectedFirstTriggerAt, firstJob.triggerAt.toString());
 
-        Job<String> secondJob = jobCaptor.getAllValues().get(1);
+        Job<String> secondJob = jobs.get(1);
         assertEquals(expectedJobGroup, secondJob.group);
         assertEquals(HEARING_REMINDER.getId(), secondJob.name);
         assertEquals(SscsCaseDataUtils.CASE_ID, secondJob.payload);
@@ -149,6 +155,7 @@ public class HearingReminderTest {
         );
 
         assertTrue(jobCaptor.getAllValues().isEmpty());
+        verify(jobScheduler, never()).scheduleAll(any());
     }
 
     @Test(expected = Exception.class)
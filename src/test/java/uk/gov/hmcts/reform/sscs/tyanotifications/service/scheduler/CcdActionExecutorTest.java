@@ -1,9 +1,7 @@
 package uk.gov.hmcts.reform.sscs.tyanotifications.service.scheduler;
 
-import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING;
-import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE;
-import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
@@ -14,9 +12,6 @@ import static org.mockito.MockitoAnnotations.openMocks;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.EVIDENCE_REMINDER;
 import static uk.gov.hmcts.reform.sscs.tyanotifications.domain.notify.NotificationEventType.SYA_APPEAL_CREATED;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.LocalDateTime;
 import java.util.function.Consumer;
 import junitparams.JUnitParamsRunner;
@@ -24,9 +19,8 @@ import junitparams.Parameters;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseDetails;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDeprecatedFields;
@@ -39,6 +33,7 @@ import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.tyanotifications.domain.NotificationSscsCaseDataWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.exception.NotificationServiceException;
+import uk.gov.hmcts.reform.sscs.tyanotifications.factory.NotificationWrapper;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.NotificationService;
 import uk.gov.hmcts.reform.sscs.tyanotifications.service.RetryNotificationService;
 import uk.gov.service.notify.NotificationClientException;
@@ -75,19 +70,7 @@ public class CcdActionExecutorTest {
     public void setup() {
         openMocks(this);
 
-        Jackson2ObjectMapperBuilder objectMapperBuilder =
-            new Jackson2ObjectMapperBuilder()
-                .featuresToEnable(READ_ENUMS_USING_TO_STRING)
-                .featuresToEnable(READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE)
-                .featuresToEnable(WRITE_ENUMS_USING_TO_STRING)
-                .serializationInclusion(JsonInclude.Include.NON_ABSENT);
-
-        final ObjectMapper mapper = objectMapperBuilder.createXmlMapper(false).build();
-        mapper.registerModule(new JavaTimeModule());
-
-        final SscsCaseCallbackDeserializer deserializer = new SscsCaseCallbackDeserializer(mapper);
-
-        ccdActionExecutor = new CcdActionExecutor(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService, deserializer);
+        ccdActionExecutor = new CcdActionExecutor(notificationService, retryNotificationService, ccdService, updateCcdCaseService, idamService);
 
         caseDetails = SscsCaseDetails.builder().id(456L).caseTypeId("123").state("appealCreated").build();
 
@@ -161,4 +144,18 @@ public class CcdActionExecutorTest {
         verify(ccdService, times(0)).updateCase(any(), eq(123456L), any(), any(), any(), any());
 
     }
+
+    @Test
+    public void shouldUseTheLoadedCaseWithItsIdAndState() {
+        caseDetails.getData().setCcdCaseId(null);
+        when(ccdService.getByCaseId(eq(123456L), eq(idamTokens))).thenReturn(caseDetails);
+
+        ccdActionExecutor.execute(JOB_ID, JOB_GROUP, SYA_APPEAL_CREATED.getId(), "123456");
+
+        ArgumentCaptor<NotificationWrapper> captor = ArgumentCaptor.forClass(NotificationWrapper.class);
+        verify(notificationService).manageNotificationAndSubscription(captor.capture(), eq(true));
+        assertSame(newSscsCaseData, captor.getValue().getNewSscsCaseData());
+        assertEquals("456", captor.getValue().getNewSscsCaseData().getCcdCaseId());
+        assertEquals(State.APPEAL_CREATED, captor.getValue().getSscsCaseDataWrapper().getState());
+    }
 }
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorsTest {
+
+    @Test
+    void shouldRunTasksOnTheCallingThreadWhenTheQueueIsFull() throws InterruptedException {
+        ExecutorService pool = BoundedExecutors.newBoundedPool("bounded-test", "boundedTest", 1, 1,
+            new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        try {
+            pool.execute(() -> await(release));
+            pool.execute(() -> await(release));
+
+            pool.execute(() -> ranOn.set(Thread.currentThread().getName()));
+
+            assertThat(ranOn.get()).isEqualTo(Thread.currentThread().getName());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void shouldRejectTasksOnceShutDown() {
+        ExecutorService pool = BoundedExecutors.newBoundedPool("bounded-test", "boundedTest", 1, 1,
+            new SimpleMeterRegistry());
+        pool.shutdown();
+
+        assertThatThrownBy(() -> pool.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}